@@ -0,0 +1,119 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Minimal microbenchmark harness for the simulation hot paths.
+ *
+ * Follows the JMH model without the dependency: each iteration gets a freshly
+ * built fixture (like @Setup(Level.Iteration)), runs the operation a fixed number
+ * of times and records the average time per operation. Warmup iterations are
+ * thrown away so the JIT has compiled the code before anything is measured.
+ * Operations should hand their result to consume() so the JIT cannot drop the work.
+ */
+public final class Microbenchmark {
+
+    private static volatile Object sink;
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+
+    public Microbenchmark(int warmupIterations, int measurementIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+    }
+
+    /**
+     * Keeps a benchmark result alive, the equivalent of JMH's Blackhole
+     */
+    public static void consume(Object value) {
+        sink = value;
+    }
+
+    /**
+     * Measures one benchmark at one parameter combination
+     * @param name Benchmark name, e.g. "EnemyManager.update"
+     * @param params Human readable parameters, e.g. "enemies=100 map=32x18"
+     * @param fixture Builds fresh state for an iteration and returns the operation to time
+     * @param opsPerIteration How many times the operation runs per iteration
+     */
+    public Result run(String name, String params, Supplier<Runnable> fixture, int opsPerIteration) {
+        for (int i = 0; i < warmupIterations; i++) {
+            measureIteration(fixture, opsPerIteration);
+        }
+
+        double[] samples = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            samples[i] = measureIteration(fixture, opsPerIteration);
+        }
+        return new Result(name, params, samples);
+    }
+
+    private static double measureIteration(Supplier<Runnable> fixture, int opsPerIteration) {
+        Runnable operation = fixture.get();
+        long start = System.nanoTime();
+        for (int op = 0; op < opsPerIteration; op++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / (double) opsPerIteration;
+    }
+
+    /**
+     * Nanoseconds per operation over the measured iterations
+     */
+    public static class Result {
+        private final String name;
+        private final String params;
+        private final double mean;
+        private final double stdDev;
+        private final double min;
+        private final double median;
+        private final double max;
+
+        Result(String name, String params, double[] samples) {
+            this.name = name;
+            this.params = params;
+
+            double[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            double sum = 0;
+            for (double sample : sorted) sum += sample;
+            this.mean = sum / sorted.length;
+            double squares = 0;
+            for (double sample : sorted) squares += (sample - mean) * (sample - mean);
+            this.stdDev = sorted.length > 1 ? Math.sqrt(squares / (sorted.length - 1)) : 0;
+            this.min = sorted[0];
+            this.median = sorted[sorted.length / 2];
+            this.max = sorted[sorted.length - 1];
+        }
+
+        public String getName() { return name; }
+        public String getParams() { return params; }
+        public double getMean() { return mean; }
+        public double getStdDev() { return stdDev; }
+        public double getMin() { return min; }
+        public double getMedian() { return median; }
+        public double getMax() { return max; }
+
+        public static String tableHeader() {
+            return String.format(Locale.ROOT, "%-34s %-28s %14s %12s %14s %14s",
+                    "Benchmark", "Params", "ns/op", "+/-", "min", "max");
+        }
+
+        public String toTableRow() {
+            return String.format(Locale.ROOT, "%-34s %-28s %14.1f %12.1f %14.1f %14.1f",
+                    name, params, mean, stdDev, min, max);
+        }
+
+        public static String csvHeader() {
+            return "benchmark,params,mean_ns,stddev_ns,min_ns,median_ns,max_ns";
+        }
+
+        public String toCsvRow() {
+            return String.format(Locale.ROOT, "%s,%s,%.1f,%.1f,%.1f,%.1f,%.1f",
+                    name, params, mean, stdDev, min, median, max);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import constants.Constants;
+import constants.GameDimensions;
+import controllers.PlayingController;
+import enemies.Enemy;
+import managers.EnemyManager;
+import managers.TowerManager;
+import managers.WeatherManager;
+import models.PlayingModel;
+import pathfinding.TileConnectivity;
+import views.FrameProfiler;
+import views.PlayingView;
+
+/**
+ * Offscreen rendering benchmark for the Playing scene.
+ *
+ * Builds a real PlayingController on the default level, puts the model into a
+ * synthetic state (enemy and tower counts, day or night, weather, snow tileset)
+ * and renders PlayingView.render into a BufferedImage many times. A FrameProfiler
+ * attached to the view attributes every frame to its layers (tiles, towers,
+ * enemies, projectiles, weather, night overlay, effects, UI), and the report lists
+ * mean, percentiles and max per layer for each scenario.
+ *
+ * The state is frozen while rendering, so the numbers are pure drawing cost.
+ *
+ * Usage: java benchmark.RenderingBenchmark [frames=600] [warmup=120] [histograms=true]
+ */
+public class RenderingBenchmark {
+
+    private static final int GRASS_TILE = 5;
+    private static final long SEED = 42L;
+    private static final int[] ENEMY_MIX = {
+            Constants.Enemies.GOBLIN, Constants.Enemies.KNIGHT, Constants.Enemies.TROLL,
+            Constants.Enemies.BARREL, Constants.Enemies.TNT
+    };
+
+    /**
+     * One synthetic game state to render
+     */
+    static class Scenario {
+        final String name;
+        final int enemies;
+        final int towers;
+        final boolean night;
+        final WeatherManager.WeatherType weather;
+        final boolean fullSnow;
+
+        Scenario(String name, int enemies, int towers, boolean night, WeatherManager.WeatherType weather, boolean fullSnow) {
+            this.name = name;
+            this.enemies = enemies;
+            this.towers = towers;
+            this.night = night;
+            this.weather = weather;
+            this.fullSnow = fullSnow;
+        }
+    }
+
+    private static List<Scenario> defaultScenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int enemies : new int[] {10, 100, 500}) {
+            scenarios.add(new Scenario("day clear", enemies, 20, false, WeatherManager.WeatherType.CLEAR, false));
+            scenarios.add(new Scenario("night clear", enemies, 20, true, WeatherManager.WeatherType.CLEAR, false));
+            scenarios.add(new Scenario("day rain", enemies, 20, false, WeatherManager.WeatherType.RAINY, false));
+            scenarios.add(new Scenario("day snow-transition", enemies, 20, false, WeatherManager.WeatherType.SNOWY, false));
+            scenarios.add(new Scenario("night full-snow", enemies, 20, true, WeatherManager.WeatherType.SNOWY, true));
+        }
+        return scenarios;
+    }
+
+    /**
+     * Renders one scenario and returns the profile of the measured frames
+     */
+    static FrameProfiler runScenario(Scenario scenario, int warmupFrames, int measuredFrames) {
+        PlayingController controller = new PlayingController(null);
+        PlayingModel model = controller.getModel();
+        PlayingView view = controller.getView();
+        Random random = new Random(SEED);
+
+        applyWeather(model, scenario);
+        buildTowers(model, scenario.towers, random);
+        spawnEnemies(model, scenario.enemies, random);
+
+        BufferedImage frame = new BufferedImage(GameDimensions.GAME_WIDTH, GameDimensions.GAME_HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+        FrameProfiler profiler = new FrameProfiler();
+        view.setFrameProfiler(profiler);
+
+        for (int i = 0; i < warmupFrames + measuredFrames; i++) {
+            if (i == warmupFrames) profiler.reset();
+            Graphics2D g = frame.createGraphics();
+            try {
+                view.render(g);
+            } finally {
+                g.dispose();
+            }
+        }
+        return profiler;
+    }
+
+    private static void applyWeather(PlayingModel model, Scenario scenario) {
+        Map<String, Object> weatherState = new HashMap<>();
+        weatherState.put("currentWeather", scenario.weather.name());
+        // Middle of the night or middle of the day, see WeatherManager's day/night durations
+        weatherState.put("dayTime", scenario.night ? 37.5f : 10.0f);
+        weatherState.put("nightIntensity", scenario.night ? 0.8f : 0.0f);
+        weatherState.put("lastNightState", scenario.night);
+        model.getWeatherManager().restoreWeatherState(weatherState);
+        model.getWeatherManager().stopAllWeatherSounds();
+
+        if (scenario.weather == WeatherManager.WeatherType.SNOWY && model.getTileManager() != null) {
+            model.getTileManager().updateSnowTransition(0f, true);
+            if (scenario.fullSnow) {
+                // Long enough to finish the medium snow phase
+                model.getTileManager().updateSnowTransition(60f, true);
+            }
+        }
+    }
+
+    private static void buildTowers(PlayingModel model, int count, Random random) {
+        List<int[]> grassTiles = findTiles(model.getLevel(), false);
+        TowerManager towerManager = model.getTowerManager();
+        int tileSize = GameDimensions.TILE_DISPLAY_SIZE;
+        for (int i = 0; i < count && !grassTiles.isEmpty(); i++) {
+            int[] tile = grassTiles.remove(random.nextInt(grassTiles.size()));
+            int x = tile[0] * tileSize;
+            int y = tile[1] * tileSize;
+            switch (i % 4) {
+                case 0: towerManager.buildArcherTower(x, y); break;
+                case 1: towerManager.buildMageTower(x, y); break;
+                case 2: towerManager.buildArtilerryTower(x, y); break;
+                default: towerManager.buildPoisonTower(x, y); break;
+            }
+        }
+    }
+
+    private static void spawnEnemies(PlayingModel model, int count, Random random) {
+        List<int[]> roadTiles = findTiles(model.getLevel(), true);
+        if (roadTiles.isEmpty()) return;
+
+        EnemyManager enemyManager = model.getEnemyManager();
+        for (int i = 0; i < count; i++) {
+            enemyManager.addEnemy(ENEMY_MIX[i % ENEMY_MIX.length]);
+        }
+
+        // Scatter them over the road so they are not all drawn on the spawn tile
+        int tileSize = GameDimensions.TILE_DISPLAY_SIZE;
+        for (Enemy enemy : enemyManager.getEnemies()) {
+            int[] tile = roadTiles.get(random.nextInt(roadTiles.size()));
+            enemy.setX(tile[0] * tileSize + random.nextInt(tileSize));
+            enemy.setY(tile[1] * tileSize + random.nextInt(tileSize));
+            enemy.storePreviousPosition();
+        }
+    }
+
+    private static List<int[]> findTiles(int[][] level, boolean road) {
+        List<int[]> tiles = new ArrayList<>();
+        for (int y = 0; y < level.length; y++) {
+            for (int x = 0; x < level[y].length; x++) {
+                boolean matches = road ? TileConnectivity.isRoadTile(level[y][x]) : level[y][x] == GRASS_TILE;
+                if (matches) tiles.add(new int[] {x, y});
+            }
+        }
+        return tiles;
+    }
+
+    public static void main(String[] args) {
+        int frames = 600;
+        int warmup = 120;
+        boolean histograms = false;
+        for (String arg : args) {
+            if (arg.startsWith("frames=")) frames = Integer.parseInt(arg.substring("frames=".length()));
+            else if (arg.startsWith("warmup=")) warmup = Integer.parseInt(arg.substring("warmup=".length()));
+            else if (arg.startsWith("histograms=")) histograms = Boolean.parseBoolean(arg.substring("histograms=".length()));
+            else {
+                System.out.println("Usage: RenderingBenchmark [frames=N] [warmup=N] [histograms=true]");
+                return;
+            }
+        }
+
+        PrintStream console = System.out;
+        for (Scenario scenario : defaultScenarios()) {
+            // Silence the per-spawn and per-manager logging while the scenario is set up and rendered
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            FrameProfiler profiler;
+            try {
+                profiler = runScenario(scenario, warmup, frames);
+            } finally {
+                System.setOut(console);
+            }
+
+            console.println(String.format(Locale.ROOT, "=== %s | enemies=%d towers=%d ===",
+                    scenario.name, scenario.enemies, scenario.towers));
+            profiler.printReport(console);
+            if (histograms) {
+                profiler.printHistogram(FrameProfiler.Layer.FRAME, console);
+            }
+            console.println();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import enemies.Enemy;
+import managers.EnemyManager;
+import managers.ProjectileManager;
+import managers.TowerManager;
+import models.PathValidator;
+import objects.Tower;
+import pathfinding.RoadNetworkPathfinder;
+import strategies.TargetingStrategy;
+import strategies.TargetingStrategyFactory;
+
+/**
+ * Benchmarks for the simulation hot paths, run over enemy counts and map sizes.
+ *
+ * Covered: EnemyManager.update (straight and circular-arc movement on a serpentine
+ * road), TowerManager.update targeting, ProjectileManager.update hit detection, every
+ * TargetingStrategy, RoadNetworkPathfinder.findPath and PathValidator.validatePath.
+ * Fixtures are seeded, so numbers are comparable between runs on the same machine;
+ * keep the JVM flags the same (e.g. -Xms1g -Xmx1g) when comparing before and after.
+ *
+ * Usage: java benchmark.SimulationBenchmarks [filter=EnemyManager] [warmup=5] [iterations=10] [csv=results.csv]
+ */
+public class SimulationBenchmarks {
+
+    private static final int[] ENEMY_COUNTS = {10, 100, 1000};
+    private static final int[][] MAP_SIZES = {{16, 9}, {32, 18}, {64, 36}};
+    private static final int TOWER_COUNT = 12;
+    private static final int TICKS_PER_ITERATION = 60; // One second of game time
+    private static final long SEED = 42L;
+
+    private final Microbenchmark harness;
+    private final String filter;
+    private final List<Microbenchmark.Result> results = new ArrayList<>();
+
+    public SimulationBenchmarks(Microbenchmark harness, String filter) {
+        this.harness = harness;
+        this.filter = filter;
+    }
+
+    public List<Microbenchmark.Result> runAll() {
+        for (int[] size : MAP_SIZES) {
+            for (int enemyCount : ENEMY_COUNTS) {
+                benchmarkEnemyUpdate(enemyCount, size[0], size[1]);
+                benchmarkTowerUpdate(enemyCount, size[0], size[1]);
+                benchmarkProjectileUpdate(enemyCount, size[0], size[1]);
+            }
+        }
+        for (int enemyCount : ENEMY_COUNTS) {
+            benchmarkTargetingStrategies(enemyCount);
+        }
+        for (int[] size : MAP_SIZES) {
+            benchmarkFindPath(size[0], size[1]);
+            benchmarkValidatePath(size[0], size[1]);
+        }
+        return results;
+    }
+
+    private void benchmarkEnemyUpdate(int enemyCount, int width, int height) {
+        run("EnemyManager.update", params(enemyCount, width, height), () -> {
+            SimulationFixture fixture = SimulationFixture.withSimulation(width, height, SEED);
+            fixture.spawnEnemies(enemyCount);
+            EnemyManager enemyManager = fixture.simulation.getModel().getEnemyManager();
+            return () -> enemyManager.update(1f);
+        }, TICKS_PER_ITERATION);
+    }
+
+    private void benchmarkTowerUpdate(int enemyCount, int width, int height) {
+        run("TowerManager.update", params(enemyCount, width, height), () -> {
+            SimulationFixture fixture = SimulationFixture.withSimulation(width, height, SEED);
+            fixture.spawnEnemies(enemyCount);
+            fixture.buildTowers(TOWER_COUNT);
+            TowerManager towerManager = fixture.simulation.getModel().getTowerManager();
+            return () -> towerManager.update(1f);
+        }, TICKS_PER_ITERATION);
+    }
+
+    private void benchmarkProjectileUpdate(int enemyCount, int width, int height) {
+        run("ProjectileManager.update", params(enemyCount, width, height), () -> {
+            SimulationFixture fixture = SimulationFixture.withSimulation(width, height, SEED);
+            List<Enemy> enemies = new ArrayList<>(fixture.spawnEnemies(enemyCount));
+            List<Tower> towers = fixture.buildTowers(TOWER_COUNT);
+            ProjectileManager projectileManager = fixture.simulation.getModel().getProjectileManager();
+            // One projectile in flight per enemy, fired by the towers in turn
+            for (int i = 0; i < enemies.size(); i++) {
+                projectileManager.newProjectile(towers.get(i % towers.size()), enemies.get(i));
+            }
+            return () -> projectileManager.update(1f);
+        }, TICKS_PER_ITERATION);
+    }
+
+    private void benchmarkTargetingStrategies(int enemyCount) {
+        SimulationFixture fixture = SimulationFixture.withSimulation(32, 18, SEED);
+        List<Enemy> enemies = new ArrayList<>(fixture.spawnEnemies(enemyCount));
+        Tower tower = fixture.buildTowers(1).get(0);
+
+        for (TargetingStrategyFactory.StrategyType type : TargetingStrategyFactory.StrategyType.values()) {
+            TargetingStrategy strategy = TargetingStrategyFactory.createStrategy(type);
+            run("TargetingStrategy." + type.name().toLowerCase(Locale.ROOT), "enemies=" + enemyCount,
+                    () -> () -> Microbenchmark.consume(strategy.selectTarget(enemies, tower)), 1000);
+        }
+    }
+
+    private void benchmarkFindPath(int width, int height) {
+        SimulationFixture fixture = SimulationFixture.mapOnly(width, height);
+        RoadNetworkPathfinder pathfinder = new RoadNetworkPathfinder(width, height);
+        pathfinder.buildGraph(fixture.level);
+        run("RoadNetworkPathfinder.findPath", "map=" + width + "x" + height,
+                () -> () -> Microbenchmark.consume(pathfinder.findPath(fixture.getStart(), fixture.getEnd())), 20);
+    }
+
+    private void benchmarkValidatePath(int width, int height) {
+        SimulationFixture fixture = SimulationFixture.mapOnly(width, height);
+        run("PathValidator.validatePath", "map=" + width + "x" + height,
+                () -> () -> Microbenchmark.consume(PathValidator.validatePath(fixture.level, fixture.overlay)), 20);
+    }
+
+    private void run(String name, String params, Supplier<Runnable> fixture, int opsPerIteration) {
+        if (filter != null && !name.contains(filter)) return;
+        results.add(harness.run(name, params, fixture, opsPerIteration));
+    }
+
+    private static String params(int enemyCount, int width, int height) {
+        return "enemies=" + enemyCount + " map=" + width + "x" + height;
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        String filter = null;
+        String csvPath = null;
+        int warmup = 5;
+        int iterations = 10;
+        for (String arg : args) {
+            if (arg.startsWith("filter=")) filter = arg.substring("filter=".length());
+            else if (arg.startsWith("warmup=")) warmup = Integer.parseInt(arg.substring("warmup=".length()));
+            else if (arg.startsWith("iterations=")) iterations = Integer.parseInt(arg.substring("iterations=".length()));
+            else if (arg.startsWith("csv=")) csvPath = arg.substring("csv=".length());
+            else {
+                System.out.println("Usage: SimulationBenchmarks [filter=name] [warmup=N] [iterations=N] [csv=file]");
+                return;
+            }
+        }
+
+        // The managers log every spawn, shot and path step; that would dominate the timings
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        List<Microbenchmark.Result> results;
+        try {
+            results = new SimulationBenchmarks(new Microbenchmark(warmup, iterations), filter).runAll();
+        } finally {
+            System.setOut(console);
+        }
+
+        console.println(Microbenchmark.Result.tableHeader());
+        for (Microbenchmark.Result result : results) {
+            console.println(result.toTableRow());
+        }
+
+        if (csvPath != null) {
+            List<String> lines = new ArrayList<>();
+            lines.add(Microbenchmark.Result.csvHeader());
+            for (Microbenchmark.Result result : results) {
+                lines.add(result.toCsvRow());
+            }
+            Files.write(Paths.get(csvPath), lines, StandardCharsets.UTF_8);
+            console.println("Results written to " + csvPath);
+        }
+    }
+}
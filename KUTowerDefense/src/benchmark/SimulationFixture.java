@@ -0,0 +1,159 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import config.GameOptions;
+import constants.Constants;
+import constants.GameDimensions;
+import enemies.Enemy;
+import managers.EnemyManager;
+import managers.TowerManager;
+import objects.GridPoint;
+import objects.Tower;
+import simulation.HeadlessSimulation;
+
+/**
+ * Synthetic game state for the benchmarks.
+ *
+ * The map is a serpentine road that fills a width x height grid: straight
+ * horizontal runs joined by corner tiles, so enemies exercise both straight and
+ * circular-arc movement and the path length grows with the map size. Enemies are
+ * spread evenly along the path and towers sit on the grass between the runs.
+ * Everything is built from a fixed seed, so two fixtures with the same
+ * parameters are identical.
+ */
+class SimulationFixture {
+
+    private static final int GRASS = 5;
+    private static final int ROAD_HORIZONTAL = 13;
+    private static final int ROAD_VERTICAL = 7;
+    private static final int CORNER_SOUTH_EAST = 0;
+    private static final int CORNER_SOUTH_WEST = 2;
+    private static final int CORNER_NORTH_EAST = 8;
+    private static final int CORNER_NORTH_WEST = 10;
+
+    // Effectively unkillable, so enemy counts stay fixed while towers and projectiles work on them
+    private static final int BENCHMARK_ENEMY_HEALTH = 1_000_000_000;
+    private static final int[] ENEMY_MIX = {
+            Constants.Enemies.GOBLIN, Constants.Enemies.KNIGHT, Constants.Enemies.TROLL, Constants.Enemies.BARREL
+    };
+
+    final int width;
+    final int height;
+    final int[][] level;
+    final int[][] overlay;
+    final List<GridPoint> path = new ArrayList<>();
+    final HeadlessSimulation simulation;
+
+    /**
+     * Builds the map and a seeded headless simulation running on it
+     */
+    static SimulationFixture withSimulation(int width, int height, long seed) {
+        return new SimulationFixture(width, height, true, seed);
+    }
+
+    /**
+     * Builds just the map, for benchmarks that only need the tiles
+     */
+    static SimulationFixture mapOnly(int width, int height) {
+        return new SimulationFixture(width, height, false, 0L);
+    }
+
+    private SimulationFixture(int width, int height, boolean withSimulation, long seed) {
+        this.width = width;
+        this.height = height;
+        this.level = new int[height][width];
+        this.overlay = new int[height][width];
+        buildSerpentine();
+        this.simulation = withSimulation
+                ? new HeadlessSimulation("benchmark", level, overlay, GameOptions.defaults(), seed)
+                : null;
+    }
+
+    private void buildSerpentine() {
+        for (int[] row : level) {
+            Arrays.fill(row, GRASS);
+        }
+
+        int left = 1;
+        int right = width - 2;
+        boolean eastward = true;
+        for (int y = 1; y < height - 1; y += 2) {
+            boolean lastRun = y + 2 >= height - 1;
+            boolean firstRun = y == 1;
+            for (int step = 0; step <= right - left; step++) {
+                int x = eastward ? left + step : right - step;
+                int tile = ROAD_HORIZONTAL;
+                if (step == 0 && !firstRun) {
+                    tile = eastward ? CORNER_NORTH_EAST : CORNER_NORTH_WEST;
+                } else if (step == right - left && !lastRun) {
+                    tile = eastward ? CORNER_SOUTH_WEST : CORNER_SOUTH_EAST;
+                }
+                level[y][x] = tile;
+                path.add(new GridPoint(x, y));
+            }
+            if (lastRun) break;
+
+            int turnX = eastward ? right : left;
+            level[y + 1][turnX] = ROAD_VERTICAL;
+            path.add(new GridPoint(turnX, y + 1));
+            eastward = !eastward;
+        }
+
+        GridPoint start = path.get(0);
+        GridPoint end = path.get(path.size() - 1);
+        overlay[start.getY()][start.getX()] = Constants.PathPoints.START_POINT;
+        overlay[end.getY()][end.getX()] = Constants.PathPoints.END_POINT;
+    }
+
+    /**
+     * Spawns count enemies and spreads them evenly over the first 90% of the path
+     */
+    List<Enemy> spawnEnemies(int count) {
+        EnemyManager enemyManager = simulation.getModel().getEnemyManager();
+        int usablePathLength = Math.max(1, (int) ((path.size() - 1) * 0.9f));
+
+        for (int i = 0; i < count; i++) {
+            enemyManager.addEnemy(ENEMY_MIX[i % ENEMY_MIX.length]);
+        }
+
+        List<Enemy> enemies = enemyManager.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            int pathIndex = (int) ((long) i * usablePathLength / enemies.size());
+            enemyManager.placeEnemyOnPath(enemy, pathIndex);
+            enemy.setHealth(BENCHMARK_ENEMY_HEALTH);
+        }
+        // One step so the spatial grid reflects the new positions
+        enemyManager.update(0f);
+        return enemies;
+    }
+
+    /**
+     * Builds towers on the grass directly above the road, cycling through the tower types
+     */
+    List<Tower> buildTowers(int count) {
+        TowerManager towerManager = simulation.getModel().getTowerManager();
+        int tileSize = GameDimensions.TILE_DISPLAY_SIZE;
+        int built = 0;
+        for (int i = 0; i < path.size() && built < count; i += 2) {
+            GridPoint point = path.get(i);
+            int x = point.getX();
+            int y = point.getY() - 1;
+            if (y < 0 || level[y][x] != GRASS) continue;
+
+            switch (built % 3) {
+                case 0: towerManager.buildArcherTower(x * tileSize, y * tileSize); break;
+                case 1: towerManager.buildMageTower(x * tileSize, y * tileSize); break;
+                default: towerManager.buildArtilerryTower(x * tileSize, y * tileSize); break;
+            }
+            built++;
+        }
+        return towerManager.getTowers();
+    }
+
+    GridPoint getStart() { return path.get(0); }
+    GridPoint getEnd() { return path.get(path.size() - 1); }
+}
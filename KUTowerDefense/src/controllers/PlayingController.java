@@ -157,6 +157,9 @@ public class PlayingController implements Observer {
      * Main render method - delegates to view
      */
     public void render(java.awt.Graphics g) {
+        if (game != null && game.getGameLoop() != null) {
+            model.setRenderInterpolation(game.getGameLoop().getInterpolation());
+        }
         view.render(g);
     }
 
@@ -720,7 +723,6 @@ public class PlayingController implements Observer {
     private void handleVictory() {
         GameStatsRecord record = model.createGameStatsRecord(true);
         game.getStatsManager().addRecord(record);
-        game.getStatsManager().saveToFile(record);
 
         game.getGameOverScene().setStats(
                 true,
@@ -739,7 +741,6 @@ public class PlayingController implements Observer {
     private void handleGameOver() {
         GameStatsRecord record = model.createGameStatsRecord(false);
         game.getStatsManager().addRecord(record);
-        game.getStatsManager().saveToFile(record);
 
         game.getGameOverScene().setStats(
                 false,
@@ -889,6 +890,7 @@ public class PlayingController implements Observer {
             } else if (tile.equals("DEADTREE")) {
                 level[y][x] = 15;
             }
+            model.markTileDirty(x, y);
             System.out.println("Tile modified at (" + x + ", " + y + ") to: " + tile);
         }
     }
@@ -4,26 +4,37 @@ import config.EnemyStats;
 import config.EnemyType;
 import config.GameOptions;
 import constants.Constants;
+import constants.GameDimensions;
 import managers.AudioManager;
-import helpMethods.LoadSave;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import static constants.Constants.Enemies.*;
 
 public abstract class Enemy {
-    protected float x,y;          // using floats to have much more control when dealing with speed of the enemies
+    // Per-tick state below is only used while the enemy is not in an EnemyStore;
+    // once added, the accessors read and write the store's slot instead
+    private float x,y;            // using floats to have much more control when dealing with speed of the enemies
+    private float prevX, prevY;   // position at the start of the current simulation step, for render interpolation
+    private int health;
+    private int currentPathIndex = 0;
+    private float pathDistance = 0; // distance travelled along the path from the spawn, in pixels
+    private float speed;
+    private float dirX = 0;       // direction X component
+    private float dirY = 0;       // direction Y component
+    private long slowTimer = 0;   // remaining slow duration in ticks
+    private long freezeTimer = 0; // remaining freeze duration in ticks
+    private long poisonTimer = 0; // remaining poison duration in ticks
+
+    volatile EnemyStore store;
+    int slot;
+
     protected int id;
-    protected int health;
     protected int maxHealth;
     protected int enemyType;
-    protected int currentPathIndex = 0;
-    protected float speed;
     protected boolean reachedEnd = false;
     protected Rectangle boundary;    // for hit box
     protected boolean alive = true;
-    protected float dirX = 0;        // direction X component
-    protected float dirY = 0;        // direction Y component
 
     // for animation of enemies' walking
     private int animationIndex = 0;
@@ -54,7 +65,6 @@ public abstract class Enemy {
 
     // Slow effect fields
     private boolean isSlowed = false;
-    private long slowTimer = 0; // Will store remaining duration in ticks
     private float currentSlowFactor = 1.0f; // 1.0f means no slow
     public static BufferedImage snowflakeIcon = null;
 
@@ -62,6 +72,8 @@ public abstract class Enemy {
     private boolean isTeleporting = false;
     private long teleportEffectTimer = 0;
     public static final long TELEPORT_EFFECT_DURATION = 500_000_000L; // 0.5 seconds
+
+    private static final float MAX_INTERPOLATED_STEP = GameDimensions.TILE_DISPLAY_SIZE;
     private boolean invisible = false;
 
     // Combat synergy fields
@@ -84,12 +96,10 @@ public abstract class Enemy {
     public static final int TROLL_ANCHOR_Y = 240;
 
     private boolean isFrozen = false;
-    private long freezeTimer = 0; // Will store remaining duration in ticks
 
     // Poison effect fields
     private boolean isPoisoned = false;
     private int poisonDamage = 0;
-    private long poisonTimer = 0; // Will store remaining duration in ticks
     private int poisonTickInterval = 60; // Apply poison damage every 60 ticks (1 second at 60 FPS)
     private int poisonTickCounter = 0;
     public static BufferedImage poisonIcon = null;
@@ -124,6 +134,8 @@ public abstract class Enemy {
     public Enemy(float x, float y, int id, int enemyType, float speed, Size size, int maxFrameCount){
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.id = id;
         this.enemyType = enemyType;
         this.speed = speed;
@@ -203,10 +215,10 @@ public abstract class Enemy {
             // Apply the new stats
             this.maxHealth = stats.getHitPoints();
             // Apply the previous health percentage to the new maxHealth, clamp between 0 and maxHealth
-            this.health = Math.max(0, Math.min(this.maxHealth, (int)(this.maxHealth * currentHealthPercentage)));
-            this.speed = (float)stats.getMoveSpeed();
+            setHealth(Math.max(0, Math.min(this.maxHealth, (int)(this.maxHealth * currentHealthPercentage))));
+            setSpeed((float)stats.getMoveSpeed());
 
-            System.out.println("Applied stats for " + type + " (ID: "+ id +"): MaxHP=" + maxHealth + ", CurrentHP=" + health + ", Speed=" + speed);
+            System.out.println("Applied stats for " + type + " (ID: "+ id +"): MaxHP=" + maxHealth + ", CurrentHP=" + getHealth() + ", Speed=" + getSpeed());
         } catch (Exception e) {
             System.out.println("Error updating enemy stats for ID " + id + ": " + e.getMessage());
             e.printStackTrace();
@@ -261,27 +273,85 @@ public abstract class Enemy {
     // Getters and Setters
     public int getAnimationIndex() { return animationIndex; }
     public Size getSize() { return size; }
-    public float getX() { return x; }
-    public void setX(float x) { this.x = x; }
-    public float getY() { return y; }
-    public void setY(float y) { this.y = y; }
+    public float getX() { EnemyStore s = store; return s != null ? s.x[slot] : x; }
+    public void setX(float x) { EnemyStore s = store; if (s != null) s.x[slot] = x; else this.x = x; }
+    public float getY() { EnemyStore s = store; return s != null ? s.y[slot] : y; }
+    public void setY(float y) { EnemyStore s = store; if (s != null) s.y[slot] = y; else this.y = y; }
+
+    /**
+     * Remembers the current position as the start of the next simulation step.
+     * Enemies in an EnemyStore are handled in bulk by EnemyStore.storePreviousPositions().
+     */
+    public void storePreviousPosition() {
+        EnemyStore s = store;
+        if (s != null) {
+            s.prevX[slot] = s.x[slot];
+            s.prevY[slot] = s.y[slot];
+        } else {
+            prevX = x;
+            prevY = y;
+        }
+    }
+
+    /**
+     * Position to draw at, blended between the previous and current simulation step.
+     * Jumps longer than a tile (teleports) are not blended.
+     * @param alpha 0 for the previous step, 1 for the current one
+     */
+    public float getRenderX(float alpha) {
+        EnemyStore s = store;
+        int i = slot;
+        float current = s != null ? s.x[i] : x;
+        float previous = s != null ? s.prevX[i] : prevX;
+        float dx = current - previous;
+        if (dx > MAX_INTERPOLATED_STEP || dx < -MAX_INTERPOLATED_STEP) return current;
+        return previous + dx * alpha;
+    }
+
+    public float getRenderY(float alpha) {
+        EnemyStore s = store;
+        int i = slot;
+        float current = s != null ? s.y[i] : y;
+        float previous = s != null ? s.prevY[i] : prevY;
+        float dy = current - previous;
+        if (dy > MAX_INTERPOLATED_STEP || dy < -MAX_INTERPOLATED_STEP) return current;
+        return previous + dy * alpha;
+    }
     public Rectangle getBounds() { return boundary; }
     public int getId() { return id; }
     public void setId(int id) { this.id = id; }
-    public int getHealth() { return health; }
-    public void setHealth(int health) { this.health = health; }
+    public int getHealth() { EnemyStore s = store; return s != null ? s.health[slot] : health; }
+    public void setHealth(int health) { EnemyStore s = store; if (s != null) s.health[slot] = health; else this.health = health; }
     public boolean isAlive() { return alive; }
     public int getEnemyType() { return enemyType; }
-    public float getSpeed() { return speed; }
+    public float getSpeed() { EnemyStore s = store; return s != null ? s.speed[slot] : speed; }
+    private void setSpeed(float speed) { EnemyStore s = store; if (s != null) s.speed[slot] = speed; else this.speed = speed; }
     public boolean hasReachedEnd() { return reachedEnd; }
     public void setReachedEnd(boolean reachedEnd) { this.reachedEnd = reachedEnd; }
-    public int getCurrentPathIndex() { return currentPathIndex; }
-    public void setCurrentPathIndex(int currentPathIndex) { this.currentPathIndex = currentPathIndex; }
-    public float getHealthBarPercentage() { return health / (float) maxHealth; }
+    public int getCurrentPathIndex() { EnemyStore s = store; return s != null ? s.pathIndex[slot] : currentPathIndex; }
+    public void setCurrentPathIndex(int currentPathIndex) {
+        EnemyStore s = store;
+        if (s != null) s.pathIndex[slot] = currentPathIndex; else this.currentPathIndex = currentPathIndex;
+    }
+    public float getPathDistance() { EnemyStore s = store; return s != null ? s.pathDistance[slot] : pathDistance; }
+    public void setPathDistance(float pathDistance) {
+        EnemyStore s = store;
+        if (s != null) s.pathDistance[slot] = pathDistance; else this.pathDistance = pathDistance;
+    }
+    public float getHealthBarPercentage() { return getHealth() / (float) maxHealth; }
     public int getGoldReward() { return goldReward; }
-    public float getDirX() { return dirX; }
-    public float getDirY() { return dirY; }
-    public void setDirection(float dirX, float dirY) { this.dirX = dirX; this.dirY = dirY; }
+    public float getDirX() { EnemyStore s = store; return s != null ? s.dirX[slot] : dirX; }
+    public float getDirY() { EnemyStore s = store; return s != null ? s.dirY[slot] : dirY; }
+    public void setDirection(float dirX, float dirY) {
+        EnemyStore s = store;
+        if (s != null) {
+            s.dirX[slot] = dirX;
+            s.dirY[slot] = dirY;
+        } else {
+            this.dirX = dirX;
+            this.dirY = dirY;
+        }
+    }
     public int getWidth() { return size.getWidth(); }
     public int getHeight() { return size.getHeight(); }
     public boolean isSlowed() { return isSlowed; }
@@ -371,10 +441,11 @@ public abstract class Enemy {
         int actualDamage = calculateActualDamage(rawDamage, damageType);
 
         // Apply the calculated damage
-        this.health -= actualDamage;
+        int remaining = getHealth() - actualDamage;
+        setHealth(remaining);
 
         // Handle death
-        if (health <= 0) {
+        if (remaining <= 0) {
             playDeathSound();
             alive = false;
         }
@@ -488,7 +559,7 @@ public abstract class Enemy {
      */
     public float getSpriteCenterX() {
         // With anchor-based positioning, the enemy's x position represents the sprite center
-        return x;
+        return getX();
     }
 
     /**
@@ -498,24 +569,22 @@ public abstract class Enemy {
      */
     public float getSpriteCenterY() {
         // With anchor-based positioning, the enemy's y position represents the sprite center
-        return y;
+        return getY();
     }
 
     public void applySlow(float slowFactor, int durationTicks) {
         if (!isSlowed || slowFactor < this.currentSlowFactor) { // Apply new slow if not slowed, or if new slow is stronger
             this.isSlowed = true;
             this.currentSlowFactor = slowFactor;
-            this.slowTimer = durationTicks;
-            if (snowflakeIcon == null) {
-                snowflakeIcon = LoadSave.getImageFromPath("/TowerAssets/snow flake icon.png");
-            }
+            setSlowTimer(durationTicks);
         }
     }
 
     private void updateSlow(float speedMultiplier) {
         if (isSlowed) {
-            slowTimer -= speedMultiplier;
-            if (slowTimer <= 0) {
+            long remaining = (long) (getSlowTimer() - speedMultiplier);
+            setSlowTimer(remaining);
+            if (remaining <= 0) {
                 isSlowed = false;
                 currentSlowFactor = 1.0f; // Reset slow factor
             }
@@ -538,14 +607,15 @@ public abstract class Enemy {
 
     public void freeze(int durationTicks) {
         this.isFrozen = true;
-        this.freezeTimer = durationTicks;
+        setFreezeTimer(durationTicks);
         System.out.println("Enemy ID: " + id + " is now frozen.");
     }
 
     private void updateFreeze(float speedMultiplier) {
         if (isFrozen) {
-            freezeTimer -= speedMultiplier;
-            if (freezeTimer <= 0) {
+            long remaining = (long) (getFreezeTimer() - speedMultiplier);
+            setFreezeTimer(remaining);
+            if (remaining <= 0) {
                 isFrozen = false;
                 System.out.println("Freeze effect ended for enemy ID: " + id);
             }
@@ -565,11 +635,8 @@ public abstract class Enemy {
         if (!isPoisoned || damage > this.poisonDamage) { // Apply new poison if not poisoned, or if new poison is stronger
             this.isPoisoned = true;
             this.poisonDamage = damage;
-            this.poisonTimer = durationTicks;
+            setPoisonTimer(durationTicks);
             this.poisonTickCounter = 0; // Reset tick counter
-            if (poisonIcon == null) {
-                poisonIcon = LoadSave.getImageFromPath("/TowerAssets/poison_icon.png");
-            }
             System.out.println("Enemy ID: " + id + " is now poisoned for " + damage + " damage over " + durationTicks + " ticks.");
         }
     }
@@ -583,12 +650,13 @@ public abstract class Enemy {
                 // Use MAGICAL damage type for poison (since it's like a magical effect)
                 takeDamage(poisonDamage, DamageType.MAGICAL, true); // Ignore invisibility for poison
                 poisonTickCounter = 0; // Reset counter
-                System.out.println("Enemy ID: " + id + " took " + poisonDamage + " poison damage. Health: " + health);
+                System.out.println("Enemy ID: " + id + " took " + poisonDamage + " poison damage. Health: " + getHealth());
             }
 
             // Decrease poison timer
-            poisonTimer--;
-            if (poisonTimer <= 0) {
+            long remaining = getPoisonTimer() - 1;
+            setPoisonTimer(remaining);
+            if (remaining <= 0) {
                 isPoisoned = false;
                 poisonDamage = 0;
                 poisonTickCounter = 0;
@@ -601,6 +669,60 @@ public abstract class Enemy {
         return isPoisoned;
     }
 
+    private long getSlowTimer() { EnemyStore s = store; return s != null ? s.slowTimer[slot] : slowTimer; }
+    private void setSlowTimer(long ticks) { EnemyStore s = store; if (s != null) s.slowTimer[slot] = ticks; else slowTimer = ticks; }
+    private long getFreezeTimer() { EnemyStore s = store; return s != null ? s.freezeTimer[slot] : freezeTimer; }
+    private void setFreezeTimer(long ticks) { EnemyStore s = store; if (s != null) s.freezeTimer[slot] = ticks; else freezeTimer = ticks; }
+    private long getPoisonTimer() { EnemyStore s = store; return s != null ? s.poisonTimer[slot] : poisonTimer; }
+    private void setPoisonTimer(long ticks) { EnemyStore s = store; if (s != null) s.poisonTimer[slot] = ticks; else poisonTimer = ticks; }
+
+    /**
+     * Writes this enemy's own copy of the per-tick state into a store slot
+     */
+    void copyStateTo(EnemyStore s, int i) {
+        s.x[i] = x;
+        s.y[i] = y;
+        s.prevX[i] = prevX;
+        s.prevY[i] = prevY;
+        s.speed[i] = speed;
+        s.dirX[i] = dirX;
+        s.dirY[i] = dirY;
+        s.pathIndex[i] = currentPathIndex;
+        s.pathDistance[i] = pathDistance;
+        s.health[i] = health;
+        s.slowTimer[i] = slowTimer;
+        s.freezeTimer[i] = freezeTimer;
+        s.poisonTimer[i] = poisonTimer;
+    }
+
+    void attach(EnemyStore s, int i) {
+        slot = i;
+        store = s;
+    }
+
+    /**
+     * Copies the slot back into this enemy before it leaves the store
+     */
+    void detach() {
+        EnemyStore s = store;
+        if (s == null) return;
+        int i = slot;
+        x = s.x[i];
+        y = s.y[i];
+        prevX = s.prevX[i];
+        prevY = s.prevY[i];
+        speed = s.speed[i];
+        dirX = s.dirX[i];
+        dirY = s.dirY[i];
+        currentPathIndex = s.pathIndex[i];
+        pathDistance = s.pathDistance[i];
+        health = s.health[i];
+        slowTimer = s.slowTimer[i];
+        freezeTimer = s.freezeTimer[i];
+        poisonTimer = s.poisonTimer[i];
+        store = null;
+    }
+
     public void update(float speedMultiplier) {
         updateFreeze(speedMultiplier);
         updatePoison();
@@ -620,7 +742,7 @@ public abstract class Enemy {
         if (isFrozen) {
             return 0; // Ensure no movement when frozen
         }
-        float effectiveSpeed = speed;
+        float effectiveSpeed = getSpeed();
         if (hasCombatSynergy) {
 
             effectiveSpeed = (originalSpeed + synergyGoblinSpeed) * 0.5f; // Use multiplication instead of division
@@ -634,13 +756,10 @@ public abstract class Enemy {
 
     public void applyCombatSynergy(float goblinSpeed) {
         if (!hasCombatSynergy) {
-            originalSpeed = speed;
+            originalSpeed = getSpeed();
             hasCombatSynergy = true;
         }
         synergyGoblinSpeed = goblinSpeed;
-        if (thunderIcon == null) {
-            thunderIcon = LoadSave.getImageFromPath("/TowerAssets/thunder_icon.png");
-        }
     }
 
     public void removeCombatSynergy() {
@@ -652,6 +771,8 @@ public abstract class Enemy {
 
 
     public void draw(Graphics2D g2d) {
+        float x = getX();
+        float y = getY();
         // Draw the enemy sprite using the current animation frame
         BufferedImage sprite = getSpriteFrame(animationIndex);
         if (sprite != null) {
@@ -672,7 +793,7 @@ public abstract class Enemy {
         int barX = (int)x - barWidth / 2;
         int barY = (int)y - getHeight() / 2 - 10; // Above the enemy
 
-        float healthPercent = Math.max(0, (float)health / maxHealth);
+        float healthPercent = Math.max(0, (float)getHealth() / maxHealth);
         g2d.setColor(Color.DARK_GRAY);
         g2d.fillRect(barX, barY, barWidth, barHeight);
         g2d.setColor(Color.RED);
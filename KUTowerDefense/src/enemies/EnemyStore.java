@@ -0,0 +1,154 @@
+package enemies;
+
+import java.util.Arrays;
+
+/**
+ * Packed storage for the per-tick state of the enemies on the map, owned by EnemyManager.
+ *
+ * Position, previous position, speed, direction, path index and distance, health and
+ * the status effect timers live in parallel primitive arrays, one slot per enemy, so the loops
+ * that touch every enemy each tick walk contiguous memory. Enemy stays the handle the
+ * rest of the game holds on to: while it is in the store its getters and setters read
+ * and write its slot, and the store keeps its slot up to date when enemies move.
+ *
+ * remove() swaps the last enemy into the freed slot, so removal is O(1) and the
+ * order of the remaining enemies is not kept. A removed enemy gets its values copied
+ * back and keeps working on its own, so towers and projectiles that still point at it
+ * see where it died.
+ *
+ * Only the simulation thread changes the store. The render thread may walk it with
+ * size() and get() while it changes: it can then see an enemy twice, miss one, or
+ * read a neighbour's slot for a frame, and get() returns null past the end, but it
+ * never throws.
+ */
+public class EnemyStore {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private volatile Enemy[] enemies = new Enemy[INITIAL_CAPACITY];
+    private volatile int size = 0;
+
+    float[] x = new float[INITIAL_CAPACITY];
+    float[] y = new float[INITIAL_CAPACITY];
+    float[] prevX = new float[INITIAL_CAPACITY];
+    float[] prevY = new float[INITIAL_CAPACITY];
+    float[] speed = new float[INITIAL_CAPACITY];
+    float[] dirX = new float[INITIAL_CAPACITY];
+    float[] dirY = new float[INITIAL_CAPACITY];
+    int[] pathIndex = new int[INITIAL_CAPACITY];
+    float[] pathDistance = new float[INITIAL_CAPACITY];
+    int[] health = new int[INITIAL_CAPACITY];
+    long[] slowTimer = new long[INITIAL_CAPACITY];
+    long[] freezeTimer = new long[INITIAL_CAPACITY];
+    long[] poisonTimer = new long[INITIAL_CAPACITY];
+
+    /**
+     * Moves the enemy's state into a new slot at the end of the store.
+     * Adding an enemy that is already in a store does nothing.
+     */
+    public void add(Enemy enemy) {
+        if (enemy.store != null) return;
+        int slot = size;
+        if (slot == enemies.length) {
+            grow(slot * 2);
+        }
+        enemy.copyStateTo(this, slot);
+        enemies[slot] = enemy;
+        enemy.attach(this, slot);
+        size = slot + 1;
+    }
+
+    /**
+     * @return The enemy at index, or null if index is past the end
+     */
+    public Enemy get(int index) {
+        Enemy[] current = enemies;
+        return index < current.length ? current[index] : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(Enemy enemy) {
+        return enemy.store == this;
+    }
+
+    /**
+     * Removes the enemy at index by moving the last enemy into its slot.
+     * Callers walking the store should look at index again afterwards.
+     *
+     * @return false (and nothing changes) if index is outside the store
+     */
+    public boolean removeAt(int index) {
+        int last = size - 1;
+        if (index < 0 || index > last) return false;
+        Enemy removed = enemies[index];
+        if (removed == null || removed.store != this) return false;
+        removed.detach();
+
+        if (index != last) {
+            enemies[index] = enemies[last];
+            x[index] = x[last];
+            y[index] = y[last];
+            prevX[index] = prevX[last];
+            prevY[index] = prevY[last];
+            speed[index] = speed[last];
+            dirX[index] = dirX[last];
+            dirY[index] = dirY[last];
+            pathIndex[index] = pathIndex[last];
+            pathDistance[index] = pathDistance[last];
+            health[index] = health[last];
+            slowTimer[index] = slowTimer[last];
+            freezeTimer[index] = freezeTimer[last];
+            poisonTimer[index] = poisonTimer[last];
+            enemies[index].slot = index;
+        }
+        enemies[last] = null;
+        size = last;
+        return true;
+    }
+
+    /**
+     * @return true if the enemy was in this store
+     */
+    public boolean remove(Enemy enemy) {
+        if (enemy.store != this) return false;
+        return removeAt(enemy.slot);
+    }
+
+    public void clear() {
+        int count = size;
+        size = 0;
+        for (int i = 0; i < count; i++) {
+            enemies[i].detach();
+            enemies[i] = null;
+        }
+    }
+
+    /**
+     * Remembers every enemy's current position as the start of the next simulation step
+     */
+    public void storePreviousPositions() {
+        int count = size;
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        dirX = Arrays.copyOf(dirX, capacity);
+        dirY = Arrays.copyOf(dirY, capacity);
+        pathIndex = Arrays.copyOf(pathIndex, capacity);
+        pathDistance = Arrays.copyOf(pathDistance, capacity);
+        health = Arrays.copyOf(health, capacity);
+        slowTimer = Arrays.copyOf(slowTimer, capacity);
+        freezeTimer = Arrays.copyOf(freezeTimer, capacity);
+        poisonTimer = Arrays.copyOf(poisonTimer, capacity);
+        // Published last: a reader that sees the new enemy array also sees the new slots
+        enemies = Arrays.copyOf(enemies, capacity);
+    }
+}
@@ -0,0 +1,197 @@
+package helpMethods;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import managers.AudioManager;
+import ui_p.AssetsLoader;
+
+/**
+ * Startup asset loading, run as independent decode jobs on a small worker pool.
+ *
+ * Critical jobs are everything the menu and the first level need: UI assets, the
+ * tile atlases, snow tilesets, border rotations, rotated projectile frames,
+ * gameplay sprites and audio. They fill the same singletons and SpriteRegistry
+ * entries the game already reads from, so the main thread just finds them loaded
+ * (or blocks on the singleton until the worker finishes). Deferred jobs
+ * (end-of-game and statistics backgrounds) are queued behind the critical ones
+ * and load in the background while the player is in the menu; the scenes that
+ * use them fall back to loading on demand if they are needed first.
+ *
+ * The Intro loading screen shows getProgress() and waits for isCriticalLoaded().
+ */
+public class AssetPipeline {
+
+    private static final int MAX_WORKERS = 4;
+
+    private static AssetPipeline instance;
+
+    private final List<Job> criticalJobs = new ArrayList<>();
+    private final List<Job> deferredJobs = new ArrayList<>();
+    private final AtomicInteger completedCritical = new AtomicInteger();
+    private volatile CountDownLatch criticalLatch;
+    private volatile ExecutorService executor;
+    private volatile String lastCompleted = "";
+    private long startNanos;
+
+    private static class Job {
+        final String name;
+        final Runnable task;
+
+        Job(String name, Runnable task) {
+            this.name = name;
+            this.task = task;
+        }
+    }
+
+    private AssetPipeline() {
+        registerDefaultJobs();
+    }
+
+    public static synchronized AssetPipeline getInstance() {
+        if (instance == null) {
+            instance = new AssetPipeline();
+        }
+        return instance;
+    }
+
+    private void registerDefaultJobs() {
+        SpriteRegistry sprites = SpriteRegistry.getInstance();
+
+        addCritical("UI assets", AssetsLoader::getInstance);
+        addCritical("Audio", AudioManager::getInstance);
+        addCritical("Tile atlas", () -> {
+            sprites.getImage(LoadSave.TILE_ATLAS_PATH);
+            sprites.getImage(LoadSave.WATER_TILESET_PATH);
+        });
+        addCritical("Snow tilesets", () -> {
+            sprites.getImage(LoadSave.MEDIUM_SNOW_ATLAS_PATH);
+            sprites.getImage(LoadSave.FULL_SNOW_ATLAS_PATH);
+        });
+        addCritical("Border rotations", BorderImageRotationGenerator::getInstance);
+        addCritical("Arrow frames", () -> LoadSave.loadArrowFrames(LoadSave.ARROW_FRAME_COUNT));
+        addCritical("Wizard bolt frames", () -> LoadSave.loadWizardFrames(LoadSave.WIZARD_FRAME_COUNT));
+        addCritical("Fireball frames", LoadSave::loadFireballFrames);
+        addCritical("Gameplay sprites", sprites::preloadGameplaySprites);
+
+        addDeferred("Victory background", () -> sprites.getImage("/Victory.png"));
+        addDeferred("Defeat background", () -> sprites.getImage("/Defeat.png"));
+        addDeferred("Statistics background", () -> sprites.getImage("/KuTowerDefence1.jpg"));
+    }
+
+    /**
+     * Adds a job the loading screen waits for; only allowed before start()
+     */
+    public synchronized void addCritical(String name, Runnable task) {
+        if (executor != null) {
+            throw new IllegalStateException("Asset pipeline already started");
+        }
+        criticalJobs.add(new Job(name, task));
+    }
+
+    /**
+     * Adds a job that loads in the background after the critical ones; only allowed before start()
+     */
+    public synchronized void addDeferred(String name, Runnable task) {
+        if (executor != null) {
+            throw new IllegalStateException("Asset pipeline already started");
+        }
+        deferredJobs.add(new Job(name, task));
+    }
+
+    /**
+     * Submits every job to the worker pool. Calling it again does nothing.
+     */
+    public synchronized void start() {
+        if (executor != null) return;
+
+        int workers = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(workers, workers, 5, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "asset-loader-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+        // Idle workers go away once everything is loaded
+        pool.allowCoreThreadTimeOut(true);
+        executor = pool;
+
+        startNanos = System.nanoTime();
+        criticalLatch = new CountDownLatch(criticalJobs.size());
+        System.out.println("Loading " + criticalJobs.size() + " asset groups on " + workers + " threads");
+
+        for (Job job : criticalJobs) {
+            executor.execute(() -> {
+                try {
+                    runJob(job);
+                } finally {
+                    completedCritical.incrementAndGet();
+                    lastCompleted = job.name;
+                    criticalLatch.countDown();
+                    if (criticalLatch.getCount() == 0) {
+                        System.out.println(String.format("Critical assets loaded in %.0f ms",
+                                (System.nanoTime() - startNanos) / 1_000_000.0));
+                    }
+                }
+            });
+        }
+        // The queue is FIFO, so these only start once every critical job has been picked up
+        for (Job job : deferredJobs) {
+            executor.execute(() -> runJob(job));
+        }
+        executor.shutdown();
+    }
+
+    private void runJob(Job job) {
+        try {
+            job.task.run();
+        } catch (Exception e) {
+            // A missing asset must not hold up the loading screen; the game falls back like before
+            System.err.println("Asset pipeline: " + job.name + " failed: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    public boolean isStarted() {
+        return executor != null;
+    }
+
+    /**
+     * @return Fraction of critical jobs finished, 1 if the pipeline was never started
+     */
+    public float getProgress() {
+        if (criticalLatch == null || criticalJobs.isEmpty()) return 1f;
+        return (float) completedCritical.get() / criticalJobs.size();
+    }
+
+    public boolean isCriticalLoaded() {
+        return criticalLatch == null || criticalLatch.getCount() == 0;
+    }
+
+    /**
+     * @return Name of the last asset group that finished loading
+     */
+    public String getLastCompleted() {
+        return lastCompleted;
+    }
+
+    /**
+     * Blocks until every critical job has finished
+     */
+    public void awaitCritical() {
+        if (criticalLatch == null) return;
+        try {
+            criticalLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
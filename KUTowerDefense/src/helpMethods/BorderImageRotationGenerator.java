@@ -28,7 +28,7 @@ public class BorderImageRotationGenerator {
     }
 
     // Singleton getInstance method
-    public static BorderImageRotationGenerator getInstance() {
+    public static synchronized BorderImageRotationGenerator getInstance() {
         if (instance == null) {
             instance = new BorderImageRotationGenerator();
         }
@@ -0,0 +1,47 @@
+package helpMethods;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Source of randomness for gameplay decisions (wind misses, poison procs, weather...).
+ *
+ * In the normal game this behaves like Math.random(). A simulation can install its
+ * own seeded Random on the thread it runs on, which makes every gameplay roll on
+ * that thread reproducible and keeps parallel simulations from sharing a generator.
+ * Purely visual randomness (particles, sparkles) does not need to go through here.
+ */
+public final class GameRandom {
+
+    private static final ThreadLocal<Random> INSTALLED = new ThreadLocal<>();
+
+    private GameRandom() {}
+
+    /**
+     * Routes gameplay rolls on the current thread to the given generator until uninstall()
+     */
+    public static void install(Random random) {
+        INSTALLED.set(random);
+    }
+
+    public static void uninstall() {
+        INSTALLED.remove();
+    }
+
+    /**
+     * @return A value in [0, 1), like Math.random()
+     */
+    public static double nextDouble() {
+        Random random = INSTALLED.get();
+        return random != null ? random.nextDouble() : ThreadLocalRandom.current().nextDouble();
+    }
+
+    /**
+     * Creates a generator for an object that keeps its own Random. Derived from the
+     * installed generator when there is one, so it is reproducible too.
+     */
+    public static Random newRandom() {
+        Random random = INSTALLED.get();
+        return random != null ? new Random(random.nextLong()) : new Random();
+    }
+}
@@ -0,0 +1,480 @@
+package helpMethods;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import stats.GameStatsRecord;
+import stats.MapStatsSummary;
+
+/**
+ * Append-only store of finished games, replacing one JSON file per game.
+ *
+ * stats.log holds one compact JSON record per line. Deleting a game appends a
+ * tombstone line ({"deleted":id}) instead of rewriting anything; a record's id is
+ * its position among the record lines. stats.idx has a fixed 16-byte entry per id
+ * (long offset, int length, int flags) so any record can be read without scanning
+ * the log, and stats.summary.json keeps the per-map totals (games, wins, damage,
+ * time) together with the log and index sizes it was written for.
+ *
+ * Opening reads the summary and the flag words of the index; records themselves
+ * are parsed only when they are shown. If the summary does not match the files
+ * (a crash between writes) everything is rebuilt from the log, dropping a torn
+ * last line and skipping any other line that cannot be read. Once tombstones outnumber live records the log is compacted.
+ * Existing *.json game files in the folder are imported into the log the first time
+ * it is created. The files themselves are left in place (they may be under version
+ * control); once the log exists they are not read again.
+ */
+public class GameStatsLog {
+
+    static final String LOG_FILE = "stats.log";
+    static final String INDEX_FILE = "stats.idx";
+    static final String SUMMARY_FILE = "stats.summary.json";
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int FLAG_DELETED = 1;
+    private static final int COMPACT_MIN_DELETED = 256;
+    private static final int RECORD_CACHE_SIZE = 64;
+    private static final String UNKNOWN_MAP = "Unknown";
+
+    private final File folder;
+    private final File logFile;
+    private final File indexFile;
+    private final File summaryFile;
+    private final Gson gson = new Gson();
+
+    private Summary summary;
+    // Ids of the records that are not deleted, oldest first
+    private int[] liveIds = new int[0];
+    private int liveCount = 0;
+    private final Map<Integer, GameStatsRecord> recordCache = new LinkedHashMap<Integer, GameStatsRecord>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, GameStatsRecord> eldest) {
+            return size() > RECORD_CACHE_SIZE;
+        }
+    };
+
+    private static class Summary {
+        long logLength;
+        int entryCount;
+        int deletedCount;
+        Map<String, MapStatsSummary> maps = new LinkedHashMap<>();
+    }
+
+    public GameStatsLog(File folder) {
+        this.folder = folder;
+        this.logFile = new File(folder, LOG_FILE);
+        this.indexFile = new File(folder, INDEX_FILE);
+        this.summaryFile = new File(folder, SUMMARY_FILE);
+    }
+
+    /**
+     * Reads the summary and index, repairing or importing first if needed.
+     * Called by every other method; calling it again re-reads the files.
+     */
+    public synchronized void open() {
+        folder.mkdirs();
+        recordCache.clear();
+        boolean importLegacy = !logFile.exists();
+
+        summary = readSummary();
+        if (summary == null || summary.logLength != logFile.length()
+                || indexFile.length() != (long) summary.entryCount * ENTRY_BYTES) {
+            rebuild();
+        }
+        loadLiveIds();
+
+        if (importLegacy) {
+            importLegacyFiles();
+        }
+    }
+
+    private void ensureOpen() {
+        if (summary == null) {
+            open();
+        }
+    }
+
+    /**
+     * Appends a finished game; sets its log id
+     */
+    public synchronized boolean append(GameStatsRecord record) {
+        ensureOpen();
+        if (!appendRecord(record)) {
+            return false;
+        }
+        writeSummary();
+        return true;
+    }
+
+    private boolean appendRecord(GameStatsRecord record) {
+        byte[] line = (gson.toJson(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        long offset = summary.logLength;
+        int id = summary.entryCount;
+        try {
+            writeLogBytes(offset, line);
+            writeIndexEntry(id, offset, line.length, 0);
+        } catch (IOException e) {
+            System.err.println("Error saving game stat: " + e.getMessage());
+            // The summary no longer matches the files; rebuild from the log next time
+            summary = null;
+            return false;
+        }
+
+        summary.logLength += line.length;
+        summary.entryCount++;
+        summary.maps.computeIfAbsent(mapKey(record), MapStatsSummary::new).add(record);
+
+        if (liveCount == liveIds.length) {
+            liveIds = Arrays.copyOf(liveIds, Math.max(16, liveIds.length * 2));
+        }
+        liveIds[liveCount++] = id;
+        record.setLogId(id);
+        recordCache.put(id, record);
+        return true;
+    }
+
+    /**
+     * Marks a record as deleted with a tombstone
+     * @return false if the record is not in the log or already deleted
+     */
+    public synchronized boolean delete(GameStatsRecord record) {
+        ensureOpen();
+        int id = record != null ? record.getLogId() : -1;
+        int position = id >= 0 ? Arrays.binarySearch(liveIds, 0, liveCount, id) : -1;
+        if (position < 0) {
+            System.err.println("Stats record is not in the log: " + id);
+            return false;
+        }
+
+        GameStatsRecord stored = readEntry(id);
+        byte[] tombstone = ("{\"deleted\":" + id + "}\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            writeLogBytes(summary.logLength, tombstone);
+            writeIndexFlags(id, FLAG_DELETED);
+        } catch (IOException e) {
+            System.err.println("Error deleting game stat: " + e.getMessage());
+            summary = null;
+            return false;
+        }
+
+        summary.logLength += tombstone.length;
+        summary.deletedCount++;
+        if (stored != null) {
+            MapStatsSummary mapSummary = summary.maps.get(mapKey(stored));
+            if (mapSummary != null) {
+                mapSummary.remove(stored);
+                if (mapSummary.getGames() <= 0) summary.maps.remove(mapKey(stored));
+            }
+        }
+        System.arraycopy(liveIds, position + 1, liveIds, position, liveCount - position - 1);
+        liveCount--;
+        recordCache.remove(id);
+        record.setLogId(-1);
+
+        if (summary.deletedCount >= COMPACT_MIN_DELETED && summary.deletedCount > liveCount) {
+            compact();
+        } else {
+            writeSummary();
+        }
+        return true;
+    }
+
+    public synchronized int getRecordCount() {
+        ensureOpen();
+        return liveCount;
+    }
+
+    /**
+     * @param position 0 for the oldest game that is not deleted
+     * @return The record, or null if it could not be read
+     */
+    public synchronized GameStatsRecord getRecord(int position) {
+        ensureOpen();
+        if (position < 0 || position >= liveCount) return null;
+        int id = liveIds[position];
+        GameStatsRecord cached = recordCache.get(id);
+        if (cached != null) return cached;
+
+        GameStatsRecord record = readEntry(id);
+        if (record != null) {
+            recordCache.put(id, record);
+        }
+        return record;
+    }
+
+    public synchronized List<GameStatsRecord> readAll() {
+        ensureOpen();
+        List<GameStatsRecord> records = new ArrayList<>(liveCount);
+        for (int i = 0; i < liveCount; i++) {
+            GameStatsRecord record = getRecord(i);
+            if (record != null) records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Per-map totals, most played map first
+     */
+    public synchronized List<MapStatsSummary> getMapSummaries() {
+        ensureOpen();
+        List<MapStatsSummary> summaries = new ArrayList<>(summary.maps.values());
+        summaries.sort((a, b) -> Integer.compare(b.getGames(), a.getGames()));
+        return summaries;
+    }
+
+    private GameStatsRecord readEntry(int id) {
+        try (RandomAccessFile index = new RandomAccessFile(indexFile, "r");
+             RandomAccessFile log = new RandomAccessFile(logFile, "r")) {
+            index.seek((long) id * ENTRY_BYTES);
+            long offset = index.readLong();
+            int length = index.readInt();
+            byte[] line = new byte[length];
+            log.seek(offset);
+            log.readFully(line);
+            GameStatsRecord record = gson.fromJson(new String(line, StandardCharsets.UTF_8).trim(), GameStatsRecord.class);
+            if (record != null) record.setLogId(id);
+            return record;
+        } catch (IOException | JsonParseException e) {
+            System.err.println("Failed to read stats record " + id + " -> " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void loadLiveIds() {
+        liveIds = new int[Math.max(16, summary.entryCount - summary.deletedCount)];
+        liveCount = 0;
+        if (summary.entryCount == 0) return;
+
+        try (FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) summary.entryCount * ENTRY_BYTES);
+            for (int id = 0; id < summary.entryCount; id++) {
+                if ((index.getInt(id * ENTRY_BYTES + 12) & FLAG_DELETED) == 0) {
+                    if (liveCount == liveIds.length) liveIds = Arrays.copyOf(liveIds, liveIds.length * 2);
+                    liveIds[liveCount++] = id;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read stats index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recreates the index and summary from the log, cutting off a torn last line.
+     * An unreadable complete line is kept in the log and skipped; if it looks like a
+     * record it keeps its id as a deleted entry, so the ids after it stay valid.
+     */
+    private void rebuild() {
+        System.out.println("Rebuilding stats index from " + logFile.getPath());
+        Summary rebuilt = new Summary();
+        List<long[]> entries = new ArrayList<>();
+        List<GameStatsRecord> records = new ArrayList<>();
+
+        byte[] log;
+        try {
+            log = logFile.exists() ? Files.readAllBytes(logFile.toPath()) : new byte[0];
+        } catch (IOException e) {
+            System.err.println("Failed to read stats log: " + e.getMessage());
+            log = new byte[0];
+        }
+
+        int start = 0;
+        while (start < log.length) {
+            int end = start;
+            while (end < log.length && log[end] != '\n') end++;
+            if (end == log.length) break; // no newline: torn append
+
+            String line = new String(log, start, end - start, StandardCharsets.UTF_8).trim();
+            try {
+                JsonObject json = JsonParser.parseString(line).getAsJsonObject();
+                if (json.has("deleted")) {
+                    int id = json.get("deleted").getAsInt();
+                    if (id >= 0 && id < entries.size() && entries.get(id)[2] == 0) {
+                        entries.get(id)[2] = FLAG_DELETED;
+                        rebuilt.deletedCount++;
+                        GameStatsRecord removed = records.get(id);
+                        rebuilt.maps.get(mapKey(removed)).remove(removed);
+                    }
+                } else {
+                    GameStatsRecord record = gson.fromJson(json, GameStatsRecord.class);
+                    entries.add(new long[] {start, end + 1 - start, 0});
+                    records.add(record);
+                    rebuilt.maps.computeIfAbsent(mapKey(record), MapStatsSummary::new).add(record);
+                }
+            } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+                System.err.println("Skipping unreadable stats log line at byte " + start);
+                if (!line.contains("\"deleted\"")) {
+                    entries.add(new long[] {start, end + 1 - start, FLAG_DELETED});
+                    records.add(null);
+                    rebuilt.deletedCount++;
+                }
+            }
+            start = end + 1;
+        }
+        rebuilt.maps.values().removeIf(mapSummary -> mapSummary.getGames() <= 0);
+        rebuilt.logLength = start;
+        rebuilt.entryCount = entries.size();
+
+        try {
+            if (logFile.exists() && logFile.length() != start) {
+                try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.WRITE)) {
+                    channel.truncate(start);
+                }
+            }
+            ByteBuffer index = ByteBuffer.allocate(entries.size() * ENTRY_BYTES);
+            for (long[] entry : entries) {
+                index.putLong(entry[0]).putInt((int) entry[1]).putInt((int) entry[2]);
+            }
+            writeAtomically(indexFile, index.array());
+        } catch (IOException e) {
+            System.err.println("Failed to rebuild stats index: " + e.getMessage());
+        }
+        summary = rebuilt;
+        writeSummary();
+    }
+
+    /**
+     * Rewrites the log with only the live records; ids are renumbered
+     */
+    private void compact() {
+        System.out.println("Compacting stats log: " + liveCount + " records, " + summary.deletedCount + " deleted");
+        try (RandomAccessFile index = new RandomAccessFile(indexFile, "r");
+             RandomAccessFile log = new RandomAccessFile(logFile, "r")) {
+            ByteBuffer newIndex = ByteBuffer.allocate(liveCount * ENTRY_BYTES);
+            ByteArrayOutputStream newLog = new ByteArrayOutputStream();
+            for (int i = 0; i < liveCount; i++) {
+                index.seek((long) liveIds[i] * ENTRY_BYTES);
+                long offset = index.readLong();
+                int length = index.readInt();
+                byte[] line = new byte[length];
+                log.seek(offset);
+                log.readFully(line);
+                newIndex.putLong(newLog.size()).putInt(length).putInt(0);
+                newLog.write(line);
+                liveIds[i] = i;
+            }
+            // The log goes first: if the index or summary does not follow, open() rebuilds from it
+            writeAtomically(logFile, newLog.toByteArray());
+            writeAtomically(indexFile, newIndex.array());
+            summary.logLength = newLog.size();
+            summary.entryCount = liveCount;
+            summary.deletedCount = 0;
+        } catch (IOException e) {
+            System.err.println("Failed to compact stats log: " + e.getMessage());
+            summary = null;
+            return;
+        }
+        recordCache.clear();
+        writeSummary();
+    }
+
+    private void importLegacyFiles() {
+        // Any name was accepted before the log existed, not just stat_<millis>.json
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".json") && !name.equals(SUMMARY_FILE));
+        if (files == null || files.length == 0) return;
+        Arrays.sort(files); // stat_<millis>.json sort oldest first
+
+        int imported = 0;
+        for (File file : files) {
+            try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+                JsonElement json = JsonParser.parseReader(reader);
+                if (!json.isJsonObject() || !json.getAsJsonObject().has("mapName")) {
+                    System.out.println("Skipping " + file.getName() + ": not a game stats record");
+                    continue;
+                }
+                GameStatsRecord record = gson.fromJson(json, GameStatsRecord.class);
+                if (appendRecord(record)) {
+                    imported++;
+                }
+            } catch (IOException | JsonParseException e) {
+                System.err.println("Skipping stats file: " + file.getName() + " -> " + e.getMessage());
+            }
+            if (summary == null) return; // a write failed; try again next start
+        }
+        writeSummary();
+        System.out.println("Imported " + imported + " stat files into " + LOG_FILE);
+    }
+
+    private void writeLogBytes(long offset, byte[] bytes) throws IOException {
+        // Written at the known end rather than appended, so a torn tail is overwritten
+        try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.truncate(position);
+        }
+    }
+
+    private void writeIndexEntry(int id, long offset, int length, int flags) throws IOException {
+        try (RandomAccessFile index = new RandomAccessFile(indexFile, "rw")) {
+            index.seek((long) id * ENTRY_BYTES);
+            index.writeLong(offset);
+            index.writeInt(length);
+            index.writeInt(flags);
+        }
+    }
+
+    private void writeIndexFlags(int id, int flags) throws IOException {
+        try (RandomAccessFile index = new RandomAccessFile(indexFile, "rw")) {
+            index.seek((long) id * ENTRY_BYTES + 12);
+            index.writeInt(flags);
+        }
+    }
+
+    private Summary readSummary() {
+        if (!summaryFile.isFile()) return null;
+        try (Reader reader = new FileReader(summaryFile, StandardCharsets.UTF_8)) {
+            Summary read = gson.fromJson(reader, Summary.class);
+            if (read != null && read.maps == null) read.maps = new LinkedHashMap<>();
+            return read;
+        } catch (IOException | JsonParseException e) {
+            System.err.println("Failed to read stats summary: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeSummary() {
+        if (summary == null) return;
+        try {
+            writeAtomically(summaryFile, gson.toJson(summary).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // A stale summary is detected and rebuilt on the next open
+            System.err.println("Failed to write stats summary: " + e.getMessage());
+        }
+    }
+
+    private static void writeAtomically(File file, byte[] bytes) throws IOException {
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        Files.write(temp, bytes);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String mapKey(GameStatsRecord record) {
+        return record.getMapName() != null ? record.getMapName() : UNKNOWN_MAP;
+    }
+}
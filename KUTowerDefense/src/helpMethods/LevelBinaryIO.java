@@ -0,0 +1,235 @@
+package helpMethods;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact binary form of level tiles and overlays (.kutl files).
+ *
+ * Layout, big-endian:
+ *   int   magic      'KUTL'
+ *   short version    FORMAT_VERSION
+ *   byte  kind       KIND_TILES or KIND_OVERLAY
+ *   byte  cellBytes  1 when every cell fits a signed byte, 4 otherwise
+ *   int   rows
+ *   int   cols
+ *   rows * cols cells, row by row
+ *
+ * A level on disk is read through a read-only MappedByteBuffer, which skips the
+ * JsonParser tree entirely. The JSON files stay the import/export format: LoadSave
+ * writes both on save, and writes the .kutl next to a JSON file the first time it
+ * has to parse one, so hand-edited or downloaded maps are converted on first use.
+ * A .kutl older than its JSON, or without one, is ignored. The .kutl files are a cache
+ * and are kept out of version control. Run main to convert a whole folder up front.
+ */
+public class LevelBinaryIO {
+
+    public static final String EXTENSION = ".kutl";
+    public static final byte KIND_TILES = 0;
+    public static final byte KIND_OVERLAY = 1;
+
+    private static final int MAGIC = 0x4B55544C; // "KUTL"
+    private static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    /**
+     * Writes grid to file, replacing it atomically
+     * @return false if the grid is not rectangular or the file could not be written
+     */
+    public static boolean write(File file, int[][] grid, byte kind) {
+        if (grid == null || grid.length == 0 || grid[0] == null) return false;
+        int rows = grid.length;
+        int cols = grid[0].length;
+
+        boolean fitsInByte = true;
+        for (int[] row : grid) {
+            if (row == null || row.length != cols) {
+                System.err.println("Not writing " + file.getName() + ": rows have different lengths");
+                return false;
+            }
+            for (int cell : row) {
+                if (cell < Byte.MIN_VALUE || cell > Byte.MAX_VALUE) fitsInByte = false;
+            }
+        }
+        int cellBytes = fitsInByte ? 1 : 4;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + rows * cols * cellBytes);
+        buffer.putInt(MAGIC);
+        buffer.putShort(FORMAT_VERSION);
+        buffer.put(kind);
+        buffer.put((byte) cellBytes);
+        buffer.putInt(rows);
+        buffer.putInt(cols);
+        for (int[] row : grid) {
+            for (int cell : row) {
+                if (fitsInByte) buffer.put((byte) cell);
+                else buffer.putInt(cell);
+            }
+        }
+        buffer.flip();
+
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        try {
+            if (target.getParent() != null) Files.createDirectories(target.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing binary level " + file.getAbsolutePath() + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Reads a .kutl file through a memory mapping
+     * @return The grid, or null if the file is missing, of another kind or corrupt
+     */
+    public static int[][] read(File file, byte kind) {
+        if (!file.isFile()) return null;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer, kind, file.getName());
+        } catch (IOException e) {
+            System.err.println("Error reading binary level " + file.getAbsolutePath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads a .kutl classpath resource; resources inside a jar cannot be mapped, so it is read into memory
+     * @return The grid, or null if the resource is missing, of another kind or corrupt
+     */
+    public static int[][] readResource(String resourcePath, byte kind) {
+        try (InputStream is = LevelBinaryIO.class.getResourceAsStream(resourcePath)) {
+            if (is == null) return null;
+            return decode(ByteBuffer.wrap(is.readAllBytes()), kind, resourcePath);
+        } catch (IOException e) {
+            System.err.println("Error reading binary level " + resourcePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return true if both files exist and binary is at least as new as json. A binary
+     *         left behind by a deleted JSON is stale, so a deleted level stays deleted.
+     */
+    public static boolean isUpToDate(File binary, File json) {
+        return binary.isFile() && json.isFile() && binary.lastModified() >= json.lastModified();
+    }
+
+    /**
+     * Same check for a pair of classpath resources. Resources that are not plain files
+     * (e.g. inside a jar) cannot be edited separately, so an existing binary is trusted.
+     */
+    public static boolean isResourceUpToDate(String binaryPath, String jsonPath) {
+        URL binary = LevelBinaryIO.class.getResource(binaryPath);
+        if (binary == null) return false;
+        URL json = LevelBinaryIO.class.getResource(jsonPath);
+        if (json == null) return false;
+        if (!"file".equals(binary.getProtocol()) || !"file".equals(json.getProtocol())) {
+            return true;
+        }
+        try {
+            return isUpToDate(new File(binary.toURI()), new File(json.toURI()));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Binary file that sits next to the given JSON file
+     */
+    public static File binaryFileFor(File jsonFile) {
+        String name = jsonFile.getName();
+        if (name.endsWith(".json")) name = name.substring(0, name.length() - ".json".length());
+        return new File(jsonFile.getParentFile(), name + EXTENSION);
+    }
+
+    private static int[][] decode(ByteBuffer buffer, byte kind, String source) {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            System.err.println("Not a binary level file: " + source);
+            return null;
+        }
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            System.err.println("Unsupported binary level version " + version + " in " + source);
+            return null;
+        }
+        byte storedKind = buffer.get();
+        int cellBytes = buffer.get();
+        int rows = buffer.getInt();
+        int cols = buffer.getInt();
+        if (storedKind != kind || (cellBytes != 1 && cellBytes != 4) || rows <= 0 || cols <= 0
+                || (long) rows * cols * cellBytes != buffer.remaining()) {
+            System.err.println("Corrupt binary level file: " + source);
+            return null;
+        }
+
+        int[][] grid = new int[rows][cols];
+        if (cellBytes == 1) {
+            byte[] packedRow = new byte[cols];
+            for (int[] row : grid) {
+                buffer.get(packedRow);
+                for (int x = 0; x < cols; x++) row[x] = packedRow[x];
+            }
+        } else {
+            for (int[] row : grid) {
+                buffer.asIntBuffer().get(row);
+                buffer.position(buffer.position() + cols * Integer.BYTES);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Converts every JSON level and overlay in the given folders (the game's level
+     * folders by default) to .kutl files next to them.
+     *
+     * Usage: java helpMethods.LevelBinaryIO [levelsDir] [overlaysDir]
+     */
+    public static void main(String[] args) {
+        File levelsDir = new File(args.length > 0 ? args[0] : LoadSave.getLevelsDirectoryPath());
+        File overlaysDir = new File(args.length > 1 ? args[1] : LoadSave.getLevelOverlaysDirectoryPath());
+
+        int converted = convertDirectory(levelsDir, KIND_TILES) + convertDirectory(overlaysDir, KIND_OVERLAY);
+        System.out.println("Converted " + converted + " files to " + EXTENSION);
+    }
+
+    private static int convertDirectory(File dir, byte kind) {
+        File[] files = dir.listFiles((folder, name) -> name.endsWith(".json"));
+        if (files == null) {
+            System.err.println("Folder not found: " + dir.getAbsolutePath());
+            return 0;
+        }
+        int converted = 0;
+        for (File json : files) {
+            int[][] grid = kind == KIND_TILES ? LoadSave.readLevelJson(json) : LoadSave.readOverlayJson(json);
+            if (grid != null && write(binaryFileFor(json), grid, kind)) {
+                converted++;
+            } else {
+                System.err.println("Could not convert " + json.getName());
+            }
+        }
+        return converted;
+    }
+}
@@ -21,7 +21,6 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
 
 import constants.GameDimensions;
 import objects.Warrior;
@@ -31,34 +30,24 @@ public class LoadSave {
 
     private static final Gson GSON = new Gson();
 
-    public static BufferedImage getSpriteAtlas() {
-
-        BufferedImage img = null;
-        InputStream is = LoadSave.class.getResourceAsStream("/Tiles/Tileset64.png");
-
-        try {
-            img = ImageIO.read(is);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    public static final String TILE_ATLAS_PATH = "/Tiles/Tileset64.png";
+    public static final String WATER_TILESET_PATH = "/Tiles/waterTileSet.png";
+    public static final String MEDIUM_SNOW_ATLAS_PATH = "/Tiles/midSnow.png";
+    public static final String FULL_SNOW_ATLAS_PATH = "/Tiles/fullSnow.png";
+    public static final int ARROW_FRAME_COUNT = 72;
+    public static final int WIZARD_FRAME_COUNT = 72;
 
-        return img;
+    // Decoded once through SpriteRegistry; TileManager only slices it, so the shared copy is safe
+    public static BufferedImage getSpriteAtlas() {
+        return SpriteRegistry.getInstance().getImage(TILE_ATLAS_PATH);
     }
 
     public static BufferedImage getWaterTileSet() {
-
-        BufferedImage img = null;
-        InputStream is = LoadSave.class.getResourceAsStream("/Tiles/waterTileSet.png");
-
-        try {
-            img = ImageIO.read(is);
-        } catch (IOException e) {
-            e.printStackTrace();
+        BufferedImage img = SpriteRegistry.getInstance().getImage(WATER_TILESET_PATH);
+        if (img == null) {
+            return null;
         }
-
-        img = resizeImage(img, GameDimensions.TILE_DISPLAY_SIZE*3, GameDimensions.TILE_DISPLAY_SIZE*3);
-
-        return img;
+        return resizeImage(img, GameDimensions.TILE_DISPLAY_SIZE*3, GameDimensions.TILE_DISPLAY_SIZE*3);
     }
 
     public static BufferedImage getEnemyAtlas(String enemyType) {
@@ -144,7 +133,7 @@ public class LoadSave {
     /**
      * Gets the appropriate levels directory path based on project structure
      */
-    private static String getLevelsDirectoryPath() {
+    static String getLevelsDirectoryPath() {
         // Try multiple possible paths in order of preference
         String[] possiblePaths = {
                 "src/main/resources/Levels",           // Standard Maven structure from project root
@@ -173,7 +162,7 @@ public class LoadSave {
     /**
      * Gets the appropriate level overlays directory path based on project structure
      */
-    private static String getLevelOverlaysDirectoryPath() {
+    static String getLevelOverlaysDirectoryPath() {
         // Try multiple possible paths in order of preference
         String[] possiblePaths = {
                 "src/main/resources/LevelOverlays",           // Standard Maven structure from project root
@@ -220,24 +209,17 @@ public class LoadSave {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        // Written after the JSON so it is never older than it
+        LevelBinaryIO.write(LevelBinaryIO.binaryFileFor(file), tiles, LevelBinaryIO.KIND_TILES);
     }
 
     //This funcion gets the created level's data from Levels folder under resources
     public static int[][] getLevelData(String fileName) {
-        InputStream is = LoadSave.class.getResourceAsStream("/Levels/" + fileName + ".json");
-        if (is == null) {
+        int[][] level = loadGridResource("/Levels/" + fileName + ".json", LevelBinaryIO.KIND_TILES);
+        if (level == null) {
             System.err.println("Level file not found: /Levels/" + fileName + ".json");
-            return null;
-        }
-
-        try (Reader reader = new InputStreamReader(is)) {
-            JsonObject root = GSON.fromJson(reader, JsonObject.class);
-            JsonArray tilesJson = root.getAsJsonArray("tiles");
-            return GSON.fromJson(tilesJson, int[][].class);
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
         }
+        return level;
     }
 
 
@@ -305,63 +287,124 @@ public class LoadSave {
 
         System.out.println("Checking level file: " + levelFile.getAbsolutePath() + " - exists: " + levelFile.exists());
 
-        if (levelFile.exists()) {
-            try (FileReader reader = new FileReader(levelFile)) {
-                JsonObject jsonObject = JsonParser.parseReader(reader).getAsJsonObject();
-                JsonArray tilesArray = jsonObject.getAsJsonArray("tiles");
-
-                int rows = tilesArray.size();
-                int cols = tilesArray.get(0).getAsJsonArray().size();
-                int[][] level = new int[rows][cols];
-
-                for (int i = 0; i < rows; i++) {
-                    JsonArray row = tilesArray.get(i).getAsJsonArray();
-                    for (int j = 0; j < cols; j++) {
-                        level[i][j] = row.get(j).getAsInt();
-                    }
-                }
-                System.out.println("Level successfully loaded from file system: " + levelName + " at " + levelFilePath);
-                return level;
-            } catch (Exception e) {
-                System.out.println("Error loading level from file system: " + levelFilePath + " - " + e.getMessage());
-                e.printStackTrace();
-            }
+        int[][] level = loadGridFile(levelFile, LevelBinaryIO.KIND_TILES);
+        if (level != null) {
+            System.out.println("Level successfully loaded from file system: " + levelName + " at " + levelFilePath);
+            return level;
         }
 
         // Fallback: try to load from classpath (for built-in levels)
         String resourcePath = "/Levels/" + levelName + ".json";
-        InputStream is = LoadSave.class.getResourceAsStream(resourcePath);
-
         System.out.println("Attempting to load level from classpath: " + resourcePath);
 
-        if (is == null) {
+        level = loadGridResource(resourcePath, LevelBinaryIO.KIND_TILES);
+        if (level == null) {
             System.out.println("Level resource not found in classpath: " + resourcePath);
             return null;
         }
+        System.out.println("Level successfully loaded from classpath: " + levelName);
+        return level;
+    }
 
-        try (InputStreamReader reader = new InputStreamReader(is)) {
-            JsonObject jsonObject = JsonParser.parseReader(reader).getAsJsonObject();
-            JsonArray tilesArray = jsonObject.getAsJsonArray("tiles");
+    /**
+     * Reads a level or overlay from the file system, preferring its .kutl copy when it is up to date.
+     * When only the JSON is current, it is parsed and the .kutl is (re)written for the next load.
+     * @return The grid, or null if neither file could be read
+     */
+    private static int[][] loadGridFile(File jsonFile, byte kind) {
+        File binaryFile = LevelBinaryIO.binaryFileFor(jsonFile);
+        if (LevelBinaryIO.isUpToDate(binaryFile, jsonFile)) {
+            int[][] grid = LevelBinaryIO.read(binaryFile, kind);
+            if (grid != null) {
+                return grid;
+            }
+        }
+        if (!jsonFile.exists()) {
+            return null;
+        }
 
-            int rows = tilesArray.size();
-            int cols = tilesArray.get(0).getAsJsonArray().size();
-            int[][] level = new int[rows][cols];
+        int[][] grid = kind == LevelBinaryIO.KIND_TILES ? readLevelJson(jsonFile) : readOverlayJson(jsonFile);
+        if (grid != null) {
+            LevelBinaryIO.write(binaryFile, grid, kind);
+        }
+        return grid;
+    }
 
-            for (int i = 0; i < rows; i++) {
-                JsonArray row = tilesArray.get(i).getAsJsonArray();
-                for (int j = 0; j < cols; j++) {
-                    level[i][j] = row.get(j).getAsInt();
-                }
+    /**
+     * Classpath counterpart of loadGridFile; resources are never written to
+     * @param jsonPath Resource path of the JSON file, the .kutl is looked up next to it
+     */
+    private static int[][] loadGridResource(String jsonPath, byte kind) {
+        String binaryPath = jsonPath.substring(0, jsonPath.length() - ".json".length()) + LevelBinaryIO.EXTENSION;
+        if (LevelBinaryIO.isResourceUpToDate(binaryPath, jsonPath)) {
+            int[][] grid = LevelBinaryIO.readResource(binaryPath, kind);
+            if (grid != null) {
+                return grid;
             }
-            System.out.println("Level successfully loaded from classpath: " + levelName);
-            return level;
+        }
+
+        InputStream is = LoadSave.class.getResourceAsStream(jsonPath);
+        if (is == null) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(is)) {
+            return kind == LevelBinaryIO.KIND_TILES ? parseLevelJson(reader) : parseOverlayJson(reader);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error loading JSON from classpath: " + jsonPath + " - " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // JSON import path for level tiles, also used by the LevelBinaryIO converter
+    static int[][] readLevelJson(File levelFile) {
+        try (FileReader reader = new FileReader(levelFile)) {
+            return parseLevelJson(reader);
+        } catch (Exception e) {
+            System.out.println("Error loading level from file system: " + levelFile.getPath() + " - " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // JSON import path for overlays, also used by the LevelBinaryIO converter
+    static int[][] readOverlayJson(File overlayFile) {
+        try (FileReader reader = new FileReader(overlayFile)) {
+            return parseOverlayJson(reader);
         } catch (Exception e) {
-            System.out.println("Error loading level from classpath: " + resourcePath + " - " + e.getMessage());
+            System.out.println("Error loading overlay from file system: " + overlayFile.getPath() + " - " + e.getMessage());
             e.printStackTrace();
             return null;
         }
     }
 
+    private static int[][] parseLevelJson(Reader reader) {
+        JsonObject jsonObject = JsonParser.parseReader(reader).getAsJsonObject();
+        JsonArray tilesArray = jsonObject.getAsJsonArray("tiles");
+
+        int rows = tilesArray.size();
+        int cols = tilesArray.get(0).getAsJsonArray().size();
+        int[][] level = new int[rows][cols];
+
+        for (int i = 0; i < rows; i++) {
+            JsonArray row = tilesArray.get(i).getAsJsonArray();
+            for (int j = 0; j < cols; j++) {
+                level[i][j] = row.get(j).getAsInt();
+            }
+        }
+        return level;
+    }
+
+    private static int[][] parseOverlayJson(Reader reader) {
+        JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+        JsonElement overlayElement = root.get("overlay");
+        if (overlayElement == null) {
+            System.out.println("Overlay data not found in JSON");
+            return null;
+        }
+        return GSON.fromJson(overlayElement, int[][].class);
+    }
+
     public static BufferedImage getImageFromPath(String path) {
         BufferedImage img = null;
         InputStream is = LoadSave.class.getResourceAsStream(path);
@@ -396,6 +439,7 @@ public class LoadSave {
         } catch (IOException e) {
             throw new RuntimeException("Error saving overlay: " + e.getMessage());
         }
+        LevelBinaryIO.write(LevelBinaryIO.binaryFileFor(file), overlay, LevelBinaryIO.KIND_OVERLAY);
     }
 
     public static int[][] loadOverlay(String fileName) {
@@ -406,52 +450,23 @@ public class LoadSave {
 
         System.out.println("Checking overlay file: " + overlayFile.getAbsolutePath() + " - exists: " + overlayFile.exists());
 
-        if (overlayFile.exists()) {
-            try (FileReader reader = new FileReader(overlayFile)) {
-                JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
-                JsonElement overlayElement = root.get("overlay");
-                if (overlayElement == null) {
-                    System.out.println("Overlay data not found in JSON for: " + fileName);
-                    return null;
-                }
-                System.out.println("Overlay successfully loaded from file system: " + fileName + " at " + overlayFilePath);
-                return GSON.fromJson(overlayElement, int[][].class);
-            } catch (Exception e) {
-                System.out.println("Error loading overlay from file system: " + overlayFilePath + " - " + e.getMessage());
-                e.printStackTrace();
-            }
+        int[][] overlay = loadGridFile(overlayFile, LevelBinaryIO.KIND_OVERLAY);
+        if (overlay != null) {
+            System.out.println("Overlay successfully loaded from file system: " + fileName + " at " + overlayFilePath);
+            return overlay;
         }
 
         // Fallback: try to load from classpath (for built-in overlays)
         String resourcePath = "/LevelOverlays/" + fileName + "_overlay.json";
-        InputStream is = LoadSave.class.getResourceAsStream(resourcePath);
-
         System.out.println("Attempting to load overlay from classpath: " + resourcePath);
 
-        if (is == null) {
+        overlay = loadGridResource(resourcePath, LevelBinaryIO.KIND_OVERLAY);
+        if (overlay == null) {
             System.out.println("Overlay resource not found in classpath: " + resourcePath);
             return null;
         }
-
-        Gson gson = new Gson(); // Gson can still be used for parsing the stream
-        try (InputStreamReader reader = new InputStreamReader(is)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
-            JsonElement overlayElement = root.get("overlay");
-            if (overlayElement == null) {
-                System.out.println("Overlay data not found in JSON for: " + fileName);
-                return null;
-            }
-            System.out.println("Overlay successfully loaded from classpath: " + fileName);
-            return gson.fromJson(overlayElement, int[][].class);
-        } catch (IOException e) {
-            System.err.println("Error loading overlay from classpath: " + resourcePath + " - " + e.getMessage());
-            e.printStackTrace(); // It's good to print stack trace for IOExceptions during loading
-            return null;
-        } catch (JsonSyntaxException e) {
-            System.err.println("Error parsing overlay JSON from classpath: " + resourcePath + " - " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        System.out.println("Overlay successfully loaded from classpath: " + fileName);
+        return overlay;
     }
 
     public static BufferedImage[] getFireballAnimation() {
@@ -471,25 +486,29 @@ public class LoadSave {
         return frames;
     }
 
+    /**
+     * Explosion frames scaled to 32x32, shared through SpriteRegistry
+     */
     public static BufferedImage[] getExplosionAnimation() {
-        final int frameCount = 5;
-        final int targetWidth = 32;
-        final int targetHeight = 32;
+        return SpriteRegistry.getInstance().getFrames("explosion", () -> {
+            final int frameCount = 5;
+            final int targetWidth = 32;
+            final int targetHeight = 32;
 
-        BufferedImage[] frames = new BufferedImage[frameCount];
-        BufferedImage spriteSheet = getImageFromPath("/Effects/Explosions.png");
+            BufferedImage spriteSheet = getImageFromPath("/Effects/Explosions.png");
+            if (spriteSheet == null) {
+                return null;
+            }
 
-        if (spriteSheet != null) {
+            BufferedImage[] frames = new BufferedImage[frameCount];
             int frameWidth = spriteSheet.getWidth() / frameCount;
             int frameHeight = spriteSheet.getHeight();
-
             for (int i = 0; i < frameCount; i++) {
                 BufferedImage frame = spriteSheet.getSubimage(i * frameWidth, 0, frameWidth, frameHeight);
                 frames[i] = resizeImage(frame, targetWidth, targetHeight);
             }
-        }
-
-        return frames;
+            return frames;
+        });
     }
 
     public static BufferedImage[] getGoldBagAnimation() {
@@ -518,39 +537,22 @@ public class LoadSave {
         }
     }
 
-    // Method to load arrow frames from files if they exist, otherwise load from resources
+    // Method to load pre-generated arrow frames, shared through SpriteRegistry
     public static BufferedImage[] loadArrowFrames(int frameCount) {
-        BufferedImage[] frames = new BufferedImage[frameCount];
-
-        // Try to load frames from files first
-        for (int i = 0; i < frameCount; i++) {
-            String framePath = "/TowerAssets/ArrowFrames/arrow_frame_" + i + ".png";
-            frames[i] = getImageFromPath(framePath);
-            if (frames[i] == null) {
-                return null; // If any frame is missing, return null to trigger generation
-            }
-        }
-
-        return frames;
+        return loadNumberedFrames("/TowerAssets/ArrowFrames/arrow_frame_", frameCount);
     }
 
-    // Method to load pre-generated fireball frames
+    // Method to load pre-generated fireball frames, one shared rotation set per animation frame
     public static BufferedImage[][] loadFireballFrames() {
         final int animationFrames = 5;
         final int rotationFrames = 36;
 
-        BufferedImage[][] frames = new BufferedImage[animationFrames][rotationFrames];
-
-        // Try to load all frames
+        BufferedImage[][] frames = new BufferedImage[animationFrames][];
         for (int animFrame = 0; animFrame < animationFrames; animFrame++) {
-            for (int rotFrame = 0; rotFrame < rotationFrames; rotFrame++) {
-                String framePath = "/TowerAssets/FireballFrames/fireball_anim_" +
-                        animFrame + "_rot_" + rotFrame + ".png";
-                frames[animFrame][rotFrame] = getImageFromPath(framePath);
-
-                if (frames[animFrame][rotFrame] == null) {
-                    return null; // If any frame is missing, return null to trigger generation
-                }
+            frames[animFrame] = loadNumberedFrames(
+                    "/TowerAssets/FireballFrames/fireball_anim_" + animFrame + "_rot_", rotationFrames);
+            if (frames[animFrame] == null) {
+                return null; // If any frame is missing, return null to trigger generation
             }
         }
 
@@ -558,76 +560,72 @@ public class LoadSave {
     }
 
     /**
-     * Get warrior run animation frames
+     * Loads prefix + i + ".png" for every i below frameCount
+     * @return Shared frames, or null if any frame is missing (not cached, so a later call sees regenerated files)
+     */
+    private static BufferedImage[] loadNumberedFrames(String prefix, int frameCount) {
+        return SpriteRegistry.getInstance().getFrames(prefix + "*" + frameCount, () -> {
+            BufferedImage[] frames = new BufferedImage[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                frames[i] = getImageFromPath(prefix + i + ".png");
+                if (frames[i] == null) {
+                    return null;
+                }
+            }
+            return frames;
+        });
+    }
+
+    /**
+     * Get warrior run animation frames, shared through SpriteRegistry
      * Archer: 800x100 with 8 frames (100x100 each, horizontal)
      * Wizard: 1848x190 with 8 frames (231x190 each, horizontal)
      */
     public static BufferedImage[] getWarriorRunAnimation(Warrior warrior) {
-        String path = "/Warriors/" + (warrior instanceof WizardWarrior ? "wizard_run.png" : "archer_run.png");
-        BufferedImage spriteSheet = getImageFromPath(path);
-
-        if (spriteSheet == null) {
-            return null;
-        }
-
-        final int frameCount = 8; // All new run sprites have 8 frames
-        BufferedImage[] frames = new BufferedImage[frameCount];
+        return getWarriorRunAnimation(warrior instanceof WizardWarrior);
+    }
 
-        if (warrior instanceof WizardWarrior) {
-            // Wizard: 1848x190 total, 8 frames = 231x190 each (horizontal layout)
-            int frameWidth = 231;
-            int frameHeight = 190;
-            for (int i = 0; i < frameCount; i++) {
-                frames[i] = spriteSheet.getSubimage(i * frameWidth, 0, frameWidth, frameHeight);
-            }
-        } else {
-            // Archer: 800x100 total, 8 frames = 100x100 each (horizontal layout)
-            int frameWidth = 100;
-            int frameHeight = 100;
-            for (int i = 0; i < frameCount; i++) {
-                frames[i] = spriteSheet.getSubimage(i * frameWidth, 0, frameWidth, frameHeight);
-            }
+    public static BufferedImage[] getWarriorRunAnimation(boolean wizard) {
+        if (wizard) {
+            return SpriteRegistry.getInstance().getStripFrames("/Warriors/wizard_run.png", 8, 231, 190);
         }
-
-        return frames;
+        return SpriteRegistry.getInstance().getStripFrames("/Warriors/archer_run.png", 8, 100, 100);
     }
 
     /**
-     * Get warrior attack animation frames
+     * Get warrior attack animation frames, shared through SpriteRegistry
      * Archer: 600x100 with 6 frames (100x100 each, horizontal)
      * Wizard: 1848x190 with 8 frames (231x190 each, horizontal)
      */
     public static BufferedImage[] getWarriorAttackAnimation(Warrior warrior) {
-        String path = "/Warriors/" + (warrior instanceof WizardWarrior ? "wizard_attack.png" : "archer_attack.png");
-        BufferedImage spriteSheet = getImageFromPath(path);
+        return getWarriorAttackAnimation(warrior instanceof WizardWarrior);
+    }
 
-        if (spriteSheet == null) {
-            return null;
+    public static BufferedImage[] getWarriorAttackAnimation(boolean wizard) {
+        if (wizard) {
+            return SpriteRegistry.getInstance().getStripFrames("/Warriors/wizard_attack.png", 8, 231, 190);
         }
+        return SpriteRegistry.getInstance().getStripFrames("/Warriors/archer_attack.png", 6, 100, 100);
+    }
 
-        BufferedImage[] frames;
-
-        if (warrior instanceof WizardWarrior) {
-            // Wizard: 1848x190 total, 8 frames = 231x190 each (horizontal layout)
-            final int frameCount = 8;
-            frames = new BufferedImage[frameCount];
-            int frameWidth = 231;
-            int frameHeight = 190;
-            for (int i = 0; i < frameCount; i++) {
-                frames[i] = spriteSheet.getSubimage(i * frameWidth, 0, frameWidth, frameHeight);
+    /**
+     * TNT warrior walk frames, cropped out of the TNT enemy sheet and shared through SpriteRegistry
+     * TNT: 1344x192 walk animation with 6 frames of 192x192; the TNT itself is the (60,60,100,72) area
+     * @return The frames, or null if the sheet could not be read
+     */
+    public static BufferedImage[] getTntWarriorRunAnimation() {
+        return SpriteRegistry.getInstance().getFrames("tnt_warrior_run", () -> {
+            BufferedImage tntSheet = SpriteRegistry.getInstance().getImage("/EnemyAssets/TNT_Red.png");
+            if (tntSheet == null) {
+                return null;
             }
-        } else {
-            // Archer: 600x100 total, 6 frames = 100x100 each (horizontal layout)
             final int frameCount = 6;
-            frames = new BufferedImage[frameCount];
-            int frameWidth = 100;
-            int frameHeight = 100;
+            BufferedImage[] frames = new BufferedImage[frameCount];
             for (int i = 0; i < frameCount; i++) {
-                frames[i] = spriteSheet.getSubimage(i * frameWidth, 0, frameWidth, frameHeight);
+                frames[i] = tntSheet.getSubimage(i * 192 + 60, 60, 100, 72);
             }
-        }
-
-        return frames;
+            return frames;
+        });
     }
 
     /**
@@ -643,7 +641,7 @@ public class LoadSave {
         try {
             boolean success = true;
 
-            BufferedImage mediumSnowAtlas = getImageFromPath("/Tiles/midSnow.png");
+            BufferedImage mediumSnowAtlas = SpriteRegistry.getInstance().getImage(MEDIUM_SNOW_ATLAS_PATH);
             if (mediumSnowAtlas != null) {
                 extractSnowTilesFromAtlas(mediumSnowAtlas, mediumSnowTiles, spriteCache, "medium");
                 System.out.println("Medium snow tileset loaded successfully");
@@ -652,7 +650,7 @@ public class LoadSave {
                 success = false;
             }
 
-            BufferedImage fullSnowAtlas = getImageFromPath("/Tiles/fullSnow.png");
+            BufferedImage fullSnowAtlas = SpriteRegistry.getInstance().getImage(FULL_SNOW_ATLAS_PATH);
             if (fullSnowAtlas != null) {
                 extractSnowTilesFromAtlas(fullSnowAtlas, fullSnowTiles, spriteCache, "full");
                 System.out.println("Full snow tileset loaded successfully");
@@ -756,20 +754,9 @@ public class LoadSave {
         System.out.println("Extracted " + tileId + " tiles from " + type + " snow atlas");
     }
 
-    // Method to load wizard projectile frames from files if they exist
+    // Method to load pre-generated wizard projectile frames, shared through SpriteRegistry
     public static BufferedImage[] loadWizardFrames(int frameCount) {
-        BufferedImage[] frames = new BufferedImage[frameCount];
-
-        // Try to load frames from files first
-        for (int i = 0; i < frameCount; i++) {
-            String framePath = "/TowerAssets/WizardFrames/wizard_frame_" + i + ".png";
-            frames[i] = getImageFromPath(framePath);
-            if (frames[i] == null) {
-                return null; // If any frame is missing, return null to trigger generation
-            }
-        }
-
-        return frames;
+        return loadNumberedFrames("/TowerAssets/WizardFrames/wizard_frame_", frameCount);
     }
 
 }
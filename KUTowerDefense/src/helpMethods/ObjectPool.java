@@ -0,0 +1,129 @@
+package helpMethods;
+
+import java.io.PrintStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Free list of reusable objects for entities that are created and dropped in
+ * bursts (projectiles, gold bags, particles, debris).
+ *
+ * obtain() returns a free object, or a new one from the factory when the pool is
+ * empty; release() resets the object (if it is Poolable) and keeps it for the next
+ * obtain(). At most maxIdle free objects are kept, so a one-off burst does not pin
+ * memory forever. After warm-up a steady stream of shots or particles allocates
+ * nothing. Released objects must not be used by the caller any more.
+ *
+ * Every pool tracks how many objects it created, reused and holds, and the highest
+ * number in use at once (high-water mark); printReport() lists all live pools.
+ * Pools are usually filled on the simulation thread and some (debris) are emptied
+ * while drawing, so obtain and release are synchronized.
+ */
+public class ObjectPool<T> {
+
+    private static final List<WeakReference<ObjectPool<?>>> POOLS = new ArrayList<>();
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final Object[] free;
+    private int freeCount = 0;
+
+    private int inUse = 0;
+    private int highWaterMark = 0;
+    private long created = 0;
+    private long reused = 0;
+    private long dropped = 0;
+
+    /**
+     * @param name Shown in the pool report
+     * @param factory Creates a new object when the pool is empty
+     * @param maxIdle Most free objects kept; further releases are left to the garbage collector
+     */
+    public ObjectPool(String name, Supplier<T> factory, int maxIdle) {
+        this.name = name;
+        this.factory = factory;
+        this.free = new Object[maxIdle];
+        synchronized (POOLS) {
+            POOLS.add(new WeakReference<>(this));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized T obtain() {
+        T object;
+        if (freeCount > 0) {
+            object = (T) free[--freeCount];
+            free[freeCount] = null;
+            reused++;
+        } else {
+            object = factory.get();
+            created++;
+        }
+        inUse++;
+        if (inUse > highWaterMark) highWaterMark = inUse;
+        return object;
+    }
+
+    public synchronized void release(T object) {
+        if (object == null) return;
+        if (object instanceof Poolable) {
+            ((Poolable) object).reset();
+        }
+        if (inUse > 0) inUse--;
+        if (freeCount < free.length) {
+            free[freeCount++] = object;
+        } else {
+            dropped++;
+        }
+    }
+
+    /**
+     * Releases every object in the list and clears it
+     */
+    public synchronized void releaseAll(List<? extends T> objects) {
+        for (T object : objects) {
+            release(object);
+        }
+        objects.clear();
+    }
+
+    public String getName() { return name; }
+    public synchronized int getFreeCount() { return freeCount; }
+    public synchronized int getInUseCount() { return inUse; }
+    public synchronized int getHighWaterMark() { return highWaterMark; }
+    public synchronized long getCreatedCount() { return created; }
+    public synchronized long getReusedCount() { return reused; }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.ROOT, "%-28s in use %5d  free %5d  peak %5d  created %7d  reused %9d  dropped %6d",
+                name, inUse, freeCount, highWaterMark, created, reused, dropped);
+    }
+
+    /**
+     * Snapshot of every pool that is still reachable
+     */
+    public static List<ObjectPool<?>> getPools() {
+        List<ObjectPool<?>> pools = new ArrayList<>();
+        synchronized (POOLS) {
+            Iterator<WeakReference<ObjectPool<?>>> it = POOLS.iterator();
+            while (it.hasNext()) {
+                ObjectPool<?> pool = it.next().get();
+                if (pool == null) it.remove();
+                else pools.add(pool);
+            }
+        }
+        return pools;
+    }
+
+    public static void printReport(PrintStream out) {
+        out.println("=== OBJECT POOLS ===");
+        for (ObjectPool<?> pool : getPools()) {
+            out.println(pool);
+        }
+    }
+}
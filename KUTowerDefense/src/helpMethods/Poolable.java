@@ -0,0 +1,14 @@
+package helpMethods;
+
+/**
+ * An object that can be handed back to an ObjectPool and reused
+ */
+public interface Poolable {
+
+    /**
+     * Called when the object goes back to its pool. Drop references to other game
+     * objects here so a pooled object does not keep them alive; the owner sets
+     * every field again when it takes the object out of the pool.
+     */
+    void reset();
+}
@@ -0,0 +1,152 @@
+package helpMethods;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of decoded sprites and sliced animation frames.
+ *
+ * Every atlas is decoded from the classpath at most once. Frames are copied out
+ * of their atlas into standalone images compatible with the screen, so Java2D can
+ * keep them in accelerated memory instead of drawing from a sub-image of a large
+ * sheet. Images and frame arrays are shared between all callers: treat them as
+ * read-only and never draw into them or write into the arrays.
+ *
+ * Objects that are created mid-wave (warriors, TNT warriors, upgraded towers) get
+ * their sprites from here, and preloadGameplaySprites() fills the cache when a
+ * level starts so none of them touch the disk during play.
+ */
+public class SpriteRegistry {
+
+    private static SpriteRegistry instance;
+
+    private final Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+    private final Map<String, BufferedImage[]> frames = new ConcurrentHashMap<>();
+    // Paths that could not be read; asked for again, they return null without another attempt or log line
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    private SpriteRegistry() {}
+
+    public static synchronized SpriteRegistry getInstance() {
+        if (instance == null) {
+            instance = new SpriteRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * @param path Classpath resource, e.g. "/TowerAssets/archer_up.png"
+     * @return The decoded image, or null if the resource could not be read
+     */
+    public BufferedImage getImage(String path) {
+        BufferedImage cached = images.get(path);
+        if (cached != null || missing.contains(path)) {
+            return cached;
+        }
+
+        // getImageFromPath throws on a resource that does not exist; treat that like an unreadable one
+        BufferedImage decoded = LoadSave.class.getResource(path) != null ? LoadSave.getImageFromPath(path) : null;
+        if (decoded == null) {
+            if (missing.add(path)) {
+                System.err.println("SpriteRegistry: Could not load " + path);
+            }
+            return null;
+        }
+        BufferedImage image = toCompatibleImage(decoded);
+        BufferedImage previous = images.putIfAbsent(path, image);
+        return previous != null ? previous : image;
+    }
+
+    /**
+     * Frames laid out left to right in a single-row sheet
+     * @return Shared frames, or null if the sheet could not be read
+     */
+    public BufferedImage[] getStripFrames(String path, int frameCount, int frameWidth, int frameHeight) {
+        String key = path + "#" + frameCount + "x" + frameWidth + "x" + frameHeight;
+        return getFrames(key, () -> {
+            BufferedImage sheet = getImage(path);
+            if (sheet == null) {
+                return null;
+            }
+            BufferedImage[] sliced = new BufferedImage[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                sliced[i] = sheet.getSubimage(i * frameWidth, 0, frameWidth, frameHeight);
+            }
+            return sliced;
+        });
+    }
+
+    /**
+     * Returns the frames registered under key, building them with slicer the first time.
+     * Whatever the slicer returns (sub-images, scaled copies...) is copied into
+     * standalone compatible images before it is cached.
+     * @param slicer Builds the frames; may return null if the source is missing, which is not cached
+     */
+    public BufferedImage[] getFrames(String key, Supplier<BufferedImage[]> slicer) {
+        BufferedImage[] cached = frames.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        BufferedImage[] sliced = slicer.get();
+        if (sliced == null) {
+            return null;
+        }
+        BufferedImage[] compatible = new BufferedImage[sliced.length];
+        for (int i = 0; i < sliced.length; i++) {
+            compatible[i] = sliced[i] != null ? toCompatibleImage(sliced[i]) : null;
+        }
+        BufferedImage[] previous = frames.putIfAbsent(key, compatible);
+        return previous != null ? previous : compatible;
+    }
+
+    /**
+     * Loads the sprites of everything that can appear mid-wave, so spawning
+     * warriors or upgrading towers never decodes a PNG during play
+     */
+    public void preloadGameplaySprites() {
+        LoadSave.getWarriorRunAnimation(true);
+        LoadSave.getWarriorRunAnimation(false);
+        LoadSave.getWarriorAttackAnimation(true);
+        LoadSave.getWarriorAttackAnimation(false);
+        LoadSave.getTntWarriorRunAnimation();
+        LoadSave.getExplosionAnimation();
+
+        getImage("/TowerAssets/archer_up.png");
+        getImage("/TowerAssets/mage_up.png");
+        getImage("/TowerAssets/artillery_up.png");
+        getImage("/TowerAssets/Tower_archer_destroyed.png");
+        getImage("/TowerAssets/Tower_spell_destroyed.png");
+        getImage("/TowerAssets/Tower_bomb_destroyed.png");
+        getImage("/TowerAssets/Tower_poison_destroyed.png");
+    }
+
+    public int getCachedImageCount() { return images.size(); }
+    public int getCachedAnimationCount() { return frames.size(); }
+
+    private static BufferedImage toCompatibleImage(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        BufferedImage copy;
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice()
+                    .getDefaultConfiguration();
+            copy = config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        } else {
+            copy = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        Graphics2D g2d = copy.createGraphics();
+        g2d.drawImage(source, 0, 0, null);
+        g2d.dispose();
+        return copy;
+    }
+}
@@ -2,41 +2,109 @@ package helpMethods;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
+import java.util.Properties;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import javax.imageio.ImageIO;
 
 /**
  * Manages caching of map preview thumbnails both in memory and on disk.
- * Provides cache invalidation when maps are edited or created.
+ *
+ * Thumbnails are keyed by a SHA-1 of the tile grid (see contentHash), so a map
+ * that was edited simply misses and identical maps under different names share
+ * one entry. The memory side is an LRU bounded by a byte budget
+ * (-Dkutd.thumbnailCacheBytes, 16MB by default). On disk every thumbnail is
+ * <hash>.png, and a single index file maps level names to hashes: lookups,
+ * invalidations and removals go through the index and never list the directory.
+ * A disk thumbnail is deleted once no level refers to it anymore.
+ * Thread-safe: ThumbnailLoader reads and fills it from its worker threads. Only
+ * the memory cache and the index in memory are changed under the monitor, so the
+ * EDT's memory lookups never wait on the disk: PNG encoding, file writes, deletes
+ * and index saves run in order on a single writer thread, and PNG reads happen
+ * outside the lock. Index saves are delayed briefly so that a page of new
+ * thumbnails rewrites the index once rather than once per thumbnail.
  */
 public class ThumbnailCache {
     private static ThumbnailCache instance;
 
-    // In-memory cache: levelName -> BufferedImage
-    private final Map<String, BufferedImage> memoryCache = new HashMap<>();
+    // Runs every disk change in the order it was made, so a delete never overtakes its write
+    private static final ScheduledThreadPoolExecutor DISK_WRITER = createDiskWriter();
+    private static final long INDEX_SAVE_DELAY_MS = 250;
+    // Cache files named after a content hash; anything else in the directory is not ours to delete
+    private static final Pattern THUMBNAIL_FILE = Pattern.compile("[0-9a-f]{40}\\.png");
 
-    // Track which levels have been modified in this session
-    private final Set<String> modifiedLevels = new HashSet<>();
+    private static final long DEFAULT_MEMORY_BUDGET_BYTES = 16L * 1024 * 1024;
+
+    // In-memory LRU: content hash -> thumbnail, least recently used first
+    private final LinkedHashMap<String, BufferedImage> memoryCache = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBudgetBytes = Long.getLong("kutd.thumbnailCacheBytes", DEFAULT_MEMORY_BUDGET_BYTES);
+    private long memoryBytes = 0;
+
+    // Disk index: levelName -> content hash of its thumbnail file; null until first loaded
+    private Map<String, String> diskIndex;
+    // Number of levels referring to each hash in the disk index
+    private final Map<String, Integer> diskReferences = new HashMap<>();
+    // Thumbnails in the index whose PNG is still queued for the disk writer
+    private final Map<String, BufferedImage> pendingWrites = new HashMap<>();
+    // An index save is waiting on the disk writer and will pick up every change made until it runs
+    private boolean indexSaveScheduled = false;
+
+    private long memoryHits = 0;
+    private long diskHits = 0;
+    private long misses = 0;
+    private long evictions = 0;
 
     // Cache directory path
     private static final String CACHE_DIR_NAME = "ThumbnailCache";
+    private static final String INDEX_FILE_NAME = "index.properties";
 
     private ThumbnailCache() {
         // Private constructor for singleton
     }
 
-    public static ThumbnailCache getInstance() {
+    public static synchronized ThumbnailCache getInstance() {
         if (instance == null) {
             instance = new ThumbnailCache();
         }
         return instance;
     }
 
+    private static ScheduledThreadPoolExecutor createDiskWriter() {
+        ScheduledThreadPoolExecutor writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.setKeepAliveTime(30, TimeUnit.SECONDS);
+        writer.allowCoreThreadTimeOut(true);
+        // Let queued thumbnails and the delayed index save reach the disk when the game exits
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "thumbnail-writer-shutdown"));
+        return writer;
+    }
+
     /**
      * Gets the appropriate cache directory path based on project structure
      * Uses the same flexible approach as LoadSave
@@ -73,44 +141,126 @@ public class ThumbnailCache {
         }
     }
 
+    /**
+     * SHA-1 over the packed tile grid (rows, columns, then every cell), as hex
+     */
+    public static String contentHash(int[][] levelData) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+
+        int cols = levelData.length > 0 && levelData[0] != null ? levelData[0].length : 0;
+        ByteBuffer row = ByteBuffer.allocate(Integer.BYTES * Math.max(2, cols));
+        row.putInt(levelData.length).putInt(cols);
+        digest.update(row.array(), 0, row.position());
+        for (int[] cells : levelData) {
+            int length = cells == null ? 0 : cells.length;
+            if (row.capacity() < Integer.BYTES * length) {
+                row = ByteBuffer.allocate(Integer.BYTES * length);
+            }
+            row.clear();
+            for (int i = 0; i < length; i++) {
+                row.putInt(cells[i]);
+            }
+            digest.update(row.array(), 0, row.position());
+        }
+
+        StringBuilder hex = new StringBuilder(40);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
     /**
      * Gets a thumbnail from cache (memory first, then disk)
      * @param levelName The name of the level
-     * @param levelDataHash Hash of the level data for validation
-     * @return Cached thumbnail or null if not found/invalid
+     * @param contentHash contentHash() of the level data
+     * @return Cached thumbnail or null if not found
      */
-    public BufferedImage getCachedThumbnail(String levelName, int levelDataHash) {
-        if (modifiedLevels.contains(levelName)) {
-            return null;
-        }
+    public BufferedImage getCachedThumbnail(String levelName, String contentHash) {
+        synchronized (this) {
+            BufferedImage memoryThumbnail = memoryCache.get(contentHash);
+            if (memoryThumbnail == null) {
+                // Evicted before the writer got to it: the file is not there yet
+                memoryThumbnail = pendingWrites.get(contentHash);
+            }
+            if (memoryThumbnail != null) {
+                memoryHits++;
+                shareDiskEntry(levelName, contentHash);
+                return memoryThumbnail;
+            }
 
-        BufferedImage memoryThumbnail = memoryCache.get(levelName);
-        if (memoryThumbnail != null) {
-            System.out.println("Thumbnail cache HIT (memory): " + levelName);
-            return memoryThumbnail;
+            loadIndexIfNeeded();
+            if (!diskReferences.containsKey(contentHash)) {
+                misses++;
+                System.out.println("Thumbnail cache MISS: " + levelName);
+                return null;
+            }
         }
 
-        BufferedImage diskThumbnail = loadThumbnailFromDisk(levelName, levelDataHash);
-        if (diskThumbnail != null) {
-            memoryCache.put(levelName, diskThumbnail);
+        BufferedImage diskThumbnail = loadThumbnailFromDisk(contentHash);
+
+        synchronized (this) {
+            if (diskThumbnail == null) {
+                forgetDiskEntry(contentHash);
+                misses++;
+                System.out.println("Thumbnail cache MISS: " + levelName);
+                return null;
+            }
+            diskHits++;
+            putInMemory(contentHash, diskThumbnail);
+            shareDiskEntry(levelName, contentHash);
             System.out.println("Thumbnail cache HIT (disk): " + levelName);
             return diskThumbnail;
         }
+    }
+
+    // An identical map under another name: record that it uses the same file
+    private void shareDiskEntry(String levelName, String contentHash) {
+        loadIndexIfNeeded();
+        if (diskReferences.containsKey(contentHash) && !contentHash.equals(diskIndex.get(levelName))) {
+            setIndexEntry(levelName, contentHash);
+            scheduleIndexSave();
+        }
+    }
 
-        System.out.println("Thumbnail cache MISS: " + levelName);
-        return null;
+    /**
+     * Memory-only lookup that never touches the disk, cheap enough for the EDT
+     * @return Cached thumbnail or null if it is not in memory
+     */
+    public synchronized BufferedImage getMemoryThumbnail(String contentHash) {
+        BufferedImage thumbnail = memoryCache.get(contentHash);
+        if (thumbnail != null) {
+            memoryHits++;
+        }
+        return thumbnail;
     }
 
     /**
-     * Stores a thumbnail in both memory and disk cache
+     * Stores a thumbnail in memory and queues it for the disk cache
      * @param levelName The name of the level
      * @param thumbnail The thumbnail image
-     * @param levelDataHash Hash of the level data for validation
+     * @param contentHash contentHash() of the level data
      */
-    public void cacheThumbnail(String levelName, BufferedImage thumbnail, int levelDataHash) {
-        memoryCache.put(levelName, thumbnail);
-        saveThumbnailToDisk(levelName, thumbnail, levelDataHash);
-        modifiedLevels.remove(levelName);
+    public synchronized void cacheThumbnail(String levelName, BufferedImage thumbnail, String contentHash) {
+        putInMemory(contentHash, thumbnail);
+
+        loadIndexIfNeeded();
+        if (!diskReferences.containsKey(contentHash)) {
+            pendingWrites.put(contentHash, thumbnail);
+            DISK_WRITER.execute(() -> {
+                saveThumbnailToDisk(contentHash, thumbnail);
+                synchronized (this) {
+                    pendingWrites.remove(contentHash, thumbnail);
+                }
+            });
+        }
+        setIndexEntry(levelName, contentHash);
+        scheduleIndexSave();
         System.out.println("Thumbnail cached: " + levelName);
     }
 
@@ -118,10 +268,9 @@ public class ThumbnailCache {
      * Invalidates cache for a specific level (when it's been modified)
      * @param levelName The name of the level that was modified
      */
-    public void invalidateLevel(String levelName) {
-        memoryCache.remove(levelName);
-        modifiedLevels.add(levelName);
-        deleteThumbnailFromDisk(levelName);
+    public synchronized void invalidateLevel(String levelName) {
+        // The edited map hashes differently and misses on its own; this just drops the old file if it is unused now
+        removeIndexEntry(levelName);
         System.out.println("Thumbnail cache invalidated: " + levelName);
     }
 
@@ -130,84 +279,215 @@ public class ThumbnailCache {
      * This is typically used when a level/save is deleted
      * @param levelName The name of the level to remove from cache
      */
-    public void removeThumbnail(String levelName) {
-        memoryCache.remove(levelName);
-        modifiedLevels.remove(levelName);
-        deleteThumbnailFromDisk(levelName);
+    public synchronized void removeThumbnail(String levelName) {
+        loadIndexIfNeeded();
+        String contentHash = diskIndex.get(levelName);
+        removeIndexEntry(levelName);
+        if (contentHash != null && !diskReferences.containsKey(contentHash)) {
+            removeFromMemory(contentHash);
+        }
         System.out.println("Thumbnail removed from cache: " + levelName);
     }
 
-
     /**
-     * Loads a thumbnail from disk cache
+     * Sets the memory budget, evicting least recently used thumbnails if the cache is over it
      */
-    private BufferedImage loadThumbnailFromDisk(String levelName, int expectedHash) {
-        String cacheDir = getCacheDirectoryPath();
-        String thumbnailPath = cacheDir + "/" + levelName + "_" + expectedHash + ".png";
-        File thumbnailFile = new File(thumbnailPath);
+    public synchronized void setMemoryBudget(long bytes) {
+        memoryBudgetBytes = Math.max(0, bytes);
+        evictToBudget();
+    }
 
-        if (!thumbnailFile.exists()) {
-            return null;
+    public synchronized long getMemoryBudget() {
+        return memoryBudgetBytes;
+    }
+
+    private void putInMemory(String contentHash, BufferedImage thumbnail) {
+        long size = estimateBytes(thumbnail);
+        if (size > memoryBudgetBytes) {
+            return;
+        }
+        BufferedImage previous = memoryCache.put(contentHash, thumbnail);
+        if (previous != null) {
+            memoryBytes -= estimateBytes(previous);
         }
+        memoryBytes += size;
+        evictToBudget();
+    }
 
-        try {
-            return ImageIO.read(thumbnailFile);
-        } catch (IOException e) {
-            System.err.println("Error loading thumbnail from disk: " + thumbnailPath + " - " + e.getMessage());
-            thumbnailFile.delete();
-            return null;
+    private void removeFromMemory(String contentHash) {
+        BufferedImage removed = memoryCache.remove(contentHash);
+        if (removed != null) {
+            memoryBytes -= estimateBytes(removed);
         }
     }
 
+    private void evictToBudget() {
+        Iterator<Map.Entry<String, BufferedImage>> eldestFirst = memoryCache.entrySet().iterator();
+        while (memoryBytes > memoryBudgetBytes && eldestFirst.hasNext()) {
+            memoryBytes -= estimateBytes(eldestFirst.next().getValue());
+            eldestFirst.remove();
+            evictions++;
+        }
+    }
+
+    private static long estimateBytes(BufferedImage image) {
+        // Thumbnails are 32-bit ARGB
+        return (long) image.getWidth() * image.getHeight() * 4;
+    }
+
+    private void setIndexEntry(String levelName, String contentHash) {
+        String previous = diskIndex.put(levelName, contentHash);
+        if (contentHash.equals(previous)) {
+            return;
+        }
+        diskReferences.merge(contentHash, 1, Integer::sum);
+        if (previous != null) {
+            releaseReference(previous);
+        }
+    }
+
+    private void removeIndexEntry(String levelName) {
+        loadIndexIfNeeded();
+        String previous = diskIndex.remove(levelName);
+        if (previous != null) {
+            releaseReference(previous);
+            scheduleIndexSave();
+        }
+    }
+
+    // Drops one reference to a thumbnail file and deletes the file when it was the last one
+    private void releaseReference(String contentHash) {
+        Integer remaining = diskReferences.merge(contentHash, -1, Integer::sum);
+        if (remaining != null && remaining <= 0) {
+            diskReferences.remove(contentHash);
+            File thumbnailFile = new File(getCacheDirectoryPath(), contentHash + ".png");
+            DISK_WRITER.execute(thumbnailFile::delete);
+        }
+    }
+
+    // A thumbnail file that turned out missing or unreadable: forget it so the next request regenerates it
+    private void forgetDiskEntry(String contentHash) {
+        if (!diskReferences.containsKey(contentHash) || pendingWrites.containsKey(contentHash)) {
+            return;
+        }
+        File thumbnailFile = new File(getCacheDirectoryPath(), contentHash + ".png");
+        DISK_WRITER.execute(thumbnailFile::delete);
+        diskIndex.values().removeIf(contentHash::equals);
+        diskReferences.remove(contentHash);
+        scheduleIndexSave();
+    }
+
     /**
-     * Saves a thumbnail to disk cache
+     * Reads the index file. Without one, no level refers to the hash-named thumbnails
+     * left in the directory; they are deleted once and the index starts empty. Other
+     * files, such as thumbnails of the old name-based layout, are left alone.
      */
-    private void saveThumbnailToDisk(String levelName, BufferedImage thumbnail, int levelDataHash) {
-        String cacheDir = getCacheDirectoryPath();
-        File cacheDirFile = new File(cacheDir);
+    private void loadIndexIfNeeded() {
+        if (diskIndex != null) {
+            return;
+        }
+        diskIndex = new HashMap<>();
+        File indexFile = new File(getCacheDirectoryPath(), INDEX_FILE_NAME);
 
-        if (!cacheDirFile.exists()) {
-            cacheDirFile.mkdirs();
+        if (!indexFile.exists()) {
+            File[] orphans = new File(getCacheDirectoryPath()).listFiles((dir, name) -> THUMBNAIL_FILE.matcher(name).matches());
+            if (orphans != null && orphans.length > 0) {
+                for (File file : orphans) {
+                    file.delete();
+                }
+                System.out.println("Thumbnail cache: removed " + orphans.length + " thumbnails without an index");
+            }
+            return;
         }
 
-        deleteThumbnailFromDisk(levelName);
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(indexFile)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.err.println("Error reading thumbnail index, starting empty: " + e.getMessage());
+            return;
+        }
+        for (String levelName : properties.stringPropertyNames()) {
+            setIndexEntry(levelName, properties.getProperty(levelName));
+        }
+    }
 
-        String thumbnailPath = cacheDir + "/" + levelName + "_" + levelDataHash + ".png";
-        File thumbnailFile = new File(thumbnailPath);
+    // Saves the index a little later on the disk writer; changes made meanwhile share the one write
+    private void scheduleIndexSave() {
+        if (indexSaveScheduled) {
+            return;
+        }
+        indexSaveScheduled = true;
+        File cacheDir = new File(getCacheDirectoryPath());
+        DISK_WRITER.schedule(() -> {
+            Properties properties = new Properties();
+            synchronized (this) {
+                indexSaveScheduled = false;
+                properties.putAll(diskIndex);
+            }
+            saveIndex(cacheDir, properties);
+        }, INDEX_SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
 
+    // Rewrites the index through a temporary file so a crash never leaves it half written
+    private static void saveIndex(File cacheDir, Properties properties) {
+        if (!cacheDir.exists()) {
+            cacheDir.mkdirs();
+        }
+
+        File indexFile = new File(cacheDir, INDEX_FILE_NAME);
+        File tempFile = new File(cacheDir, INDEX_FILE_NAME + ".tmp");
+        try (OutputStream out = new FileOutputStream(tempFile)) {
+            properties.store(out, "levelName=content hash of <hash>.png");
+        } catch (IOException e) {
+            System.err.println("Error saving thumbnail index: " + e.getMessage());
+            return;
+        }
         try {
-            ImageIO.write(thumbnail, "png", thumbnailFile);
+            Files.move(tempFile.toPath(), indexFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
-            System.err.println("Error saving thumbnail to disk: " + thumbnailPath + " - " + e.getMessage());
+            System.err.println("Error saving thumbnail index: " + e.getMessage());
         }
     }
 
     /**
-     * Deletes thumbnail files for a specific level from disk
+     * Loads a thumbnail from disk cache; called without holding the lock
+     * @return The thumbnail, or null if the file is missing or unreadable
      */
-    private void deleteThumbnailFromDisk(String levelName) {
-        String cacheDir = getCacheDirectoryPath();
-        File cacheDirFile = new File(cacheDir);
+    private BufferedImage loadThumbnailFromDisk(String contentHash) {
+        File thumbnailFile = new File(getCacheDirectoryPath(), contentHash + ".png");
+        try {
+            return ImageIO.read(thumbnailFile);
+        } catch (IOException e) {
+            System.err.println("Error loading thumbnail from disk: " + thumbnailFile.getPath() + " - " + e.getMessage());
+            return null;
+        }
+    }
 
+    /**
+     * Saves a thumbnail to disk cache; runs on the disk writer
+     */
+    private void saveThumbnailToDisk(String contentHash, BufferedImage thumbnail) {
+        File cacheDirFile = new File(getCacheDirectoryPath());
         if (!cacheDirFile.exists()) {
-            return;
+            cacheDirFile.mkdirs();
         }
 
-        File[] files = cacheDirFile.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (file.isFile() && file.getName().startsWith(levelName + "_") && file.getName().endsWith(".png")) {
-                    file.delete();
-                }
-            }
+        File thumbnailFile = new File(cacheDirFile, contentHash + ".png");
+        try {
+            ImageIO.write(thumbnail, "png", thumbnailFile);
+        } catch (IOException e) {
+            System.err.println("Error saving thumbnail to disk: " + thumbnailFile.getPath() + " - " + e.getMessage());
         }
     }
 
     /**
      * Gets cache statistics for debugging
      */
-    public String getCacheStats() {
-        return String.format("Memory cache: %d items, Modified levels: %d",
-                memoryCache.size(), modifiedLevels.size());
+    public synchronized String getCacheStats() {
+        return String.format("Memory cache: %d items, %d/%d KB, hits: %d memory + %d disk, misses: %d, evictions: %d, disk entries: %d",
+                memoryCache.size(), memoryBytes / 1024, memoryBudgetBytes / 1024,
+                memoryHits, diskHits, misses, evictions, diskReferences.size());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+package helpMethods;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Produces level preview thumbnails on a small background pool for the level and save browsers.
+ *
+ * request() answers straight away from the memory cache when it can; otherwise the
+ * level's thumbnail is read from the disk cache or rendered on a worker and handed to
+ * the callback on the EDT. prefetch() warms the cache for the next page, and
+ * cancelPending() drops the queued work of a page the user has left, so paging
+ * quickly never makes the visible page wait behind stale ones. Each browser owns a
+ * loader; the worker threads are shared. All methods must be called on the EDT.
+ */
+public class ThumbnailLoader {
+
+    private static final int WORKER_COUNT = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+    private static final ExecutorService WORKERS = createWorkers();
+
+    public interface Renderer {
+        BufferedImage render(int[][] levelData);
+    }
+
+    private final Renderer renderer;
+    // Work queued or running for the current page, by level name
+    private final Map<String, CompletableFuture<BufferedImage>> pending = new HashMap<>();
+    // Bumped by cancelPending(); callbacks of an older page are dropped
+    private int generation = 0;
+
+    public ThumbnailLoader(Renderer renderer) {
+        this.renderer = renderer;
+    }
+
+    private static ExecutorService createWorkers() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, 10, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Delivers the thumbnail of a level to onReady, immediately on a memory cache hit
+     * and later on the EDT otherwise. Nothing is delivered if cancelPending() is called first.
+     */
+    public void request(String levelName, int[][] levelData, Consumer<BufferedImage> onReady) {
+        BufferedImage cached = ThumbnailCache.getInstance().getMemoryThumbnail(ThumbnailCache.contentHash(levelData));
+        if (cached != null) {
+            onReady.accept(cached);
+            return;
+        }
+
+        int requestGeneration = generation;
+        submit(levelName, () -> levelData).thenAccept(thumbnail -> SwingUtilities.invokeLater(() -> {
+            if (thumbnail != null && requestGeneration == generation) {
+                onReady.accept(thumbnail);
+            }
+        }));
+    }
+
+    /**
+     * Loads and caches a level's thumbnail in the background without delivering it
+     * @param levelSource Loads the level data; runs on the worker
+     */
+    public void prefetch(String levelName, Supplier<int[][]> levelSource) {
+        if (pending.containsKey(levelName)) return;
+        submit(levelName, levelSource);
+    }
+
+    /**
+     * Drops every request that has not started yet and every callback still to come.
+     * A thumbnail already being rendered is finished and cached, just not delivered.
+     */
+    public void cancelPending() {
+        generation++;
+        for (CompletableFuture<BufferedImage> future : new ArrayList<>(pending.values())) {
+            // A cancelled CompletableFuture is skipped by the worker if it has not started yet
+            future.cancel(false);
+        }
+        pending.clear();
+    }
+
+    private CompletableFuture<BufferedImage> submit(String levelName, Supplier<int[][]> levelSource) {
+        CompletableFuture<BufferedImage> existing = pending.get(levelName);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<BufferedImage> future = CompletableFuture.supplyAsync(
+                () -> loadOrRender(levelName, levelSource), WORKERS);
+        pending.put(levelName, future);
+        future.whenComplete((thumbnail, error) -> {
+            if (error != null && !future.isCancelled()) {
+                System.err.println("Thumbnail generation failed for " + levelName + ": " + error.getMessage());
+            }
+            SwingUtilities.invokeLater(() -> pending.remove(levelName, future));
+        });
+        return future;
+    }
+
+    private BufferedImage loadOrRender(String levelName, Supplier<int[][]> levelSource) {
+        int[][] levelData = levelSource.get();
+        if (levelData == null) {
+            return null;
+        }
+
+        String hash = ThumbnailCache.contentHash(levelData);
+        ThumbnailCache cache = ThumbnailCache.getInstance();
+        BufferedImage thumbnail = cache.getCachedThumbnail(levelName, hash);
+        if (thumbnail == null) {
+            thumbnail = renderer.render(levelData);
+            cache.cacheThumbnail(levelName, thumbnail, hash);
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Image shown in place of a thumbnail that is still being generated
+     */
+    public static BufferedImage createPlaceholder(int width, int height, Font font) {
+        BufferedImage placeholder = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = placeholder.createGraphics();
+        g2d.setColor(new Color(40, 40, 40));
+        g2d.fillRect(0, 0, width, height);
+        g2d.setColor(new Color(200, 200, 200));
+        g2d.setFont(font);
+        String text = "Loading...";
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(text, (width - fm.stringWidth(text)) / 2, height / 2 + fm.getAscent() / 2);
+        g2d.dispose();
+        return placeholder;
+    }
+}
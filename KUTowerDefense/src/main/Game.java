@@ -25,11 +25,11 @@ import scenes.Playing;
 import scenes.StatisticsScene;
 import scenes.SkillSelectionScene;
 
-public class  Game extends JFrame implements Runnable{
+public class  Game extends JFrame {
 
 	private GameScreen gamescreen;
 
-	private Thread gameThread;
+	private GameLoop gameLoop;
 
 	private final double FPS_SET = 120.0;
 	private final double UPS_SET = 60.0;
@@ -62,6 +62,9 @@ public class  Game extends JFrame implements Runnable{
 		// Initialize the enhanced options system
 		helpMethods.OptionsIO.initialize();
 
+		// Decode assets on worker threads while the scenes are built; the intro waits for them
+		helpMethods.AssetPipeline.getInstance().start();
+
 		this.tileManager = new TileManager();
 		this.fullscreenManager = new FullscreenManager(this);
 
@@ -251,8 +254,7 @@ public class  Game extends JFrame implements Runnable{
 	}
 
 	private void initClasses() {
-		AudioManager.getInstance();
-
+		// AudioManager is loaded by the asset pipeline; asking for it here would wait for the decode
 		statsManager = new GameStatsManager();
 
 		gamescreen = new GameScreen(this);
@@ -269,14 +271,14 @@ public class  Game extends JFrame implements Runnable{
 		gameOverScene = new GameOverScene(this);
 		statisticsScene = new StatisticsScene(this);
 		skillSelectionScene = new SkillSelectionScene(this, playing);
-		tileManager = new TileManager();
-
 	}
 
 
 	public void start() {
-		gameThread = new Thread(this);
-		gameThread.start();
+		gameLoop = new GameLoop(this::updateGame, () -> {
+			if (gamescreen != null) gamescreen.repaint();
+		}, UPS_SET, FPS_SET);
+		gameLoop.start();
 	}
 
 	private void updateGame() {
@@ -318,41 +320,6 @@ public class  Game extends JFrame implements Runnable{
 	}
 
 
-	@Override
-	public void run() {
-		double timePerFrame = 1000000000.0 / FPS_SET;
-		double timePerUpdate = 1000000000.0 / UPS_SET;
-
-		long lastFrame = System.nanoTime();
-		long lastUpdate = System.nanoTime();
-		int frames = 0;
-		long lastTimeCheck = System.currentTimeMillis();
-		int updates = 0;
-
-		long now;
-		while (true) {
-
-			now = System.nanoTime();
-			if (now - lastFrame >= timePerFrame) {
-				if (gamescreen != null) gamescreen.repaint();
-				lastFrame = now;
-				frames++;
-			}
-
-			if (now - lastUpdate >= timePerUpdate) {
-				updateGame();
-				lastUpdate = now;
-				updates++;
-			}
-			if (System.currentTimeMillis() - lastTimeCheck >= 1000) {
-				System.out.println("FPS: " + frames + " | UPS: " + updates);
-				frames = 0;
-				updates = 0;
-				lastTimeCheck = System.currentTimeMillis();
-			}
-		}
-	}
-
 	public Render getRender() {
 		return render;
 	}
@@ -520,4 +487,8 @@ public class  Game extends JFrame implements Runnable{
 	public FullscreenManager getFullscreenManager() {
 		return fullscreenManager;
 	}
+
+	public GameLoop getGameLoop() {
+		return gameLoop;
+	}
 }
\ No newline at end of file
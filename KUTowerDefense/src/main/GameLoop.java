@@ -0,0 +1,150 @@
+package main;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Schedules the game's simulation and rendering on two separate threads.
+ *
+ * The simulation thread runs updates at a fixed rate (UPS). When it falls behind
+ * it catches up with several updates in a row, but never more than
+ * MAX_CATCH_UP_UPDATES at once; anything beyond that is dropped so a long stall
+ * does not turn into a burst of fast-forwarded gameplay.
+ *
+ * The render thread only requests repaints, paced by the FPS cap. Both threads
+ * park until their next deadline instead of spinning, so an idle menu costs
+ * almost no CPU. Because frames are not tied to updates, renderers can ask for
+ * getInterpolation() to place moving entities between the last two simulation states.
+ */
+public class GameLoop {
+
+    private static final int MAX_CATCH_UP_UPDATES = 5;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Runnable updateTask;
+    private final Runnable renderTask;
+    private final long nanosPerUpdate;
+    private volatile long nanosPerFrame;
+
+    private volatile boolean running = false;
+    private volatile long lastUpdateNanos;
+
+    private Thread simulationThread;
+    private Thread renderThread;
+
+    // Counters for the once-per-second FPS/UPS report
+    private volatile int updatesThisSecond = 0;
+    private volatile int framesThisSecond = 0;
+
+    /**
+     * @param updateTask Advances the game by one fixed step
+     * @param renderTask Requests a repaint of the screen
+     * @param ups Simulation updates per second
+     * @param fpsCap Maximum frames per second; 0 or less paces frames to the update rate
+     */
+    public GameLoop(Runnable updateTask, Runnable renderTask, double ups, double fpsCap) {
+        this.updateTask = updateTask;
+        this.renderTask = renderTask;
+        this.nanosPerUpdate = (long) (NANOS_PER_SECOND / ups);
+        setFpsCap(fpsCap);
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        lastUpdateNanos = System.nanoTime();
+
+        simulationThread = new Thread(this::runSimulation, "GameLoop-Simulation");
+        renderThread = new Thread(this::runRendering, "GameLoop-Render");
+        simulationThread.setDaemon(true);
+        renderThread.setDaemon(true);
+        simulationThread.start();
+        renderThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (simulationThread != null) LockSupport.unpark(simulationThread);
+        if (renderThread != null) LockSupport.unpark(renderThread);
+    }
+
+    /**
+     * Changes the frame cap while running
+     * @param fpsCap Maximum frames per second; 0 or less paces frames to the update rate
+     */
+    public void setFpsCap(double fpsCap) {
+        this.nanosPerFrame = fpsCap > 0 ? (long) (NANOS_PER_SECOND / fpsCap) : nanosPerUpdate;
+    }
+
+    /**
+     * How far the current moment is between the last simulation step and the next one
+     * @return A value in [0, 1]; 0 means exactly at the last update
+     */
+    public float getInterpolation() {
+        float alpha = (float) (System.nanoTime() - lastUpdateNanos) / nanosPerUpdate;
+        return Math.max(0f, Math.min(1f, alpha));
+    }
+
+    private void runSimulation() {
+        long nextUpdate = System.nanoTime() + nanosPerUpdate;
+        long lastReport = System.nanoTime();
+
+        while (running) {
+            long now = System.nanoTime();
+            int steps = 0;
+            while (now >= nextUpdate && steps < MAX_CATCH_UP_UPDATES) {
+                try {
+                    updateTask.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error during game update: " + e.getMessage());
+                    e.printStackTrace();
+                }
+                lastUpdateNanos = nextUpdate;
+                nextUpdate += nanosPerUpdate;
+                updatesThisSecond++;
+                steps++;
+                now = System.nanoTime();
+            }
+
+            if (now >= nextUpdate) {
+                // Still behind after the catch-up budget: drop the backlog instead of spiralling
+                lastUpdateNanos = now;
+                nextUpdate = now + nanosPerUpdate;
+            }
+
+            if (now - lastReport >= NANOS_PER_SECOND) {
+                System.out.println("FPS: " + framesThisSecond + " | UPS: " + updatesThisSecond);
+                framesThisSecond = 0;
+                updatesThisSecond = 0;
+                lastReport = now;
+            }
+
+            waitUntil(nextUpdate);
+        }
+    }
+
+    private void runRendering() {
+        long nextFrame = System.nanoTime();
+
+        while (running) {
+            renderTask.run();
+            framesThisSecond++;
+
+            nextFrame += nanosPerFrame;
+            long now = System.nanoTime();
+            if (now - nextFrame > nanosPerFrame) {
+                // Missed more than a whole frame, resynchronise rather than rendering back-to-back
+                nextFrame = now;
+            }
+            waitUntil(nextFrame);
+        }
+    }
+
+    private void waitUntil(long deadline) {
+        // Deadlines advance by fixed steps, so oversleeping here is absorbed on the next iteration
+        long remaining = deadline - System.nanoTime();
+        while (running && remaining > 0) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
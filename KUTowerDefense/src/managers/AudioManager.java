@@ -1,6 +1,7 @@
 package managers;
 
 import helpMethods.LoadSave;
+import java.awt.GraphicsEnvironment;
 
 import javax.sound.sampled.*;
 import javax.sound.sampled.LineEvent;
@@ -65,10 +66,16 @@ public class AudioManager {
     private static AudioManager instance;
 
     private AudioManager() {
+        if (GraphicsEnvironment.isHeadless()) {
+            // A headless JVM (simulations, benchmarks) has no one to play to; keep every clip map empty and stay muted
+            musicMuted = true;
+            soundMuted = true;
+            return;
+        }
         loadAudio();
     }
 
-    public static AudioManager getInstance() {
+    public static synchronized AudioManager getInstance() {
         if (instance == null) {
             instance = new AudioManager();
         }
@@ -8,11 +8,17 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import config.GameOptions;
 import static constants.Constants.Enemies.BARREL;
@@ -25,15 +31,18 @@ import static constants.Constants.PathPoints.START_POINT;
 import constants.GameDimensions;
 import enemies.Barrel;
 import enemies.Enemy;
+import enemies.EnemyStore;
 import enemies.Goblin;
 import enemies.TNT;
 import enemies.Troll;
 import enemies.Knight;
 import helpMethods.LoadSave;
+import helpMethods.GameRandom;
 import helpMethods.OptionsIO;
 import objects.GridPoint;
 import scenes.Playing;
 import constants.Constants;
+import pathfinding.PathTable;
 import pathfinding.RoadNetworkPathfinder;
 import pathfinding.TileConnectivity;
 import skills.SkillTree;
@@ -41,14 +50,14 @@ import skills.SkillType;
 
 public class EnemyManager {
     // Performance constants
-    private static final float CURVE_THRESHOLD_DISTANCE = 0.4f; // 40% of tile size
-    private static final float COMBAT_SYNERGY_DISTANCE_SQUARED = 4096f; // 64 * 64
+    private static final float COMBAT_SYNERGY_DISTANCE = 64f;
     private static final float EPSILON = 0.001f; // Small value for float comparisons
     private static final int GOLD_BAG_SPAWN_CHANCE = 50; // 50% chance
 
     private Playing playing;
     private static BufferedImage[] enemyImages;
-    private ArrayList<Enemy> enemies = new ArrayList<>();
+    private final EnemyStore enemies = new EnemyStore();
+    private final List<Enemy> enemyList = new EnemyListView();
     private ArrayList<GridPoint> pathPoints = new ArrayList<>();
     private GridPoint startPoint, endPoint;
     private int tileSize = GameDimensions.TILE_DISPLAY_SIZE;
@@ -60,8 +69,33 @@ public class EnemyManager {
     private Map<Enemy, Long> enemySpawnTimes;
     private RoadNetworkPathfinder pathfinder;
     private int[][] tileData; // Store tile data for curve detection
+    private EnemySpatialGrid enemyGrid; // Shared spatial index for all range queries
+    private PathTable pathTable; // pathPoints compiled into segments with their distance from the spawn
+    private final float[] pathSample = new float[4]; // reused by moveEnemy for {x, y, dirX, dirY}
+
+    // Enemies in the store ordered by path distance, least progress first, with their distances as sorted.
+    // Re-sorted at the end of every update; spawns and teleports since then mark it dirty.
+    private Enemy[] progressOrder = new Enemy[32];
+    private float[] progressKeys = new float[32];
+    private int progressCount = 0;
+    private boolean progressDirty = false;
+
+    // Reused by updateCombatSynergy to avoid allocating a lambda per knight
+    private Enemy nearbyGoblin;
+    private final Consumer<Enemy> goblinFinder = enemy -> {
+        if (nearbyGoblin == null && enemy.getEnemyType() == Constants.Enemies.GOBLIN) {
+            nearbyGoblin = enemy;
+        }
+    };
 
     public EnemyManager(Playing playing, int[][] overlayData, int [][] tileData, GameOptions options) {
+        this(playing, overlayData, tileData, options, false);
+    }
+
+    /**
+     * @param headless true for a simulation that is never drawn; enemy sprites are not loaded
+     */
+    public EnemyManager(Playing playing, int[][] overlayData, int [][] tileData, GameOptions options, boolean headless) {
         this.playing = playing;
         this.gameOptions = options;
         this.tileData = tileData; // Store reference to tile data
@@ -69,12 +103,14 @@ public class EnemyManager {
             System.out.println("Warning: Received null GameOptions in EnemyManager, using defaults.");
             this.gameOptions = GameOptions.defaults();
         }
-        enemyImages = extractEnemyFrames();
+        // Sprites are only needed for drawing; headless simulations never draw
+        enemyImages = headless ? new BufferedImage[0] : extractEnemyFrames();
         this.enemySpawnTimes = new HashMap<>();
         this.weatherManager = playing.getWeatherManager();
 
         this.pathfinder = new RoadNetworkPathfinder(tileData[0].length, tileData.length);
         this.pathfinder.buildGraph(tileData);
+        this.enemyGrid = new EnemySpatialGrid(tileData[0].length, tileData.length, tileSize);
 
         findStartAndEndPoints(overlayData);
 
@@ -186,6 +222,7 @@ public class EnemyManager {
             }
 
             validatePathConnectivity(tileData);
+            compilePathTable();
 
         } else {
             System.out.println("No graph-based path found!");
@@ -248,13 +285,14 @@ public class EnemyManager {
     }
 
     public void update(float speedMultiplier){
-        // Create a copy of the enemies list to avoid concurrent modification
-        ArrayList<Enemy> enemiesCopy = new ArrayList<>(enemies);
+        // Start of a new simulation step: rendering interpolates from these positions
+        enemies.storePreviousPositions();
 
         // First pass: Update combat synergy
         updateCombatSynergy();
 
-        for (Enemy enemy : enemiesCopy) {
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
             if (enemy.isAlive()) {
                 // adjust animation speed when game speed changes
                 enemy.adjustAnimationForGameSpeed(speedMultiplier);
@@ -263,11 +301,17 @@ public class EnemyManager {
             }
         }
 
-        if (!pathFound || pathPoints.isEmpty()) return;
-
-        ArrayList<Enemy> enemiesToRemove = new ArrayList<>();
+        if (!pathFound || pathPoints.isEmpty()) {
+            enemyGrid.rebuild(enemyList);
+            return;
+        }
 
-        for (Enemy e : enemiesCopy) {
+        // Removal swaps the last enemy into slot i, so i is only advanced past enemies that stay.
+        // Callbacks can end the game and clear the store, so enemies are removed by identity and
+        // the loop re-reads the size every time.
+        int i = 0;
+        while (i < enemies.size()) {
+            Enemy e = enemies.get(i);
             if (!e.isAlive()) {
                 playing.getPlayerManager().addGold(e.getGoldReward());
                 // Plunderer bonus: Eğer skill seçiliyse +1 altın ver
@@ -277,26 +321,51 @@ public class EnemyManager {
                 playing.updateUIResources();
                 System.out.println("Enemy " + e.getId() + " killed. + " + e.getGoldReward() + " gold!");
                 // Chance to spawn a gold bag
-                if (Math.random() * 100 < GOLD_BAG_SPAWN_CHANCE) {
+                if (playing.getGoldBagManager() != null && GameRandom.nextDouble() * 100 < GOLD_BAG_SPAWN_CHANCE) {
                     float bagX = e.getSpriteCenterX();
                     float bagY = e.getSpriteCenterY();
                     playing.getGoldBagManager().spawnGoldBag(bagX, bagY, 2, 30);
                 }
-                enemiesToRemove.add(e);
+                removeEnemy(e);
                 continue;
             }
 
             if (e.hasReachedEnd()) {
                 playing.enemyReachedEnd(e);
-                enemiesToRemove.add(e);
+                removeEnemy(e);
                 continue;
             }
 
             moveEnemy(e, speedMultiplier);
+            i++;
+        }
+
+        sortProgressOrder();
+
+        // Re-bucket survivors at their new positions for this tick's range queries
+        enemyGrid.rebuild(enemyList);
+    }
+
+    /**
+     * Removes the enemy if it is still in the store; a game over may already have cleared it
+     */
+    private void removeEnemy(Enemy enemy) {
+        if (enemies.remove(enemy)) {
+            enemySpawnTimes.remove(enemy);
         }
+    }
 
-        // remove dead enemies
-        enemies.removeAll(enemiesToRemove);
+    /**
+     * Reports every living enemy within radius r of (cx, cy) using the spatial grid.
+     * The grid reflects enemy positions as of the last update(float) plus any enemies spawned since.
+     *
+     * @param cx Query center X in pixels
+     * @param cy Query center Y in pixels
+     * @param r Query radius in pixels
+     * @param consumer Receives each enemy whose sprite center is within the radius
+     */
+    public void queryRadius(float cx, float cy, float r, Consumer<Enemy> consumer) {
+        enemyGrid.queryRadius(cx, cy, r, consumer);
     }
 
     public void addEnemy(int enemyType){
@@ -305,12 +374,14 @@ public class EnemyManager {
             return;
         }
 
+        int spawnIndex = 0;
         GridPoint spawnPoint = pathPoints.get(0);
 
         if (!isValidSpawnPoint(spawnPoint)) {
             for (int i = 0; i < pathPoints.size(); i++) {
                 if (isValidSpawnPoint(pathPoints.get(i))) {
                     spawnPoint = pathPoints.get(i);
+                    spawnIndex = i;
                     break;
                 }
             }
@@ -353,12 +424,13 @@ public class EnemyManager {
         if (enemy != null) {
             applyOptionsToEnemy(enemy);
 
-            // Initialize enemy direction based on the path
-            initializeEnemyDirection(enemy);
+            // Start the enemy on the path, facing along it
+            placeEnemyOnPath(enemy, spawnIndex);
 
             enemies.add(enemy);
-            long spawnTime = System.currentTimeMillis();
-            enemySpawnTimes.put(enemy, spawnTime);
+            enemyGrid.insert(enemy);
+            addToProgressOrder(enemy);
+            enemySpawnTimes.put(enemy, playing.getGameTime());
 
         }
     }
@@ -401,8 +473,9 @@ public class EnemyManager {
             this.gameOptions = OptionsIO.load();
 
             // Apply new options to all existing enemies
-            for (Enemy enemy : enemies) {
-                if (enemy != null && enemy.isAlive()) {
+            for (int i = 0; i < enemies.size(); i++) {
+                Enemy enemy = enemies.get(i);
+                if (enemy.isAlive()) {
                     applyOptionsToEnemy(enemy);
                 }
             }
@@ -413,237 +486,264 @@ public class EnemyManager {
     }
 
     private void moveEnemy(Enemy e, float speedMultiplier) {
-        int pathIndex = e.getCurrentPathIndex();
+        float totalLength = pathTable.getTotalLength();
+        float distance = e.getPathDistance();
 
-        // if enemy has reached the last path point, it has reached the end
-        if (pathIndex >= pathPoints.size() - 1) {
+        // if enemy has reached the end of the path, it has reached the end
+        if (distance >= totalLength) {
             e.setReachedEnd(true);
             return;
         }
 
-        // Decide whether to use curved or straight movement based on the current path segment
-        if (shouldUseCurvedMovement(pathIndex)) {
-            moveCurved(e, speedMultiplier);
-        } else {
-            moveStraight(e, speedMultiplier);
-        }
+        float baseSpeed = e.getSpeed() * speedMultiplier;
 
-    }
+        // Apply weather effects to enemy speed
+        if (weatherManager != null && weatherManager.isSnowing()) {
+            baseSpeed *= weatherManager.getEnemySpeedMultiplier();
+        }
 
-    /**
-     * Determines if curved movement should be used for this path segment
-     */
-    private boolean shouldUseCurvedMovement(int pathIndex) {
-        if (pathIndex >= pathPoints.size() - 1) return false;
+        // Apply effective speed modifiers (slow effects, etc.)
+        float effectiveSpeed = baseSpeed * e.getEffectiveSpeed();
 
-        // Get the current tile and check if it's a curved road
-        GridPoint currentPoint = pathPoints.get(pathIndex);
-        int tileId = tileData[currentPoint.getY()][currentPoint.getX()];
+        distance = Math.min(distance + effectiveSpeed, totalLength);
+        int segment = pathTable.sample(distance, e.getCurrentPathIndex(), pathSample);
 
-        // Check if the tile is one of the curved road tiles
-        // Corner curves: 0, 2, 8, 10
-        // Flat curves: 1, 4, 6, 9
-        return tileId == 0 || tileId == 1 || tileId == 2 || tileId == 4 ||
-                tileId == 6 || tileId == 8 || tileId == 9 || tileId == 10;
+        e.setPathDistance(distance);
+        e.setX(pathSample[0]);
+        e.setY(pathSample[1]);
+        // Frozen enemies keep facing the way they were going
+        if (effectiveSpeed > 0) {
+            e.setDirection(pathSample[2], pathSample[3]);
+        }
+        e.setCurrentPathIndex(distance >= totalLength ? pathPoints.size() - 1 : segment);
     }
 
     /**
-     * Moves enemy along a curved path using proper circular arc geometry
+     * Puts an enemy at path point pathIndex, facing along the path, as when it spawns there
+     * @param enemy The enemy to move
+     * @param pathIndex Index into the path points; clamped to the path
      */
-    private void moveCurved(Enemy e, float speedMultiplier) {
-        int pathIndex = e.getCurrentPathIndex();
-
-        GridPoint currentPoint = pathPoints.get(pathIndex);
-        GridPoint nextPoint = pathPoints.get(pathIndex + 1);
-
-        // Calculate movement direction
-        int deltaX = nextPoint.getX() - currentPoint.getX();
-        int deltaY = nextPoint.getY() - currentPoint.getY();
-
-        // Determine curve type based on direction change and tile type
-        CurveParams curveParams = calculateCurveParameters(pathIndex, deltaX, deltaY);
-
-        if (curveParams != null) {
-            // Use circular arc movement
-            moveAlongCircularArc(e, curveParams, speedMultiplier);
+    public void placeEnemyOnPath(Enemy enemy, int pathIndex) {
+        if (pathTable == null) return;
+
+        float[] sample = new float[4];
+        float distance = pathTable.getSegmentStart(pathIndex);
+        int segment = pathTable.sample(distance, pathIndex, sample);
+
+        enemy.setPathDistance(distance);
+        enemy.setX(sample[0]);
+        enemy.setY(sample[1]);
+        if (sample[2] != 0 || sample[3] != 0) {
+            enemy.setDirection(sample[2], sample[3]);
         } else {
-            // Fallback to straight line movement
-            System.out.println("Warning: shouldUseCurvedMovement was true, but no CurveParams found. Falling back to straight movement for enemy " + e.getId() + " at path index " + pathIndex);
-            moveStraight(e, speedMultiplier);
+            enemy.setDirection(1.0f, 0.0f); // Default to facing right
         }
+        enemy.setCurrentPathIndex(pathIndex >= pathPoints.size() - 1 ? Math.max(0, pathPoints.size() - 1) : segment);
+        progressDirty = true;
     }
 
     /**
-     * Moves enemy along a circular arc using vector rotation
-     * @param enemy The enemy to move
-     * @param curveParams The parameters defining the circular arc
-     * @param speedMultiplier The current game speed multiplier
+     * Path distance intervals where the path lies within radius of (cx, cy), for use with
+     * findByProgress. Flattened as {start0, end0, start1, end1, ...} in path order.
      */
-    private void moveAlongCircularArc(Enemy enemy, CurveParams curveParams, float speedMultiplier) {
-        // Get current enemy position
-        float currentX = enemy.getX();
-        float currentY = enemy.getY();
-
-        // Get target position (next path point)
-        int currentPathIndex = enemy.getCurrentPathIndex();
-        if (currentPathIndex >= pathPoints.size() - 1) {
-            enemy.setReachedEnd(true);
-            return;
-        }
-
-        GridPoint nextPoint = pathPoints.get(currentPathIndex + 1);
-        float targetX = nextPoint.getX() * tileSize + tileSize / 2.0f;
-        float targetY = nextPoint.getY() * tileSize + tileSize / 2.0f;
-
-        // For curved tiles, adjust the target to be on the actual road path, not the tile center
-        // Check if the NEXT tile (where we're going) is a curved tile
-        int nextTileId = tileData[nextPoint.getY()][nextPoint.getX()];
-        boolean isTargetCornerCurve = (nextTileId == 0 || nextTileId == 2 || nextTileId == 8 || nextTileId == 10);
-        boolean isTargetFlatCurve = (nextTileId == 1 || nextTileId == 4 || nextTileId == 6 || nextTileId == 9);
-
-        if (isTargetCornerCurve) {
-            // Use specific target offsets for each corner curve type
-            float centerTileX = nextPoint.getX() * tileSize + tileSize / 2.0f;
-            float centerTileY = nextPoint.getY() * tileSize + tileSize / 2.0f;
+    public float[] getPathCoverage(float cx, float cy, float radius) {
+        if (pathTable == null) return new float[0];
+        return pathTable.computeCoverage(cx, cy, radius);
+    }
 
-            switch (nextTileId) {
-                case 2: // CurvedRoadEastNorth
-                    targetX = centerTileX - 19;
-                    targetY = centerTileY + 19;
-                    break;
-                case 0: // CurvedRoadNorthWest
-                    targetX = centerTileX + 19;
-                    targetY = centerTileY + 19;
-                    break;
-                case 8: // CurvedRoadWestSouth
-                    targetX = centerTileX + 19;
-                    targetY = centerTileY - 19;
-                    break;
-                case 10: // CurvedRoadSouthEast
-                    targetX = centerTileX - 19;
-                    targetY = centerTileY - 19;
-                    break;
-            }
-        } else if (isTargetFlatCurve) {
-            // Use specific target offsets for each flat curve type
-            float centerTileX = nextPoint.getX() * tileSize + tileSize / 2.0f;
-            float centerTileY = nextPoint.getY() * tileSize + tileSize / 2.0f;
-
-            switch (nextTileId) {
-                case 1: // CurvedRoadNorth
-                    targetX = centerTileX;
-                    targetY = centerTileY - 10; // 10 pixels above
-                    break;
-                case 9: // CurvedRoadSouth
-                    targetX = centerTileX;
-                    targetY = centerTileY + 10; // 10 pixels below
-                    break;
-                case 4: // CurvedRoadWest
-                    targetX = centerTileX - 10; // 10 pixels left
-                    targetY = centerTileY;
-                    break;
-                case 6: // CurvedRoadEast
-                    targetX = centerTileX + 10; // 10 pixels right
-                    targetY = centerTileY;
-                    break;
+    /**
+     * Finds the enemy with the most (or least) path progress among those whose path
+     * distance falls in one of the intervals and that pass the test. Walks the progress
+     * index from the preferred end of each interval, so it usually stops at the first
+     * enemy it looks at instead of visiting every enemy in range.
+     *
+     * @param intervals Sorted, disjoint {start, end} pairs as returned by getPathCoverage
+     * @param mostProgress true for the enemy closest to the exit, false for the one furthest from it
+     * @param test Exact check, e.g. range and visibility; only called for enemies inside the intervals
+     * @return The best enemy, or null if none qualifies
+     */
+    public Enemy findByProgress(float[] intervals, boolean mostProgress, Predicate<Enemy> test) {
+        if (progressDirty) sortProgressOrder();
+
+        int pairs = intervals.length / 2;
+        for (int k = 0; k < pairs; k++) {
+            int pair = mostProgress ? pairs - 1 - k : k;
+            int from = firstProgressIndexAtLeast(intervals[2 * pair]);
+            int to = firstProgressIndexAbove(intervals[2 * pair + 1]);
+
+            if (mostProgress) {
+                for (int i = to - 1; i >= from; i--) {
+                    if (test.test(progressOrder[i])) return progressOrder[i];
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    if (test.test(progressOrder[i])) return progressOrder[i];
+                }
             }
         }
+        return null;
+    }
 
+    /**
+     * Whether any enemy's path distance falls in one of the intervals. Two binary searches
+     * per interval, so towers can cheaply skip targeting while their stretch of path is empty.
+     */
+    public boolean hasEnemyInProgress(float[] intervals) {
+        if (progressDirty) sortProgressOrder();
 
-        // Calculate current vector from center to enemy position
-        float vx = currentX - curveParams.centerX;
-        float vy = currentY - curveParams.centerY;
-
-        // Calculate target vector from center to target position
-        float targetVx = targetX - curveParams.centerX;
-        float targetVy = targetY - curveParams.centerY;
-
-        // Calculate the enemy's effective speed with all modifiers
-        float baseSpeed = enemy.getSpeed() * speedMultiplier;
-
-        // Apply weather effects to enemy speed
-        if (weatherManager != null && weatherManager.isSnowing()) {
-            baseSpeed *= weatherManager.getEnemySpeedMultiplier();
+        for (int k = 0; k + 1 < intervals.length; k += 2) {
+            int first = firstProgressIndexAtLeast(intervals[k]);
+            if (first < progressCount && progressKeys[first] <= intervals[k + 1]) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        // Apply effective speed modifiers (slow effects, etc.)
-        float effectiveSpeed = baseSpeed * enemy.getEffectiveSpeed();
-
-        // Calculate rotation angle based on speed and arc radius
-        float rotationAngle = effectiveSpeed / curveParams.radius;
-
-        // Determine the correct rotation direction by checking which direction gets us closer to target
-        // Calculate current angle and target angle
-        float currentAngle = (float) Math.atan2(vy, vx);
-        float targetAngle = (float) Math.atan2(targetVy, targetVx);
-
-        // Calculate the shortest angular distance to target
-        float angleDiff = targetAngle - currentAngle;
-
-        // Normalize angle difference to [-π, π] to find shortest path
-        while (angleDiff > Math.PI) angleDiff -= 2 * Math.PI;
-        while (angleDiff < -Math.PI) angleDiff += 2 * Math.PI;
-
-        // Determine rotation direction based on shortest path to target
-        if (angleDiff < 0) {
-            rotationAngle = -rotationAngle; // Clockwise rotation
+    private int firstProgressIndexAtLeast(float distance) {
+        int lo = 0, hi = progressCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (progressKeys[mid] < distance) lo = mid + 1; else hi = mid;
         }
+        return lo;
+    }
 
-        // Limit rotation angle to not overshoot the target
-        if (Math.abs(rotationAngle) > Math.abs(angleDiff)) {
-            rotationAngle = angleDiff; // Don't rotate past the target
+    private int firstProgressIndexAbove(float distance) {
+        int lo = 0, hi = progressCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (progressKeys[mid] <= distance) lo = mid + 1; else hi = mid;
         }
+        return lo;
+    }
 
-        // Apply vector rotation using the formula you provided
-        float cos_theta = (float) Math.cos(rotationAngle);
-        float sin_theta = (float) Math.sin(rotationAngle);
+    private void addToProgressOrder(Enemy enemy) {
+        if (progressCount == progressOrder.length) {
+            progressOrder = Arrays.copyOf(progressOrder, progressCount * 2);
+            progressKeys = Arrays.copyOf(progressKeys, progressCount * 2);
+        }
+        progressOrder[progressCount] = enemy;
+        progressKeys[progressCount] = enemy.getPathDistance();
+        progressCount++;
+        progressDirty = true;
+    }
 
-        float vx_prime = vx * cos_theta - vy * sin_theta;
-        float vy_prime = vx * sin_theta + vy * cos_theta;
+    /**
+     * Drops enemies that left the store and re-sorts the rest by path distance.
+     * Enemies rarely overtake each other between ticks, so the array is nearly sorted
+     * and insertion sort runs in close to linear time.
+     */
+    private void sortProgressOrder() {
+        int live = 0;
+        for (int i = 0; i < progressCount; i++) {
+            Enemy enemy = progressOrder[i];
+            if (enemies.contains(enemy)) {
+                progressOrder[live] = enemy;
+                progressKeys[live] = enemy.getPathDistance();
+                live++;
+            }
+        }
+        Arrays.fill(progressOrder, live, progressCount, null);
+        progressCount = live;
+
+        for (int i = 1; i < live; i++) {
+            Enemy enemy = progressOrder[i];
+            float key = progressKeys[i];
+            int j = i - 1;
+            while (j >= 0 && progressKeys[j] > key) {
+                progressOrder[j + 1] = progressOrder[j];
+                progressKeys[j + 1] = progressKeys[j];
+                j--;
+            }
+            progressOrder[j + 1] = enemy;
+            progressKeys[j + 1] = key;
+        }
+        progressDirty = false;
+    }
 
-        // Calculate new position
-        float newX = curveParams.centerX + vx_prime;
-        float newY = curveParams.centerY + vy_prime;
+    /**
+     * Compiles pathPoints into straight and arc segments once per level, so moving an
+     * enemy is advancing its distance along the path instead of working out the curve
+     * it is on every tick. Segment i runs from the road position of point i to that of
+     * point i + 1 and is an arc when point i is a curved road tile with known curve parameters.
+     */
+    private void compilePathTable() {
+        pathTable = new PathTable();
+        float[] from = getRoadPosition(0);
 
-        // Calculate movement delta for direction tracking
-        float dx = newX - currentX;
-        float dy = newY - currentY;
+        for (int i = 0; i < pathPoints.size() - 1; i++) {
+            float[] to = getRoadPosition(i + 1);
 
-        // Update enemy position
-        enemy.setX(newX);
-        enemy.setY(newY);
+            CurveParams curveParams = null;
+            if (shouldUseCurvedMovement(i)) {
+                GridPoint currentPoint = pathPoints.get(i);
+                GridPoint nextPoint = pathPoints.get(i + 1);
+                curveParams = calculateCurveParameters(i, nextPoint.getX() - currentPoint.getX(),
+                        nextPoint.getY() - currentPoint.getY());
+            }
 
-        // Update direction based on movement (for sprite facing)
-        if (dx != 0 || dy != 0) {
-            float totalSpeed = (float) Math.sqrt(dx * dx + dy * dy);
-            if (totalSpeed > 0) {
-                // Store the direction the enemy is facing for sprite rendering
-                float dirX = dx / totalSpeed;
-                float dirY = dy / totalSpeed;
-                enemy.setDirection(dirX, dirY);
+            if (curveParams != null) {
+                pathTable.addArc(curveParams.centerX, curveParams.centerY, from[0], from[1], to[0], to[1]);
+            } else {
+                pathTable.addStraight(from[0], from[1], to[0], to[1]);
             }
+            from = to;
         }
 
-        // Check if enemy has reached the target position (with some tolerance)
-        float distanceToTarget = (float) Math.sqrt((newX - targetX) * (newX - targetX) +
-                (newY - targetY) * (newY - targetY));
+        System.out.println("Path compiled into " + pathTable.getSegmentCount() + " segments, "
+                + Math.round(pathTable.getTotalLength()) + " px long");
+    }
 
-        // Different completion thresholds for curved vs straight paths
-        float completionThreshold;
-        if (isTargetCornerCurve || isTargetFlatCurve) {
-            // For curved roads, use a smaller threshold since we're targeting specific road positions
-            completionThreshold = effectiveSpeed * 2.0f;
-        } else {
-            // For straight paths, use the normal threshold
-            completionThreshold = effectiveSpeed;
+    /**
+     * Where enemies pass through path point index: the tile center, or for curved road
+     * tiles the point on the drawn road. The spawn point is always the tile center.
+     */
+    private float[] getRoadPosition(int index) {
+        GridPoint point = pathPoints.get(index);
+        float centerTileX = point.getX() * tileSize + tileSize / 2.0f;
+        float centerTileY = point.getY() * tileSize + tileSize / 2.0f;
+        if (index == 0) {
+            return new float[]{centerTileX, centerTileY};
+        }
+
+        switch (tileData[point.getY()][point.getX()]) {
+            case 2: // CurvedRoadEastNorth
+                return new float[]{centerTileX - 19, centerTileY + 19};
+            case 0: // CurvedRoadNorthWest
+                return new float[]{centerTileX + 19, centerTileY + 19};
+            case 8: // CurvedRoadWestSouth
+                return new float[]{centerTileX + 19, centerTileY - 19};
+            case 10: // CurvedRoadSouthEast
+                return new float[]{centerTileX - 19, centerTileY - 19};
+            case 1: // CurvedRoadNorth
+                return new float[]{centerTileX, centerTileY - 10}; // 10 pixels above
+            case 9: // CurvedRoadSouth
+                return new float[]{centerTileX, centerTileY + 10}; // 10 pixels below
+            case 4: // CurvedRoadWest
+                return new float[]{centerTileX - 10, centerTileY}; // 10 pixels left
+            case 6: // CurvedRoadEast
+                return new float[]{centerTileX + 10, centerTileY}; // 10 pixels right
+            default:
+                return new float[]{centerTileX, centerTileY};
         }
+    }
 
-        // If we're close enough to the target, move to next path point
-        if (distanceToTarget < completionThreshold || Math.abs(angleDiff) < 0.05f) {
-            // Let enemies find their own way to targets without teleporting/snapping
-            // This prevents teleportation when transitioning between different road types
-            enemy.setCurrentPathIndex(currentPathIndex + 1);
-        }
+    /**
+     * Determines if curved movement should be used for this path segment
+     */
+    private boolean shouldUseCurvedMovement(int pathIndex) {
+        if (pathIndex >= pathPoints.size() - 1) return false;
+
+        // Get the current tile and check if it's a curved road
+        GridPoint currentPoint = pathPoints.get(pathIndex);
+        int tileId = tileData[currentPoint.getY()][currentPoint.getX()];
+
+        // Check if the tile is one of the curved road tiles
+        // Corner curves: 0, 2, 8, 10
+        // Flat curves: 1, 4, 6, 9
+        return tileId == 0 || tileId == 1 || tileId == 2 || tileId == 4 ||
+                tileId == 6 || tileId == 8 || tileId == 9 || tileId == 10;
     }
 
     /**
@@ -992,119 +1092,37 @@ public class EnemyManager {
     }
 
 
-    /**
-     * Moves enemy in straight line (fallback for segments without enough control points)
-     */
-    private void moveStraight(Enemy e, float speedMultiplier) {
-        int pathIndex = e.getCurrentPathIndex();
-        GridPoint currentPoint = pathPoints.get(pathIndex);
-        GridPoint nextPoint = pathPoints.get(pathIndex + 1);
-
-        // calculate target position
-        int targetX = nextPoint.getX() * tileSize + tileSize / 2;
-        int targetY = nextPoint.getY() * tileSize + tileSize / 2;
-
-        // Calculate direction to move - optimized distance calculation
-        float xDiff = targetX - e.getX();
-        float yDiff = targetY - e.getY();
-        float distanceSquared = xDiff * xDiff + yDiff * yDiff;
-        float distance = (float) Math.sqrt(distanceSquared);
-
-        // Check if we should start a curve early to avoid teleport effect
-        float thresholdDistance = tileSize * CURVE_THRESHOLD_DISTANCE;
-
-        // Check if next segment is curved and we're close enough to start the curve
-        if (distance < thresholdDistance && pathIndex + 1 < pathPoints.size() - 1) {
-            if (shouldUseCurvedMovement(pathIndex + 1)) {
-                // Don't snap to target position - let the curve logic handle smooth transition
-                e.setCurrentPathIndex(pathIndex + 1);
-                return;
-            }
-        }
-
-        // if enemy is very close to the path point, move to next path point
-        // Use squared distance comparison to avoid unnecessary sqrt calculation
-        float speedThreshold = e.getSpeed() * speedMultiplier;
-        if (distanceSquared < speedThreshold * speedThreshold) {
-            e.setCurrentPathIndex(pathIndex + 1);
-            return;
-        }
-
-        // calculate movement speed components
-        float baseSpeed = e.getSpeed() * speedMultiplier;
-
-        // Apply weather effects to enemy speed
-        if (weatherManager != null && weatherManager.isSnowing()) {
-            baseSpeed *= weatherManager.getEnemySpeedMultiplier();
-        }
-
-        // Apply effective speed modifiers (slow effects, etc.)
-        float effectiveSpeed = baseSpeed * e.getEffectiveSpeed();
-
-        // Calculate normalized direction vector - optimized division
-        float invDistance = 1.0f / distance;
-        float dirX = xDiff * invDistance;
-        float dirY = yDiff * invDistance;
-
-        // Calculate movement distances
-        float xSpeed = dirX * effectiveSpeed;
-        float ySpeed = dirY * effectiveSpeed;
-
-        // Move enemy by updating position directly
-        e.setX(e.getX() + xSpeed);
-        e.setY(e.getY() + ySpeed);
-
-        // Set direction directly for consistent sprite facing
-        e.setDirection(dirX, dirY);
-
-
+    public void draw(Graphics g, boolean gamePaused) {
+        draw(g, gamePaused, 1f);
     }
 
     /**
-     * Initializes enemy direction when they first spawn based on the initial path direction
+     * Draws all living enemies
+     * @param interpolation Fraction of the current simulation step that has elapsed,
+     *                      used to place enemies between their previous and current positions
      */
-    private void initializeEnemyDirection(Enemy enemy) {
-        if (pathPoints.size() < 2) {
-            // Default direction if path is too short
-            enemy.setDirection(1.0f, 0.0f); // Face right
-            return;
-        }
-
-        // Get the direction from spawn point to first path point
-        GridPoint firstPoint = pathPoints.get(0);
-        GridPoint secondPoint = pathPoints.get(1);
-
-        float dirX = secondPoint.getX() - firstPoint.getX();
-        float dirY = secondPoint.getY() - firstPoint.getY();
-
-        float magnitude = (float) Math.sqrt(dirX * dirX + dirY * dirY);
-        if (magnitude > 0.001f) {
-            dirX /= magnitude;
-            dirY /= magnitude;
-            enemy.setDirection(dirX, dirY);
-        } else {
-            enemy.setDirection(1.0f, 0.0f); // Default to facing right
-        }
-    }
-
-    public void draw(Graphics g, boolean gamePaused) {
+    public void draw(Graphics g, boolean gamePaused, float interpolation) {
+        // Nothing moves while paused, so draw the settled positions
+        float alpha = gamePaused ? 1f : interpolation;
 
-        List<Enemy> enemiesCopy = new ArrayList<>(enemies);
+        // Walks the store in place; it may change under us, so skip slots emptied meanwhile
+        int count = enemies.size();
 
-
-        for (Enemy enemy : enemiesCopy) {
-            if (enemy.isAlive() && !gamePaused) {
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy != null && enemy.isAlive() && !gamePaused) {
                 enemy.updateAnimationTick();
             }
         }
 
 
-        for (Enemy enemy : enemiesCopy) {
-            if (enemy.isAlive()) {
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy != null && enemy.isAlive()) {
                 if (isGoblinInvisible(enemy)) {
-                    drawEnemySilhouette(enemy, g);
+                    drawEnemySilhouette(enemy, g, alpha);
                 } else {
-                    drawEnemy(enemy, g);
+                    drawEnemy(enemy, g, alpha);
                 }
             }
         }
@@ -1395,7 +1413,7 @@ public class EnemyManager {
         return result;
     }
 
-    private void drawEnemy(Enemy enemy, Graphics g) {
+    private void drawEnemy(Enemy enemy, Graphics g, float interpolation) {
         //System.out.println("Drawing enemy ID: " + enemy.getId());
         // Calculate base index based on enemy type and get animation frame
         int baseIndex;
@@ -1463,8 +1481,10 @@ public class EnemyManager {
         int[] anchorOffset = calculateAnchorOffset(enemy.getEnemyType(), scale);
 
         // Position the sprite so that the anchor point aligns with the enemy's center position
-        int drawX = (int)(enemy.getX() - anchorOffset[0]);
-        int drawY = (int)(enemy.getY() - anchorOffset[1]);
+        float renderX = enemy.getRenderX(interpolation);
+        float renderY = enemy.getRenderY(interpolation);
+        int drawX = (int)(renderX - anchorOffset[0]);
+        int drawY = (int)(renderY - anchorOffset[1]);
 
         // Determine sprite facing based on movement direction
         float dirX = enemy.getDirX();
@@ -1524,8 +1544,8 @@ public class EnemyManager {
             Graphics2D g2d = (Graphics2D) g.create();
 
             // Use the enemy's logical coordinates as the center for the flip transformation.
-            float centerX = enemy.getX();
-            float centerY = enemy.getY();
+            float centerX = renderX;
+            float centerY = renderY;
 
             // Apply horizontal flip transformation around the enemy's logical center.
             g2d.translate(centerX, centerY);
@@ -1630,18 +1650,32 @@ public class EnemyManager {
         addEnemy(nextEnemy);
     }
 
-    public ArrayList<Enemy> getEnemies() {
-        return enemies;
+    /**
+     * Read-only view of the enemies on the map, backed by the enemy store.
+     * Enemies are removed by swapping the last one into their place, so the order is not stable.
+     */
+    public List<Enemy> getEnemies() {
+        return enemyList;
+    }
+
+    public int getEnemyCount() {
+        return enemies.size();
     }
 
     public void clearEnemies() {
         enemies.clear();
+        enemyGrid.clear();
+        enemySpawnTimes.clear();
+        Arrays.fill(progressOrder, 0, progressCount, null);
+        progressCount = 0;
+        progressDirty = false;
     }
 
     public void addEnemy(Enemy enemy) {
         enemies.add(enemy);
-        long spawnTime = System.currentTimeMillis();
-        enemySpawnTimes.put(enemy, spawnTime);
+        enemyGrid.insert(enemy);
+        addToProgressOrder(enemy);
+        enemySpawnTimes.put(enemy, playing.getGameTime());
 
     }
 
@@ -1663,13 +1697,7 @@ public class EnemyManager {
             System.out.println("Cannot teleport enemy: Invalid starting point");
             return false;
         }
-        float newX = startingPoint.getX() * tileSize + tileSize / 2;
-        float newY = startingPoint.getY() * tileSize + tileSize / 2;
-
-        enemy.setX(newX);
-        enemy.setY(newY);
-
-        enemy.setCurrentPathIndex(0);
+        placeEnemyOnPath(enemy, 0);
         enemy.applyTeleportEffect();
 
         System.out.println("Enemy " + enemy.getId() + " teleported back to start!");
@@ -1681,12 +1709,14 @@ public class EnemyManager {
     }
 
     public void render(Graphics g) {
-        for (Enemy e : enemies) {
-            if (e.isAlive()) {
+        int count = enemies.size();
+        for (int i = 0; i < count; i++) {
+            Enemy e = enemies.get(i);
+            if (e != null && e.isAlive()) {
                 if (isGoblinInvisible(e)) {
-                    drawEnemySilhouette(e, g);
+                    drawEnemySilhouette(e, g, 1f);
                 } else {
-                    drawEnemy(e, g);
+                    drawEnemy(e, g, 1f);
                 }
             }
         }
@@ -1701,10 +1731,12 @@ public class EnemyManager {
 
         boolean isNight = weatherManager.isNight();
 
+        // Invisibility is timed in game time so it follows pause, fast-forward and headless runs
         if (isNight && !wasNight) {
-            long currentTime = System.currentTimeMillis();
-            for (Enemy e : enemies) {
-                if (e.getEnemyType() == 0) { // GOBLIN
+            long currentTime = playing.getGameTime();
+            for (int i = 0; i < enemies.size(); i++) {
+                Enemy e = enemies.get(i);
+                if (e != null && e.getEnemyType() == 0) { // GOBLIN
                     enemySpawnTimes.put(e, currentTime);
                 }
             }
@@ -1721,13 +1753,13 @@ public class EnemyManager {
             Long spawnTime = enemySpawnTimes.get(enemy);
 
             if (spawnTime == null) {
-                long currentTime = System.currentTimeMillis();
+                long currentTime = playing.getGameTime();
                 enemySpawnTimes.put(enemy, currentTime);
                 enemy.setInvisible(true);
                 return true;
             }
 
-            long currentTime = System.currentTimeMillis();
+            long currentTime = playing.getGameTime();
             boolean isInvisible = (currentTime - spawnTime) < 10000; // First 10 seconds invisible
 
             enemy.setInvisible(isInvisible);
@@ -1741,7 +1773,7 @@ public class EnemyManager {
         return !isGoblinInvisible(enemy);
     }
 
-    private void drawEnemySilhouette(Enemy enemy, Graphics g) {
+    private void drawEnemySilhouette(Enemy enemy, Graphics g, float interpolation) {
         Graphics2D g2d = (Graphics2D) g;
 
         AlphaComposite originalComposite = (AlphaComposite) g2d.getComposite();
@@ -1749,8 +1781,8 @@ public class EnemyManager {
         g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
         g2d.setColor(new Color(0, 0, 0, 150));
 
-        int drawX = (int)(enemy.getX() - 25);
-        int drawY = (int)(enemy.getY() - 30);
+        int drawX = (int)(enemy.getRenderX(interpolation) - 25);
+        int drawY = (int)(enemy.getRenderY(interpolation) - 30);
         int drawWidth = 50;
         int drawHeight = 60;
 
@@ -1769,57 +1801,32 @@ public class EnemyManager {
     }
 
     private void drawEnemies(Graphics g) {
-        for (Enemy e : enemies) {
-            if (e.isAlive()) {
-                drawEnemy(e, g);
+        int count = enemies.size();
+        for (int i = 0; i < count; i++) {
+            Enemy e = enemies.get(i);
+            if (e != null && e.isAlive()) {
+                drawEnemy(e, g, 1f);
             }
         }
     }
 
     private void updateCombatSynergy() {
-        // Get all knights and goblins
-        ArrayList<Enemy> knights = new ArrayList<>();
-        ArrayList<Enemy> goblins = new ArrayList<>();
-
-        for (Enemy enemy : enemies) {
-            if (enemy.isAlive()) {
-                if (enemy.getEnemyType() == Constants.Enemies.KNIGHT) {
-                    knights.add(enemy);
-                } else if (enemy.getEnemyType() == Constants.Enemies.GOBLIN) {
-                    goblins.add(enemy);
-                }
-            }
-        }
+        // Each knight only looks at the grid cells around it for a nearby goblin
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy knight = enemies.get(i);
+            if (!knight.isAlive() || knight.getEnemyType() != Constants.Enemies.KNIGHT) continue;
 
-        // Check each knight's distance to goblins
-        for (Enemy knight : knights) {
-            boolean hasNearbyGoblin = false;
-            float closestGoblinSpeed = 0;
+            nearbyGoblin = null;
+            enemyGrid.queryRadius(knight.getSpriteCenterX(), knight.getSpriteCenterY(),
+                    COMBAT_SYNERGY_DISTANCE, goblinFinder);
 
-            for (Enemy goblin : goblins) {
-                // Use squared distance comparison for better performance
-                float distanceSquared = calculateDistanceSquared(knight, goblin);
-                if (distanceSquared < COMBAT_SYNERGY_DISTANCE_SQUARED) {
-                    hasNearbyGoblin = true;
-                    closestGoblinSpeed = goblin.getSpeed();
-                    break;
-                }
-            }
-
-            if (hasNearbyGoblin) {
-                knight.applyCombatSynergy(closestGoblinSpeed);
+            if (nearbyGoblin != null) {
+                knight.applyCombatSynergy(nearbyGoblin.getSpeed());
             } else {
                 knight.removeCombatSynergy();
             }
         }
-    }
-
-
-    // Optimized version for distance comparison without sqrt
-    private float calculateDistanceSquared(Enemy e1, Enemy e2) {
-        float xDiff = e1.getSpriteCenterX() - e2.getSpriteCenterX();
-        float yDiff = e1.getSpriteCenterY() - e2.getSpriteCenterY();
-        return xDiff * xDiff + yDiff * yDiff;
+        nearbyGoblin = null;
     }
 
     /**
@@ -1833,8 +1840,9 @@ public class EnemyManager {
         }
 
         System.out.println("Updating all existing enemies with new difficulty settings...");
-        for (Enemy enemy : enemies) {
-            if (enemy != null && enemy.isAlive()) {
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isAlive()) {
                 enemy.updateStatsFromOptions(gameOptions);
             }
         }
@@ -1855,5 +1863,46 @@ public class EnemyManager {
         return enemyImages[enemyType * 6 + animationIndex]; // Assuming 6 frames per enemy type
     }
 
-}
+    /**
+     * List face of the enemy store for callers outside the manager. Its iterator
+     * tolerates the store shrinking underneath it and never hands out null.
+     */
+    private class EnemyListView extends AbstractList<Enemy> {
+        @Override
+        public Enemy get(int index) {
+            Enemy enemy = index < enemies.size() ? enemies.get(index) : null;
+            if (enemy == null) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + enemies.size());
+            }
+            return enemy;
+        }
+
+        @Override
+        public int size() {
+            return enemies.size();
+        }
+
+        @Override
+        public Iterator<Enemy> iterator() {
+            return new Iterator<Enemy>() {
+                private int cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < enemies.size() && enemies.get(cursor) != null;
+                }
 
+                @Override
+                public Enemy next() {
+                    Enemy enemy = cursor < enemies.size() ? enemies.get(cursor) : null;
+                    if (enemy == null) {
+                        throw new NoSuchElementException();
+                    }
+                    cursor++;
+                    return enemy;
+                }
+            };
+        }
+    }
+
+}
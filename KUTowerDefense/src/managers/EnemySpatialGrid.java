@@ -0,0 +1,116 @@
+package managers;
+
+import enemies.Enemy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Uniform grid of enemies aligned to the map tiles.
+ * Owned by EnemyManager and rebuilt once per update so that every range query
+ * (tower and warrior targeting, lightning, artillery splash, combat synergy)
+ * only visits the cells overlapping its radius instead of the whole enemy list.
+ *
+ * Enemies outside the map are clamped into the border cells, so queries near the
+ * edges still see them. Cell membership may lag one tick behind an enemy that was
+ * moved outside of update (e.g. teleported), but the distance test in
+ * queryRadius always uses the live position.
+ */
+public class EnemySpatialGrid {
+    private final int cellSize;
+    private final int cols;
+    private final int rows;
+    private final List<List<Enemy>> cells;
+
+    // Indices of cells that currently hold enemies, so clearing is proportional to occupancy
+    private final int[] occupiedCells;
+    private int occupiedCount = 0;
+
+    public EnemySpatialGrid(int cols, int rows, int cellSize) {
+        this.cols = Math.max(1, cols);
+        this.rows = Math.max(1, rows);
+        this.cellSize = cellSize;
+        this.cells = new ArrayList<>(this.cols * this.rows);
+        for (int i = 0; i < this.cols * this.rows; i++) {
+            cells.add(new ArrayList<>());
+        }
+        this.occupiedCells = new int[this.cols * this.rows];
+    }
+
+    /**
+     * Re-buckets all enemies from scratch. Called once at the end of every EnemyManager update.
+     */
+    public void rebuild(List<Enemy> enemies) {
+        clear();
+        for (int i = 0; i < enemies.size(); i++) {
+            insert(enemies.get(i));
+        }
+    }
+
+    /**
+     * Adds a single enemy, e.g. one spawned between two updates.
+     */
+    public void insert(Enemy enemy) {
+        int cell = cellIndex(enemy.getSpriteCenterX(), enemy.getSpriteCenterY());
+        List<Enemy> bucket = cells.get(cell);
+        if (bucket.isEmpty()) {
+            occupiedCells[occupiedCount++] = cell;
+        }
+        bucket.add(enemy);
+    }
+
+    public void clear() {
+        for (int i = 0; i < occupiedCount; i++) {
+            cells.get(occupiedCells[i]).clear();
+        }
+        occupiedCount = 0;
+    }
+
+    /**
+     * Reports every living enemy whose sprite center lies within radius r of (cx, cy).
+     * Uses squared distances only; no list is allocated.
+     *
+     * @param cx Query center X in pixels
+     * @param cy Query center Y in pixels
+     * @param r Query radius in pixels
+     * @param consumer Receives each matching enemy
+     */
+    public void queryRadius(float cx, float cy, float r, Consumer<Enemy> consumer) {
+        int minCol = clampCol((int) Math.floor((cx - r) / cellSize));
+        int maxCol = clampCol((int) Math.floor((cx + r) / cellSize));
+        int minRow = clampRow((int) Math.floor((cy - r) / cellSize));
+        int maxRow = clampRow((int) Math.floor((cy + r) / cellSize));
+        float radiusSquared = r * r;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<Enemy> bucket = cells.get(row * cols + col);
+                for (int i = 0; i < bucket.size(); i++) {
+                    Enemy enemy = bucket.get(i);
+                    if (!enemy.isAlive()) continue;
+
+                    float dx = enemy.getSpriteCenterX() - cx;
+                    float dy = enemy.getSpriteCenterY() - cy;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        consumer.accept(enemy);
+                    }
+                }
+            }
+        }
+    }
+
+    private int cellIndex(float x, float y) {
+        int col = clampCol((int) Math.floor(x / cellSize));
+        int row = clampRow((int) Math.floor(y / cellSize));
+        return row * cols + col;
+    }
+
+    private int clampCol(int col) {
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+}
@@ -1,20 +1,99 @@
 package managers;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
+/**
+ * Writes and reads save games.
+ *
+ * A save is a compact JSON snapshot of the GameStateMemento (<name>.json) plus an
+ * append-only delta log (<name>.delta, one JSON object per line). Saving the same
+ * game again only appends what changed since the previous save: top-level fields
+ * such as gold, health, wave and weather are replaced, and towers are added,
+ * replaced or removed by tile position. Every COMPACT_AFTER_DELTAS deltas the
+ * snapshot is rewritten in full and the log is dropped. Snapshots are written to
+ * a temporary file and renamed over the old one, so a crash never leaves a half
+ * written save; a torn last line of the log is ignored on load. The snapshot and
+ * every delta carry a generation number that goes up with each snapshot, so deltas
+ * left behind by a crash right after a new snapshot are not replayed onto it.
+ *
+ * The memento is turned into a JSON tree on the caller's thread (so later changes
+ * to the game cannot leak into it) and everything else, diffing included, runs on
+ * a single background writer. Loads wait for the writes already queued.
+ */
 public class GameStateManager {
     private static final String SAVE_DIR = getSavesDirectoryPath();
     private static final String DEFAULT_SAVE_FILE = "defaultlevel.json";
+    private static final String DELTA_EXTENSION = ".delta";
+    private static final int COMPACT_AFTER_DELTAS = 8;
+    // Stored in the snapshot and in each delta line; files from before it count as generation 0
+    private static final String GENERATION_KEY = "saveGeneration";
+
+    // One writer for every GameStateManager, so writes to a save are never reordered
+    private static final ExecutorService WRITER = createWriter();
+    // Last state written for each save and how many deltas follow its snapshot; writer thread and loads only
+    private static final Map<String, SaveRecord> RECORDS = new HashMap<>();
+    // Saves queued but not yet written, with how many writes each still has waiting
+    private static final Map<String, Integer> PENDING = new HashMap<>();
+
     private final Gson gson;
 
+    private static class SaveRecord {
+        JsonObject state;
+        int deltaCount;
+        long generation;
+
+        SaveRecord(JsonObject state, int deltaCount, long generation) {
+            this.state = state;
+            this.deltaCount = deltaCount;
+            this.generation = generation;
+        }
+    }
+
+    private static ExecutorService createWriter() {
+        ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "save-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        writer.allowCoreThreadTimeOut(true);
+        // Quitting right after pressing save must not lose the queued write
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "save-writer-shutdown"));
+        return writer;
+    }
+
     /**
      * Gets the appropriate saves directory path based on project structure
      */
@@ -84,27 +163,260 @@ public class GameStateManager {
             System.err.println("❌ GameStateManager: Failed to create saves directory: " + e.getMessage());
         }
 
-        // Initialize Gson with pretty printing
-        gson = new GsonBuilder().setPrettyPrinting().create();
+        // Compact output: saves are read by the game, not by people
+        gson = new Gson();
     }
 
 
+    /**
+     * Queues a save and returns immediately; the file is written on the save writer thread
+     */
     public void saveGameState(GameStateMemento memento, String saveFileName) {
+        JsonObject state = gson.toJsonTree(memento).getAsJsonObject();
+        // Registered before queueing, so saveFileExists sees the name as taken straight away
+        synchronized (PENDING) {
+            PENDING.merge(saveFileName, 1, Integer::sum);
+        }
+        WRITER.execute(() -> {
+            try {
+                writeSave(saveFileName, state);
+            } finally {
+                synchronized (PENDING) {
+                    PENDING.computeIfPresent(saveFileName, (name, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+        });
+    }
+
+    private void writeSave(String saveFileName, JsonObject state) {
+        File saveFile = new File(SAVE_DIR, saveFileName + ".json");
+        File deltaFile = new File(SAVE_DIR, saveFileName + DELTA_EXTENSION);
         try {
-            String json = gson.toJson(memento);
-            File saveFile = new File(SAVE_DIR, saveFileName + ".json");
-            System.out.println("🔍 GameStateManager: Attempting to save to: " + saveFile.getAbsolutePath());
-            Files.write(saveFile.toPath(), json.getBytes());
-            System.out.println("✅ GameStateManager: Game state saved to: " + saveFile.getAbsolutePath());
+            SaveRecord record;
+            synchronized (RECORDS) {
+                record = RECORDS.get(saveFileName);
+            }
+            if (record == null && saveFile.exists()) {
+                // Continuing a save from an earlier session: pick up its current state and log length
+                record = readSave(saveFileName);
+            }
+
+            if (record == null || record.deltaCount >= COMPACT_AFTER_DELTAS) {
+                long generation = record == null ? 1 : record.generation + 1;
+                writeSnapshot(saveFile, state, generation);
+                // If this is lost to a crash, the old deltas are older than the snapshot and skipped on load
+                Files.deleteIfExists(deltaFile.toPath());
+                record = new SaveRecord(state, 0, generation);
+                System.out.println("✅ GameStateManager: Game state snapshot saved to: " + saveFile.getAbsolutePath());
+            } else {
+                JsonObject delta = diff(record.state, state);
+                if (delta.size() > 0) {
+                    delta.addProperty(GENERATION_KEY, record.generation);
+                    Files.write(deltaFile.toPath(), (gson.toJson(delta) + "\n").getBytes(StandardCharsets.UTF_8),
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+                    record.deltaCount++;
+                    System.out.println("✅ GameStateManager: Appended " + (delta.size() - 1) + " changes to: " + deltaFile.getAbsolutePath());
+                }
+                record.state = state;
+            }
+
+            synchronized (RECORDS) {
+                RECORDS.put(saveFileName, record);
+            }
         } catch (IOException e) {
             System.err.println("❌ GameStateManager: Error saving game state: " + e.getMessage());
             e.printStackTrace();
+            // The file may be out of step with the record; start over with a snapshot next time
+            synchronized (RECORDS) {
+                RECORDS.remove(saveFileName);
+            }
+        }
+    }
+
+    // Writes the full state next to the save and renames it over the old one
+    private void writeSnapshot(File saveFile, JsonObject state, long generation) throws IOException {
+        Path target = saveFile.toPath();
+        Path temp = target.resolveSibling(saveFile.getName() + ".tmp");
+        JsonObject snapshot = state.deepCopy();
+        snapshot.addProperty(GENERATION_KEY, generation);
+        Files.write(temp, gson.toJson(snapshot).getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Fields of current that differ from previous; towers are diffed one by one under "towerChanges"
+     */
+    private static JsonObject diff(JsonObject previous, JsonObject current) {
+        JsonObject delta = new JsonObject();
+        for (Map.Entry<String, JsonElement> entry : current.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals("towerStates")) {
+                JsonObject towerChanges = diffTowers(previous.get(key), entry.getValue());
+                if (towerChanges != null) {
+                    delta.add("towerChanges", towerChanges);
+                }
+            } else if (!entry.getValue().equals(previous.get(key))) {
+                delta.add(key, entry.getValue());
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!current.has(key)) {
+                // Gson leaves null fields out; record that the field is gone
+                delta.add(key.equals("towerStates") ? "towerChanges" : key, JsonNull.INSTANCE);
+            }
+        }
+        return delta;
+    }
+
+    private static JsonObject diffTowers(JsonElement previous, JsonElement current) {
+        Map<String, JsonElement> before = towersByTile(previous);
+        Map<String, JsonElement> after = towersByTile(current);
+
+        JsonArray set = new JsonArray();
+        for (Map.Entry<String, JsonElement> tower : after.entrySet()) {
+            if (!tower.getValue().equals(before.get(tower.getKey()))) {
+                set.add(tower.getValue());
+            }
+        }
+        JsonArray removed = new JsonArray();
+        for (Map.Entry<String, JsonElement> tower : before.entrySet()) {
+            if (!after.containsKey(tower.getKey())) {
+                JsonObject position = new JsonObject();
+                position.add("x", tower.getValue().getAsJsonObject().get("x"));
+                position.add("y", tower.getValue().getAsJsonObject().get("y"));
+                removed.add(position);
+            }
+        }
+        if (set.size() == 0 && removed.size() == 0) {
+            return null;
+        }
+
+        JsonObject changes = new JsonObject();
+        changes.add("set", set);
+        changes.add("removed", removed);
+        return changes;
+    }
+
+    private static Map<String, JsonElement> towersByTile(JsonElement towers) {
+        Map<String, JsonElement> byTile = new LinkedHashMap<>();
+        if (towers != null && towers.isJsonArray()) {
+            for (JsonElement tower : towers.getAsJsonArray()) {
+                byTile.put(towerKey(tower.getAsJsonObject()), tower);
+            }
+        }
+        return byTile;
+    }
+
+    private static String towerKey(JsonObject tower) {
+        return tower.get("x").getAsInt() + "," + tower.get("y").getAsInt();
+    }
+
+    private static void applyDelta(JsonObject state, JsonObject delta) {
+        for (Map.Entry<String, JsonElement> entry : delta.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals("towerChanges")) {
+                if (entry.getValue().isJsonNull()) {
+                    state.remove("towerStates");
+                } else {
+                    state.add("towerStates", applyTowerChanges(state.get("towerStates"), entry.getValue().getAsJsonObject()));
+                }
+            } else if (entry.getValue().isJsonNull()) {
+                state.remove(key);
+            } else {
+                state.add(key, entry.getValue());
+            }
+        }
+    }
+
+    private static JsonArray applyTowerChanges(JsonElement towers, JsonObject changes) {
+        Map<String, JsonElement> byTile = towersByTile(towers);
+        for (JsonElement removed : changes.getAsJsonArray("removed")) {
+            byTile.remove(towerKey(removed.getAsJsonObject()));
+        }
+        for (JsonElement tower : changes.getAsJsonArray("set")) {
+            byTile.put(towerKey(tower.getAsJsonObject()), tower);
+        }
+        JsonArray result = new JsonArray();
+        byTile.values().forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Reads a snapshot and replays its delta log
+     * @return The current state and number of deltas, or null if the snapshot is missing or unreadable
+     */
+    private SaveRecord readSave(String saveFileName) {
+        Path savePath = Paths.get(SAVE_DIR, saveFileName + ".json");
+        if (!Files.exists(savePath)) {
+            return null;
+        }
+
+        JsonObject state;
+        try {
+            state = JsonParser.parseString(new String(Files.readAllBytes(savePath), StandardCharsets.UTF_8)).getAsJsonObject();
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            System.err.println("❌ GameStateManager: Failed to load game state: " + e.getMessage());
+            return null;
+        }
+
+        long generation = takeGeneration(state);
+        int deltaCount = 0;
+        Path deltaPath = Paths.get(SAVE_DIR, saveFileName + DELTA_EXTENSION);
+        if (Files.exists(deltaPath)) {
+            List<String> lines;
+            try {
+                lines = Files.readAllLines(deltaPath, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                System.err.println("❌ GameStateManager: Failed to read save deltas, using snapshot only: " + e.getMessage());
+                lines = new ArrayList<>();
+            }
+            for (String line : lines) {
+                if (line.isBlank()) continue;
+                try {
+                    JsonObject delta = JsonParser.parseString(line).getAsJsonObject();
+                    if (takeGeneration(delta) != generation) {
+                        // Written before the snapshot was last rewritten; the snapshot already holds it
+                        continue;
+                    }
+                    applyDelta(state, delta);
+                    deltaCount++;
+                } catch (JsonParseException | IllegalStateException e) {
+                    // Only the last line can be torn, by a crash while appending
+                    System.err.println("GameStateManager: Ignoring unreadable delta in " + deltaPath.getFileName());
+                    break;
+                }
+            }
+        }
+        return new SaveRecord(state, deltaCount, generation);
+    }
+
+    // Removes the generation number from a snapshot or delta and returns it
+    private static long takeGeneration(JsonObject json) {
+        JsonElement generation = json.remove(GENERATION_KEY);
+        return generation == null ? 0 : generation.getAsLong();
+    }
+
+    /**
+     * Blocks until every save queued so far has been written
+     */
+    public void flushPendingSaves() {
+        try {
+            WRITER.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("❌ GameStateManager: Save writer failed: " + e.getMessage());
         }
     }
 
     public void deleteSaveFile(String saveFileName) {
+        flushPendingSaves();
+        synchronized (RECORDS) {
+            RECORDS.remove(saveFileName);
+        }
         try {
             File saveFile = new File(SAVE_DIR, saveFileName + ".json");
+            Files.deleteIfExists(new File(SAVE_DIR, saveFileName + DELTA_EXTENSION).toPath());
             if (saveFile.exists()) {
                 Files.delete(saveFile.toPath());
                 System.out.println("✅ GameStateManager: Save file deleted: " + saveFile.getAbsolutePath());
@@ -118,12 +430,13 @@ public class GameStateManager {
 
 
     public GameStateMemento loadGameState(String saveFileName) {
-        // Ensure the filename has .json extension
-        if (!saveFileName.toLowerCase().endsWith(".json")) {
-            saveFileName += ".json";
+        // Callers may pass the name with its .json extension
+        if (saveFileName.toLowerCase().endsWith(".json")) {
+            saveFileName = saveFileName.substring(0, saveFileName.length() - ".json".length());
         }
+        flushPendingSaves();
 
-        Path savePath = Paths.get(SAVE_DIR, saveFileName);
+        Path savePath = Paths.get(SAVE_DIR, saveFileName + ".json");
         System.out.println("🔍 GameStateManager: Attempting to load from: " + savePath.toAbsolutePath());
 
         if (!Files.exists(savePath)) {
@@ -131,11 +444,16 @@ public class GameStateManager {
             return null;
         }
 
-        try (FileReader reader = new FileReader(savePath.toFile())) {
-            GameStateMemento memento = gson.fromJson(reader, GameStateMemento.class);
-            System.out.println("✅ GameStateManager: Game state loaded from " + savePath.toAbsolutePath());
+        SaveRecord record = readSave(saveFileName);
+        if (record == null) {
+            return null;
+        }
+        try {
+            GameStateMemento memento = gson.fromJson(record.state, GameStateMemento.class);
+            System.out.println("✅ GameStateManager: Game state loaded from " + savePath.toAbsolutePath()
+                    + " (" + record.deltaCount + " deltas)");
             return memento;
-        } catch (IOException e) {
+        } catch (JsonParseException e) {
             System.err.println("❌ GameStateManager: Failed to load game state: " + e.getMessage());
             e.printStackTrace();
             return null;
@@ -148,9 +466,15 @@ public class GameStateManager {
         if (!saveFileName.toLowerCase().endsWith(".json")) {
             saveFileName += ".json";
         }
+        // A save still waiting for the writer counts as existing
+        synchronized (PENDING) {
+            if (PENDING.containsKey(saveFileName.substring(0, saveFileName.length() - ".json".length()))) {
+                return true;
+            }
+        }
         Path savePath = Paths.get(SAVE_DIR, saveFileName);
         boolean exists = Files.exists(savePath);
         System.out.println("🔍 GameStateManager: Checking if save file exists: " + savePath.toAbsolutePath() + " - " + exists);
         return exists;
     }
-}
\ No newline at end of file
+}
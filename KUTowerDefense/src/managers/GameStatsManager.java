@@ -1,58 +1,61 @@
 package managers;
 
 import helpMethods.GameStatsIO;
+import helpMethods.GameStatsLog;
 import stats.GameStatsRecord;
+import stats.MapStatsSummary;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class GameStatsManager {
-    private final List<GameStatsRecord> records = new ArrayList<>();
+    private final GameStatsLog log = GameStatsIO.getLog();
 
+    /**
+     * Stores a finished game in the stats log
+     */
     public void addRecord(GameStatsRecord record) {
-        records.add(record);
+        GameStatsIO.saveToFile(record);
     }
 
-    public List<GameStatsRecord> getRecords() {
-        return records;
+    public int getRecordCount() {
+        return log.getRecordCount();
     }
 
+    /**
+     * @param index 0 for the oldest game
+     * @return The record, or null if it could not be read
+     */
+    public GameStatsRecord getRecord(int index) {
+        return log.getRecord(index);
+    }
+
+    /**
+     * Reads every record; prefer getRecord for display
+     */
     public List<GameStatsRecord> getAllStats() {
-        return records;
+        return GameStatsIO.loadAllStats();
     }
-    public void loadFromFiles() {
-        records.clear();
-        List<GameStatsRecord> loaded = GameStatsIO.loadAllStats();
-        records.addAll(loaded);
-        System.out.println("Loaded " + loaded.size() + " game stats from disk.");
+
+    public List<MapStatsSummary> getMapSummaries() {
+        return log.getMapSummaries();
     }
-    public void saveToFile(GameStatsRecord record) {
-        GameStatsIO.saveToFile(record);
+
+    public void loadFromFiles() {
+        log.open();
+        System.out.println("Loaded " + log.getRecordCount() + " game stats from disk.");
     }
 
     /**
-     * Deletes a statistics record from both memory and disk
+     * Deletes a statistics record from the log
      * @param record The GameStatsRecord to delete
      * @return true if the record was successfully deleted, false otherwise
      */
     public boolean deleteRecord(GameStatsRecord record) {
         if (record == null) return false;
 
-        // Remove from memory
-        boolean removedFromMemory = records.remove(record);
-
-        // Remove from disk
-        boolean removedFromDisk = GameStatsIO.deleteStatFile(record);
-
-        if (removedFromMemory && removedFromDisk) {
+        if (GameStatsIO.deleteStatFile(record)) {
             System.out.println("Successfully deleted statistics record");
             return true;
-        } else if (removedFromMemory && !removedFromDisk) {
-            System.err.println("Warning: Record removed from memory but failed to delete from disk");
-            return false;
-        } else if (!removedFromMemory && removedFromDisk) {
-            System.err.println("Warning: Record deleted from disk but was not found in memory");
-            return false;
         } else {
             System.err.println("Failed to delete statistics record");
             return false;
@@ -1,5 +1,6 @@
 package managers;
 
+import helpMethods.ObjectPool;
 import objects.GoldBag;
 import java.awt.*;
 import java.util.ArrayList;
@@ -9,10 +10,13 @@ import java.util.Random;
 public class GoldBagManager {
     private final ArrayList<GoldBag> goldBags = new ArrayList<>();
     private final Random random = new Random();
+    private final ObjectPool<GoldBag> goldBagPool = new ObjectPool<>("Gold bags", GoldBag::new, 64);
 
     public void spawnGoldBag(float x, float y, int minGold, int maxGold) {
         int goldAmount = minGold + random.nextInt(maxGold - minGold + 1);
-        goldBags.add(new GoldBag(x, y, goldAmount));
+        GoldBag bag = goldBagPool.obtain();
+        bag.init(x, y, goldAmount);
+        goldBags.add(bag);
         AudioManager.getInstance().playSound("coin_drop");
     }
 
@@ -23,6 +27,7 @@ public class GoldBagManager {
             bag.update(speedMultiplier);
             if (bag.isExpired() || (bag.isCollected() && !bag.isShowingCollectionEffect())) {
                 iterator.remove();
+                goldBagPool.release(bag);
             }
         }
     }
@@ -57,6 +62,6 @@ public class GoldBagManager {
      * Clear all gold bags for game restart
      */
     public void clear() {
-        goldBags.clear();
+        goldBagPool.releaseAll(goldBags);
     }
 }
\ No newline at end of file
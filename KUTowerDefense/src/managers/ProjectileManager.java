@@ -3,6 +3,8 @@ package managers;
 import constants.Constants;
 import enemies.Enemy;
 import helpMethods.LoadSave;
+import helpMethods.GameRandom;
+import helpMethods.ObjectPool;
 import objects.Projectile;
 import objects.Tower;
 import scenes.Playing;
@@ -13,14 +15,15 @@ import objects.ArcherWarrior;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 
 import static constants.Constants.Towers.*;
 import static constants.Constants.Projectiles.*;
 
 public class ProjectileManager {
     private Playing playing;
-    private ArrayList<Projectile> projectiles = new ArrayList<>();
+    private final ProjectileStore projectiles = new ProjectileStore();
+    // Spent projectiles are returned here at the end of each update and reused for new shots
+    private final ObjectPool<Projectile> projectilePool = new ObjectPool<>("Projectiles", Projectile::new, 512);
     private BufferedImage[] proj_imgs;
     private BufferedImage[] fireball_imgs;
     private BufferedImage[][] rotatedFireballFrames;
@@ -30,10 +33,19 @@ public class ProjectileManager {
     private int projID = 0;
 
     public ProjectileManager(Playing playing) {
+        this(playing, false);
+    }
+
+    /**
+     * @param headless true for a simulation that is never drawn; projectile sprites are not loaded
+     */
+    public ProjectileManager(Playing playing, boolean headless) {
         this.playing = playing;
-        importImages();
-        loadArrowFrames();
-        loadWizardFrames();
+        if (!headless) {
+            importImages();
+            loadArrowFrames();
+            loadWizardFrames();
+        }
     }
 
     private void importImages() {
@@ -47,7 +59,7 @@ public class ProjectileManager {
     }
 
     private void loadArrowFrames() {
-        final int frameCount = 72;
+        final int frameCount = LoadSave.ARROW_FRAME_COUNT;
         arrowFrames = LoadSave.loadArrowFrames(frameCount);
         if (arrowFrames == null) {
             RotatedProjectileFrameGenerator.generateAndSaveArrowFrames();
@@ -64,7 +76,7 @@ public class ProjectileManager {
     }
 
     private void loadWizardFrames() {
-        final int frameCount = 72;
+        final int frameCount = LoadSave.WIZARD_FRAME_COUNT;
         wizardFrames = LoadSave.loadWizardFrames(frameCount);
         if (wizardFrames == null) {
             RotatedProjectileFrameGenerator.generateAndSaveWizardFrames();
@@ -113,7 +125,8 @@ public class ProjectileManager {
         float xSpeed = (dx / distance) * projectileSpeed;
         float ySpeed = (dy / distance) * projectileSpeed;
 
-        Projectile projectile = new Projectile(
+        Projectile projectile = projectilePool.obtain();
+        projectile.init(
                 shooterCenterX,
                 shooterCenterY,
                 xSpeed,
@@ -128,14 +141,14 @@ public class ProjectileManager {
 
         // Handle windy weather miss chance for arrows
         if (playing.getWeatherManager().isWindy() && projType == Constants.Projectiles.ARROW) {
-            if (Math.random() < 0.3) { // 30% miss chance in windy weather
+            if (GameRandom.nextDouble() < 0.3) { // 30% miss chance in windy weather
                 projectile.setWillMiss(true);
                 // Disable tracking for missing projectiles so they fly off-target
                 projectile.disableTracking();
 
                 // Add some randomness to trajectory for missing arrows
-                float missOffset = 60f + (float)(Math.random() * 40f); // 60-100 pixel offset
-                float missAngle = (float)(Math.random() * 2 * Math.PI); // Random direction
+                float missOffset = 60f + (float)(GameRandom.nextDouble() * 40f); // 60-100 pixel offset
+                float missAngle = (float)(GameRandom.nextDouble() * 2 * Math.PI); // Random direction
                 float originalSpeed = projectile.getProjectileSpeed();
 
                 // Apply miss offset to speed
@@ -170,7 +183,8 @@ public class ProjectileManager {
     }
 
     public void update(float gameSpeedMultiplier) {
-        for (Projectile projectile : projectiles) {
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile projectile = projectiles.get(i);
             if (!projectile.isActive()) continue;
 
             if (projectile.isExploding()) {
@@ -210,6 +224,9 @@ public class ProjectileManager {
             }
             projectile.update();
         }
+
+        // Hand spent projectiles back to the pool instead of keeping every shot ever fired
+        projectiles.compact(projectilePool::release);
     }
 
     private boolean isEnemyShot(Projectile projectile) {
@@ -314,7 +331,7 @@ public class ProjectileManager {
         }
 
         // Mage teleport effect
-        if (projectile.getProjectileType() == MAGICBOLT && Math.random() < 0.03) {
+        if (projectile.getProjectileType() == MAGICBOLT && GameRandom.nextDouble() < 0.03) {
             enemy.applyTeleportEffect();
             playing.getEnemyManager().teleportEnemyToStart(enemy);
         }
@@ -322,7 +339,7 @@ public class ProjectileManager {
         // Wizard warrior effects - slightly different from mage tower
         if (projectile.getProjectileType() == Constants.Projectiles.WIZARD_BOLT) {
             // Wizard warriors have a smaller chance for teleport effect but it's always available
-            if (Math.random() < 0.02) {
+            if (GameRandom.nextDouble() < 0.02) {
                 enemy.applyTeleportEffect();
                 playing.getEnemyManager().teleportEnemyToStart(enemy);
             }
@@ -339,22 +356,20 @@ public class ProjectileManager {
         float centerX = targetEnemy.getSpriteCenterX();
         float centerY = targetEnemy.getSpriteCenterY();
 
-        for (Enemy enemy : playing.getEnemyManager().getEnemies()) {
-            if (enemy == targetEnemy || !enemy.isAlive()) continue;
-
-            float dx = enemy.getSpriteCenterX() - centerX;
-            float dy = enemy.getSpriteCenterY() - centerY;
-            float distance = (float) Math.sqrt(dx * dx + dy * dy);
-
-            if (distance <= aoeRadius) {
-                enemy.hurt(projectile.getDamage() / 2);
+        int splashDamage = projectile.getDamage() / 2;
+        playing.getEnemyManager().queryRadius(centerX, centerY, aoeRadius, enemy -> {
+            if (enemy != targetEnemy) {
+                enemy.hurt(splashDamage);
             }
-        }
+        });
     }
 
     public void draw(Graphics g) {
-        for (Projectile projectile : new ArrayList<>(projectiles)) {
-            drawProjectile(projectile, g);
+        // Runs on the render thread; the store tolerates the simulation changing it meanwhile
+        int count = projectiles.size();
+        for (int i = 0; i < count; i++) {
+            Projectile projectile = projectiles.get(i);
+            if (projectile != null) drawProjectile(projectile, g);
         }
     }
 
@@ -378,7 +393,7 @@ public class ProjectileManager {
 
     private void drawExplosion(Projectile projectile, Graphics g) {
         int frame = projectile.getExplosionFrame();
-        if (frame >= 0 && frame < explosion_imgs.length) {
+        if (explosion_imgs != null && frame >= 0 && frame < explosion_imgs.length) {
             g.drawImage(explosion_imgs[frame],
                     (int)projectile.getPos().x - explosion_imgs[frame].getWidth() / 2,
                     (int)projectile.getPos().y - explosion_imgs[frame].getHeight() / 2,
@@ -482,7 +497,7 @@ public class ProjectileManager {
     }
 
     public void clearProjectiles() {
-        projectiles.clear();
+        projectiles.clear(projectilePool::release);
     }
 
     private boolean isProjectileOffScreen(Projectile projectile) {
@@ -490,9 +505,18 @@ public class ProjectileManager {
         return pos.x < -50 || pos.x > 1024 + 50 || pos.y < -50 || pos.y > 576 + 50;
     }
 
-    // Method to access projectiles list (used by model abstraction)
-    public ArrayList<Projectile> getProjectiles() {
-        return projectiles;
+    /**
+     * Projectiles in flight; spent ones are removed at the end of every update
+     */
+    public int getActiveProjectileCount() {
+        return projectiles.size();
+    }
+
+    /**
+     * Most projectiles in flight at once during this game
+     */
+    public int getPeakProjectileCount() {
+        return projectiles.getPeak();
     }
 
     /**
@@ -0,0 +1,95 @@
+package managers;
+
+import objects.Projectile;
+
+import java.util.function.Consumer;
+
+/**
+ * Packed array of the projectiles in flight, owned by ProjectileManager.
+ *
+ * New shots are appended; compact() runs once per update and slides the
+ * projectiles that are still active down over the spent ones in a single pass,
+ * keeping their firing order, so the array never holds more than the live
+ * projectiles plus one tick's worth of spent ones. Update, draw and counting are
+ * proportional to what is in flight, not to every shot fired in the game.
+ *
+ * Only the simulation thread changes the store. The render thread may walk it
+ * with size() and get() while it changes: it can then see a projectile twice or
+ * miss one for a frame, and get() returns null past the end, but it never throws.
+ */
+public class ProjectileStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private volatile Projectile[] items = new Projectile[INITIAL_CAPACITY];
+    private volatile int size = 0;
+    private int peak = 0;
+
+    public void add(Projectile projectile) {
+        Projectile[] current = items;
+        if (size == current.length) {
+            Projectile[] grown = new Projectile[current.length * 2];
+            System.arraycopy(current, 0, grown, 0, size);
+            items = grown;
+            current = grown;
+        }
+        current[size] = projectile;
+        size++;
+        if (size > peak) peak = size;
+    }
+
+    /**
+     * @return The projectile at index, or null if index is past the end
+     */
+    public Projectile get(int index) {
+        Projectile[] current = items;
+        return index < current.length ? current[index] : null;
+    }
+
+    /**
+     * Number of projectiles in the store; between updates every one of them is active
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Most projectiles held at once since the store was created
+     */
+    public int getPeak() {
+        return peak;
+    }
+
+    /**
+     * Removes every inactive projectile, handing each one to onRemoved
+     */
+    public void compact(Consumer<Projectile> onRemoved) {
+        Projectile[] current = items;
+        int live = 0;
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            Projectile projectile = current[i];
+            if (projectile.isActive()) {
+                current[live++] = projectile;
+            } else {
+                onRemoved.accept(projectile);
+            }
+        }
+        for (int i = live; i < count; i++) {
+            current[i] = null;
+        }
+        size = live;
+    }
+
+    /**
+     * Removes every projectile, handing each one to onRemoved
+     */
+    public void clear(Consumer<Projectile> onRemoved) {
+        Projectile[] current = items;
+        int count = size;
+        size = 0;
+        for (int i = 0; i < count; i++) {
+            onRemoved.accept(current[i]);
+            current[i] = null;
+        }
+    }
+}
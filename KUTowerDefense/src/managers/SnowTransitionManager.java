@@ -19,6 +19,7 @@ public class SnowTransitionManager {
     }
 
     private static final float MEDIUM_SNOW_DURATION = 4.0f; // 4 seconds
+    private static final int FOUR_WAY_ROAD_TILE_ID = 35;
 
     private SnowState currentState = SnowState.NORMAL;
     private float transitionTimer = 0.0f;
@@ -29,6 +30,12 @@ public class SnowTransitionManager {
     private Map<Integer, BufferedImage> fullSnowTiles = new HashMap<>();
     private Map<String, BufferedImage> spriteCache = new HashMap<>();
 
+    // Dense lookup tables indexed by tile id, built once after loading; null entries fall back to the original sprite
+    private BufferedImage[] mediumSnowTable;
+    private BufferedImage[] fullSnowTable;
+    private BufferedImage[] transitionSnowTable;
+    private BufferedImage[] activeSnowTable;      // Table for currentState, null while NORMAL
+
     public SnowTransitionManager() {
         loadSnowTilesets();
     }
@@ -41,6 +48,44 @@ public class SnowTransitionManager {
         if (!success) {
             System.err.println("Warning: Some snow tilesets failed to load. Snow effects may not work properly.");
         }
+        buildSnowTables();
+    }
+
+    /**
+     * Flattens the loaded tilesets into per-state arrays so the per-tile lookup
+     * during snowy frames is a plain array read instead of a String-keyed map lookup
+     */
+    private void buildSnowTables() {
+        int tableSize = FOUR_WAY_ROAD_TILE_ID + 1;
+        for (int tileId : mediumSnowTiles.keySet()) tableSize = Math.max(tableSize, tileId + 1);
+        for (int tileId : fullSnowTiles.keySet()) tableSize = Math.max(tableSize, tileId + 1);
+
+        mediumSnowTable = new BufferedImage[tableSize];
+        fullSnowTable = new BufferedImage[tableSize];
+        for (Map.Entry<Integer, BufferedImage> entry : mediumSnowTiles.entrySet()) {
+            mediumSnowTable[entry.getKey()] = entry.getValue();
+        }
+        for (Map.Entry<Integer, BufferedImage> entry : fullSnowTiles.entrySet()) {
+            fullSnowTable[entry.getKey()] = entry.getValue();
+        }
+
+        // Four-way road has its own snow variants outside the atlases
+        mediumSnowTable[FOUR_WAY_ROAD_TILE_ID] = spriteCache.get("medium_fourway");
+        fullSnowTable[FOUR_WAY_ROAD_TILE_ID] = spriteCache.get("full_fourway");
+
+        // The transition phase shows the medium snow tileset
+        transitionSnowTable = mediumSnowTable;
+
+        updateActiveTable();
+    }
+
+    private void updateActiveTable() {
+        switch (currentState) {
+            case TRANSITIONING: activeSnowTable = transitionSnowTable; break;
+            case MEDIUM_SNOW: activeSnowTable = mediumSnowTable; break;
+            case FULL_SNOW: activeSnowTable = fullSnowTable; break;
+            default: activeSnowTable = null; break;
+        }
     }
 
     /**
@@ -60,6 +105,7 @@ public class SnowTransitionManager {
             if (transitionTimer >= MEDIUM_SNOW_DURATION) {
                 currentState = SnowState.FULL_SNOW;
                 transitionTimer = 0.0f;
+                updateActiveTable();
                 System.out.println("Snow transition: Medium -> Full Snow");
             }
         }
@@ -76,6 +122,7 @@ public class SnowTransitionManager {
         if (isSnowing && currentState == SnowState.NORMAL) {
             currentState = SnowState.TRANSITIONING;
             transitionTimer = 0.0f;
+            updateActiveTable();
             System.out.println("Snow transition: Starting snow effect");
         }
     }
@@ -86,6 +133,7 @@ public class SnowTransitionManager {
     private void clearSnowEffect() {
         currentState = SnowState.NORMAL;
         transitionTimer = 0.0f;
+        updateActiveTable();
         System.out.println("Snow transition: Clearing snow effect");
     }
 
@@ -93,73 +141,15 @@ public class SnowTransitionManager {
      * Gets the appropriate sprite for a tile based on current snow state
      */
     public BufferedImage getSnowSprite(int tileId, BufferedImage originalSprite) {
-        if (currentState == SnowState.NORMAL) {
-            return originalSprite;
-        }
-
-        if (tileId < 0) {
+        BufferedImage[] table = activeSnowTable;
+        if (table == null || tileId < 0 || tileId >= table.length) {
             return originalSprite;
         }
 
-        // Special handling for grass tile
-        if (tileId == 5) {
-            return getSnowGrassSprite();
-        }
-
-        // Special handling for four-way road tile (ID 32)
-        if (tileId == 35) {
-            return getFourWayRoadSnowSprite();
-        }
-
-        BufferedImage snowSprite = null;
-
-        if (currentState == SnowState.TRANSITIONING || currentState == SnowState.MEDIUM_SNOW) {
-            snowSprite = getSnowSpriteFromCache("medium", tileId);
-        } else if (currentState == SnowState.FULL_SNOW) {
-            snowSprite = getSnowSpriteFromCache("full", tileId);
-        }
-
+        BufferedImage snowSprite = table[tileId];
         return snowSprite != null ? snowSprite : originalSprite;
     }
 
-    /**
-     * Gets the snowy grass sprite for the base layer based on current snow state
-     */
-    private BufferedImage getSnowGrassSprite() {
-        BufferedImage snowGrass = null;
-
-        if (currentState == SnowState.TRANSITIONING || currentState == SnowState.MEDIUM_SNOW) {
-            snowGrass = getSnowSpriteFromCache("medium", 5);
-        } else if (currentState == SnowState.FULL_SNOW) {
-            snowGrass = getSnowSpriteFromCache("full", 5);
-        }
-
-        return snowGrass;
-    }
-
-    /**
-     * Gets the snowy four-way road sprite based on current snow state
-     */
-    private BufferedImage getFourWayRoadSnowSprite() {
-        BufferedImage snowFourWay = null;
-
-        if (currentState == SnowState.TRANSITIONING || currentState == SnowState.MEDIUM_SNOW) {
-            snowFourWay = spriteCache.get("medium_fourway");
-        } else if (currentState == SnowState.FULL_SNOW) {
-            snowFourWay = spriteCache.get("full_fourway");
-        }
-
-        return snowFourWay;
-    }
-
-    /**
-     * Gets a snow sprite from cache
-     */
-    private BufferedImage getSnowSpriteFromCache(String type, int tileId) {
-        String cacheKey = type + "_" + tileId;
-        return spriteCache.get(cacheKey);
-    }
-
     public SnowState getCurrentState() {
         return currentState;
     }
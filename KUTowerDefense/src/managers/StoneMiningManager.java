@@ -153,6 +153,7 @@ public class StoneMiningManager {
             int y = currentMiningTile.getY();
             if (gameModel != null && gameModel.getLevel() != null) {
                 gameModel.getLevel()[y][x] = 5; // grass tile ID
+                gameModel.markTileDirty(x, y);
             }
 
             isMiningInProgress = false;
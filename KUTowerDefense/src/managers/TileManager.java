@@ -5,6 +5,7 @@ import objects.Tile;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import helpMethods.BorderImageRotationGenerator;
 import helpMethods.LoadSave;
 import ui_p.AssetsLoader;
 
@@ -27,12 +28,22 @@ public class TileManager {
     public BufferedImage waterTileSet;
     public ArrayList<Tile> tiles = new ArrayList<>();
 
+    // Offset so that the special ids -1 (start), -2 (end), -3 (wall) and -4 (gate) map to array slots
+    private static final int SPECIAL_TILE_OFFSET = 4;
+
+    // Immutable sprite table built once in the constructor: index + SPECIAL_TILE_OFFSET -> sprite
+    private BufferedImage[] spriteTable;
+    // Tile-sized wall/gate sprites for each gate edge (0=top, 1=bottom, 2=left, 3=right)
+    private final BufferedImage[] borderWallSprites = new BufferedImage[4];
+    private final BufferedImage[] borderGateSprites = new BufferedImage[4];
+
     // New snow transition manager
     private SnowTransitionManager snowTransitionManager;
 
     public TileManager() {
         loadAtlas();
         createTiles();
+        buildSpriteTable();
 
         snowTransitionManager = new SnowTransitionManager();
         System.out.println("TileManager initialized with snow transition support");
@@ -129,53 +140,91 @@ public class TileManager {
     }
 
     /**
-     * Gets the original sprite without any snow effects
+     * Gets a tile-sized wall or gate sprite rotated for the given gate edge
+     * @param isWall true for wall (-3), false for gate (-4)
+     * @param gateEdge 0=top, 1=bottom, 2=left, 3=right
+     */
+    public BufferedImage getBorderSprite(boolean isWall, int gateEdge) {
+        if (gateEdge < 0 || gateEdge > 3) {
+            gateEdge = 0;
+        }
+        return isWall ? borderWallSprites[gateEdge] : borderGateSprites[gateEdge];
+    }
+
+    /**
+     * Gets the original sprite without any snow effects.
+     * Pure table lookup: every sprite, including the special start/end/wall/gate ids, is precomputed.
      */
     private BufferedImage getOriginalSprite(int index) {
-        // special handling for start and end points
-        if (index == -1) {
-            return resizeImage(AssetsLoader.getInstance().startPointImg, GameDimensions.PATHPOINT_DISPLAY_SIZE, GameDimensions.PATHPOINT_DISPLAY_SIZE);
-        } else if (index == -2) {
-            return resizeImage(AssetsLoader.getInstance().endPointImg, GameDimensions.PATHPOINT_DISPLAY_SIZE, GameDimensions.PATHPOINT_DISPLAY_SIZE);
-        } else if (index == -3) { // Wall
-            BufferedImage wallImg = LoadSave.getImageFromPath("/Borders/wall.png");
-            if (wallImg != null) {
-                // Determine wall orientation based on position
-                int[][] levelData = LoadSave.getLevelData("defaultleveltest1");
-                if (levelData != null) {
-                    // Find the wall's position in the level data
-                    for (int i = 0; i < levelData.length; i++) {
-                        for (int j = 0; j < levelData[i].length; j++) {
-                            if (levelData[i][j] == -3) {
-                                // Check which edge the wall is on
-                                if (i == 0) { // Top edge
-                                    return resizeImage(wallImg, GameDimensions.TILE_DISPLAY_SIZE, GameDimensions.TILE_DISPLAY_SIZE);
-                                } else if (i == levelData.length - 1) { // Bottom edge
-                                    return rotateImage(wallImg, 180);
-                                } else if (j == 0) { // Left edge
-                                    return rotateImage(wallImg, -90);
-                                } else if (j == levelData[i].length - 1) { // Right edge
-                                    return rotateImage(wallImg, 90);
-                                }
-                            }
+        int slot = index + SPECIAL_TILE_OFFSET;
+        if (slot < 0 || slot >= spriteTable.length) {
+            throw new IndexOutOfBoundsException("Invalid tile index: " + index);
+        }
+        return spriteTable[slot];
+    }
+
+    /**
+     * Builds the sprite table once so that getSprite never touches the disk or allocates.
+     * The special ids reproduce what used to be computed on every call.
+     */
+    private void buildSpriteTable() {
+        spriteTable = new BufferedImage[tiles.size() + SPECIAL_TILE_OFFSET];
+
+        for (int i = 0; i < tiles.size(); i++) {
+            spriteTable[i + SPECIAL_TILE_OFFSET] = tiles.get(i).getSprite();
+        }
+
+        // start and end points
+        spriteTable[-1 + SPECIAL_TILE_OFFSET] = resizeImage(AssetsLoader.getInstance().startPointImg, GameDimensions.PATHPOINT_DISPLAY_SIZE, GameDimensions.PATHPOINT_DISPLAY_SIZE);
+        spriteTable[-2 + SPECIAL_TILE_OFFSET] = resizeImage(AssetsLoader.getInstance().endPointImg, GameDimensions.PATHPOINT_DISPLAY_SIZE, GameDimensions.PATHPOINT_DISPLAY_SIZE);
+
+        BufferedImage wallImg = LoadSave.getImageFromPath("/Borders/wall.png");
+        if (wallImg != null) {
+            spriteTable[-3 + SPECIAL_TILE_OFFSET] = createDefaultWallSprite(wallImg);
+        }
+
+        BufferedImage gateImg = LoadSave.getImageFromPath("/Borders/gate.png");
+        if (gateImg != null) {
+            spriteTable[-4 + SPECIAL_TILE_OFFSET] = resizeImage(gateImg, GameDimensions.TILE_DISPLAY_SIZE, GameDimensions.TILE_DISPLAY_SIZE);
+        }
+
+        // All border rotations, resized to the tile size
+        BorderImageRotationGenerator borderGenerator = BorderImageRotationGenerator.getInstance();
+        for (int edge = 0; edge < 4; edge++) {
+            BufferedImage wall = borderGenerator.getRotatedBorderImage(true, edge);
+            BufferedImage gate = borderGenerator.getRotatedBorderImage(false, edge);
+            borderWallSprites[edge] = wall != null ? resizeImage(wall, GameDimensions.TILE_DISPLAY_SIZE, GameDimensions.TILE_DISPLAY_SIZE) : null;
+            borderGateSprites[edge] = gate != null ? resizeImage(gate, GameDimensions.TILE_DISPLAY_SIZE, GameDimensions.TILE_DISPLAY_SIZE) : null;
+        }
+    }
+
+    /**
+     * The generic wall sprite is oriented after the first wall found in the reference level
+     */
+    private BufferedImage createDefaultWallSprite(BufferedImage wallImg) {
+        // Determine wall orientation based on position
+        int[][] levelData = LoadSave.getLevelData("defaultleveltest1");
+        if (levelData != null) {
+            // Find the wall's position in the level data
+            for (int i = 0; i < levelData.length; i++) {
+                for (int j = 0; j < levelData[i].length; j++) {
+                    if (levelData[i][j] == -3) {
+                        // Check which edge the wall is on
+                        if (i == 0) { // Top edge
+                            return resizeImage(wallImg, GameDimensions.TILE_DISPLAY_SIZE, GameDimensions.TILE_DISPLAY_SIZE);
+                        } else if (i == levelData.length - 1) { // Bottom edge
+                            return rotateImage(wallImg, 180);
+                        } else if (j == 0) { // Left edge
+                            return rotateImage(wallImg, -90);
+                        } else if (j == levelData[i].length - 1) { // Right edge
+                            return rotateImage(wallImg, 90);
                         }
                     }
                 }
-                // Default case: return original image
-                return resizeImage(wallImg, GameDimensions.TILE_DISPLAY_SIZE, GameDimensions.TILE_DISPLAY_SIZE);
-            }
-        } else if (index == -4) { // Gate
-            BufferedImage gateImg = LoadSave.getImageFromPath("/Borders/gate.png");
-            if (gateImg != null) {
-                return resizeImage(gateImg, GameDimensions.TILE_DISPLAY_SIZE, GameDimensions.TILE_DISPLAY_SIZE);
             }
         }
-
-        // regular tile handling
-        if (index < 0 || index >= tiles.size()) {
-            throw new IndexOutOfBoundsException("Invalid tile index: " + index);
-        }
-        return tiles.get(index).getSprite();
+        // Default case: return original image
+        return resizeImage(wallImg, GameDimensions.TILE_DISPLAY_SIZE, GameDimensions.TILE_DISPLAY_SIZE);
     }
 
     /**
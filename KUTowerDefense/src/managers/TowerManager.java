@@ -3,6 +3,8 @@ package managers;
 import constants.GameDimensions;
 import enemies.Enemy;
 import helpMethods.LoadSave;
+import helpMethods.SpriteRegistry;
+import helpMethods.GameRandom;
 import objects.ArcherTower;
 import objects.ArtilleryTower;
 import objects.MageTower;
@@ -26,6 +28,7 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class TowerManager {
     private Playing playing;
@@ -38,9 +41,46 @@ public class TowerManager {
     private List<objects.TNTWarrior> tntWarriors = new ArrayList<>();
     private Map<Tower, Integer> towerTNTCounts = new HashMap<>(); // Track total TNT warriors spawned per tower
 
+    // Range checks subtract half the enemy width, so grid queries are widened by the largest half width
+    private static final float MAX_ENEMY_HALF_WIDTH = Enemy.Size.LARGE.getWidth() / 2f;
+    // Reused target buffer so per-tick targeting does not allocate a list per tower
+    private final List<Enemy> enemiesInRange = new ArrayList<>();
+    // Path intervals inside each tower's range, computed when a tower is placed or the weather
+    // changes tower range; a tower only looks for targets while an enemy is inside one of them
+    private final Map<Tower, PathCoverage> pathCoverage = new HashMap<>();
+    private float coverageRangeMultiplier = 1.0f;
+    // Coverage radii are rounded up to this many pixels, so slow wear does not recompute coverage every shot
+    private static final float COVERAGE_RADIUS_STEP = 8f;
+
+    // Reused by findByProgress so progress targeting does not allocate a lambda per tower
+    private Tower targetingTower;
+    private final Predicate<Enemy> targetableByTower = enemy ->
+            enemy.isAlive() && isEnemyInRange(targetingTower, enemy);
+
+    private static class PathCoverage {
+        final float radius;
+        final float[] intervals;
+
+        PathCoverage(float radius, float[] intervals) {
+            this.radius = radius;
+            this.intervals = intervals;
+        }
+    }
+
     public TowerManager(Playing playing) {
+        this(playing, false);
+    }
+
+    /**
+     * @param headless true for a simulation that is never drawn; tower sprites are not loaded
+     */
+    public TowerManager(Playing playing, boolean headless) {
         this.playing = playing;
-        loadTowerImages();
+        if (!headless) {
+            loadTowerImages();
+            // Warriors and upgraded towers appear mid-wave; decode their sprites now rather than then
+            SpriteRegistry.getInstance().preloadGameplaySprites();
+        }
     }
 
     private void loadTowerImages() {
@@ -55,19 +95,15 @@ public class TowerManager {
         // Load night mode sprites
         nightTowerImages = new BufferedImage[4];
         nightUpTowerImages = new BufferedImage[4];
-        BufferedImage nightImg = LoadSave.getImageFromPath("/TowerAssets/towerNight.png");
-        BufferedImage nightUpImg = LoadSave.getImageFromPath("/TowerAssets/towerUpNight.png");
-        if (nightImg != null) {
-            for (int i = 0; i < 3; i++) {
-                nightTowerImages[i] = nightImg.getSubimage(i * 384, 0, 384, 384);
-            }
+        BufferedImage[] nightFrames = SpriteRegistry.getInstance().getStripFrames("/TowerAssets/towerNight.png", 3, 384, 384);
+        BufferedImage[] nightUpFrames = SpriteRegistry.getInstance().getStripFrames("/TowerAssets/towerUpNight.png", 3, 384, 384);
+        if (nightFrames != null) {
+            System.arraycopy(nightFrames, 0, nightTowerImages, 0, 3);
             // For poison tower, reuse mage tower night sprite for now
             nightTowerImages[3] = nightTowerImages[2];
         }
-        if (nightUpImg != null) {
-            for (int i = 0; i < 3; i++) {
-                nightUpTowerImages[i] = nightUpImg.getSubimage(i * 384, 0, 384, 384);
-            }
+        if (nightUpFrames != null) {
+            System.arraycopy(nightUpFrames, 0, nightUpTowerImages, 0, 3);
             // For poison tower, reuse mage tower night sprite for now
             nightUpTowerImages[3] = nightUpTowerImages[2];
         }
@@ -78,6 +114,7 @@ public class TowerManager {
     }
 
     public void update(float speedMultiplier) {
+        refreshCoverageIfRangeChanged();
         for (Tower tower : towers) {
             tower.update(speedMultiplier);
             if (!tower.isDestroyed()) {
@@ -92,6 +129,7 @@ public class TowerManager {
     }
 
     private void attackEnemyIfInRange(float speedMultiplier) {
+        refreshCoverageIfRangeChanged();
         for (Tower tower : towers) {
             tower.update(speedMultiplier);
             if (!tower.isDestroyed()) {
@@ -108,14 +146,30 @@ public class TowerManager {
 
         // Towers can always attack - night effects are handled through enemy targeting
 
-        // Collect all enemies in range
-        List<Enemy> enemiesInRange = new ArrayList<>();
-        for (Enemy enemy : playing.getEnemyManager().getEnemies()) {
-            if (enemy.isAlive() && isEnemyInRange(tower, enemy)) {
-                enemiesInRange.add(enemy);
+        // Idle towers: no enemy is on the stretch of path this tower can reach
+        EnemyManager enemyManager = playing.getEnemyManager();
+        float[] coverage = getPathCoverage(tower);
+        if (coverage != null && !enemyManager.hasEnemyInProgress(coverage)) {
+            return;
+        }
+
+        // First/Last only rank by path progress: ask the progress index instead of collecting every enemy in range
+        TargetingStrategy strategy = tower.getTargetingStrategy();
+        int progressOrder = strategy.getProgressOrder();
+        if (progressOrder != TargetingStrategy.PROGRESS_ANY && tower.getType() != constants.Constants.Towers.POISON) {
+            targetingTower = tower;
+            Enemy target = enemyManager.findByProgress(coverage,
+                    progressOrder == TargetingStrategy.PROGRESS_MOST, targetableByTower);
+            targetingTower = null;
+            if (target != null) {
+                shootAt(tower, target);
             }
+            return;
         }
 
+        // Collect all enemies in range from the cells around the tower
+        collectEnemiesInRange(tower);
+
         // Use the tower's targeting strategy to select the best target
         if (!enemiesInRange.isEmpty()) {
             // Special handling for PoisonTower - it attacks ALL enemies in range, not just one
@@ -133,41 +187,118 @@ public class TowerManager {
                 return;
             }
 
-            TargetingStrategy strategy = tower.getTargetingStrategy();
             Enemy target = strategy.selectTarget(enemiesInRange, tower);
 
             if (target != null) {
+                shootAt(tower, target);
+            }
+        }
+    }
 
-                tower.incrementUsage(); // Increment usage count when tower attacks
-                tower.resetCooldown();
-                tower.applyOnHitEffect(target, playing);
+    private void shootAt(Tower tower, Enemy target) {
+        tower.incrementUsage(); // Increment usage count when tower attacks
+        tower.resetCooldown();
+        tower.applyOnHitEffect(target, playing);
 
-                // Windy weather effect: Archer towers have 30% chance to miss
-                // Check windy weather effect BEFORE shooting
-                boolean shouldMiss = false;
+        // Windy weather effect: Archer towers have 30% chance to miss
+        // Check windy weather effect BEFORE shooting
+        boolean shouldMiss = false;
 
-                if (playing.getWeatherManager().isWindy() && tower.getType() == constants.Constants.Towers.ARCHER) {
-                    // 30% chance to miss in windy weather
-                    if (Math.random() < 0.3) {
-                        shouldMiss = true;
-                        System.out.println("Archer tower missed due to windy weather!");
-                    }
-                }
+        if (playing.getWeatherManager().isWindy() && tower.getType() == constants.Constants.Towers.ARCHER) {
+            // 30% chance to miss in windy weather
+            if (GameRandom.nextDouble() < 0.3) {
+                shouldMiss = true;
+                System.out.println("Archer tower missed due to windy weather!");
+            }
+        }
 
-                // Always shoot (for cooldown consistency), but the projectile will handle miss logic
-                playing.shootEnemy(tower, target);
-                tower.resetCooldown();
+        // Always shoot (for cooldown consistency), but the projectile will handle miss logic
+        playing.shootEnemy(tower, target);
+        tower.resetCooldown();
 
-                // Note: The ProjectileManager will handle the actual miss behavior using willMiss flag
+        // Note: The ProjectileManager will handle the actual miss behavior using willMiss flag
+    }
+
+    /**
+     * Path intervals the tower can reach, widened by the largest enemy half width like the
+     * grid query and rounded up to COVERAGE_RADIUS_STEP. Normally computed when the tower is
+     * placed; recomputed here if its range has changed since (wear, repair, options).
+     *
+     * @return The intervals, or null if there is no enemy path to cover yet
+     */
+    private float[] getPathCoverage(Tower tower) {
+        EnemyManager enemyManager = playing.getEnemyManager();
+        if (enemyManager == null) return null;
+
+        float reach = getEffectiveRange(tower.getConditionBasedRange()) + MAX_ENEMY_HALF_WIDTH;
+        float radius = (float) Math.ceil(reach / COVERAGE_RADIUS_STEP) * COVERAGE_RADIUS_STEP;
+        PathCoverage coverage = pathCoverage.get(tower);
+        if (coverage == null || coverage.radius != radius) {
+            coverage = new PathCoverage(radius, enemyManager.getPathCoverage(
+                    tower.getX() + tower.getWidth() / 2,
+                    tower.getY() + tower.getHeight() / 2,
+                    radius));
+            pathCoverage.put(tower, coverage);
+        }
+        return coverage.intervals;
+    }
+
+    /**
+     * Recomputes every tower's coverage when the weather changes tower range
+     */
+    private void refreshCoverageIfRangeChanged() {
+        WeatherManager weatherManager = playing.getWeatherManager();
+        float multiplier = weatherManager != null ? weatherManager.getTowerRangeMultiplier() : 1.0f;
+        if (multiplier != coverageRangeMultiplier) {
+            coverageRangeMultiplier = multiplier;
+            for (Tower tower : towers) {
+                getPathCoverage(tower);
             }
         }
     }
 
-    private boolean isEnemyInRange(Tower tower, Enemy enemy) {
-        float effectiveRange = tower.getConditionBasedRange();
+    private void placeTower(Tower tower) {
+        towers.add(tower);
+        getPathCoverage(tower);
+    }
+
+    private void collectEnemiesInRange(Tower tower) {
+        enemiesInRange.clear();
+        float queryRadius = getEffectiveRange(tower.getConditionBasedRange()) + MAX_ENEMY_HALF_WIDTH;
+        playing.getEnemyManager().queryRadius(
+                tower.getX() + tower.getWidth() / 2f,
+                tower.getY() + tower.getHeight() / 2f,
+                queryRadius,
+                enemy -> {
+                    if (isEnemyInRange(tower, enemy)) {
+                        enemiesInRange.add(enemy);
+                    }
+                });
+    }
+
+    private void collectEnemiesInRange(Warrior warrior) {
+        enemiesInRange.clear();
+        float queryRadius = getEffectiveRange(warrior.getRange()) + MAX_ENEMY_HALF_WIDTH;
+        playing.getEnemyManager().queryRadius(
+                warrior.getX() + warrior.getWidth() / 2f,
+                warrior.getY() + warrior.getHeight() / 2f,
+                queryRadius,
+                enemy -> {
+                    if (isEnemyInRange(warrior, enemy)) {
+                        enemiesInRange.add(enemy);
+                    }
+                });
+    }
+
+    private float getEffectiveRange(float baseRange) {
         if (playing.getWeatherManager().isRaining()) {
-            effectiveRange *= playing.getWeatherManager().getTowerRangeMultiplier();
+            return baseRange * playing.getWeatherManager().getTowerRangeMultiplier();
         }
+        return baseRange;
+    }
+
+    private boolean isEnemyInRange(Tower tower, Enemy enemy) {
+        float effectiveRange = getEffectiveRange(tower.getConditionBasedRange());
 
         // Use tower center position for range calculation
         int towerCenterX = tower.getX() + tower.getWidth() / 2;
@@ -287,8 +418,10 @@ public class TowerManager {
                                 d.vy += 0.2f * dt; // gravity
                                 d.age++;
                                 d.alpha = 1f - (float)d.age / d.lifetime;
-                                if (d.age > d.lifetime) it_debris.remove();
-                                else {
+                                if (d.age > d.lifetime) {
+                                    it_debris.remove();
+                                    objects.Tower.releaseDebris(d);
+                                } else {
                                     g.setColor(new java.awt.Color(d.color, true));
                                     g2d.setComposite(java.awt.AlphaComposite.getInstance(java.awt.AlphaComposite.SRC_OVER, Math.max(0f, d.alpha)));
                                     g.fillRect((int)d.x, (int)d.y, d.size, d.size);
@@ -296,7 +429,7 @@ public class TowerManager {
                                 }
                             }
                             if (tower.debrisList.isEmpty() || now - tower.debrisStartTime > objects.Tower.DEBRIS_DURATION_MS) {
-                                tower.debrisList = null;
+                                tower.clearDebris();
                             }
                         }
                     }
@@ -411,40 +544,40 @@ public class TowerManager {
     }
 
     public void buildArcherTower(int x, int y) {
-        towers.add(new ArcherTower(x, y));
+        placeTower(new ArcherTower(x, y));
         // Don't notify tower placement during wave - wave start states should remain unchanged
     }
 
     // Method to build tower with custom targeting strategy
     public void buildArcherTower(int x, int y, TargetingStrategy targetingStrategy) {
-        towers.add(new ArcherTower(x, y, targetingStrategy));
+        placeTower(new ArcherTower(x, y, targetingStrategy));
         // Don't notify tower placement during wave - wave start states should remain unchanged
     }
 
     public void buildMageTower(int x, int y) {
-        towers.add(new MageTower(x, y));
+        placeTower(new MageTower(x, y));
         // Don't notify tower placement during wave - wave start states should remain unchanged
     }
 
     // Method to build tower with custom targeting strategy
     public void buildMageTower(int x, int y, TargetingStrategy targetingStrategy) {
-        towers.add(new MageTower(x, y, targetingStrategy));
+        placeTower(new MageTower(x, y, targetingStrategy));
         // Don't notify tower placement during wave - wave start states should remain unchanged
     }
 
     public void buildArtilerryTower(int x, int y) {
-        towers.add(new ArtilleryTower(x, y));
+        placeTower(new ArtilleryTower(x, y));
         // Don't notify tower placement during wave - wave start states should remain unchanged
     }
 
     // Method to build tower with custom targeting strategy
     public void buildArtilleryTower(int x, int y, TargetingStrategy targetingStrategy) {
-        towers.add(new ArtilleryTower(x, y, targetingStrategy));
+        placeTower(new ArtilleryTower(x, y, targetingStrategy));
         // Don't notify tower placement during wave - wave start states should remain unchanged
     }
 
     public void buildPoisonTower(int x, int y) {
-        towers.add(new PoisonTower(x, y));
+        placeTower(new PoisonTower(x, y));
         // Don't notify tower placement during wave - wave start states should remain unchanged
     }
 
@@ -454,10 +587,11 @@ public class TowerManager {
 
     public void clearTowers() {
         towers.clear();
+        pathCoverage.clear();
     }
 
     public void addTower(Tower tower) {
-        towers.add(tower);
+        placeTower(tower);
         // Don't notify for tower placement during restore - this would cause infinite loops
         // Only notify for new tower placements during gameplay
     }
@@ -467,6 +601,8 @@ public class TowerManager {
         int index = towers.indexOf(oldTower);
         if (index != -1) {
             towers.set(index, newTower);
+            pathCoverage.remove(oldTower);
+            getPathCoverage(newTower);
         } else {
             // This case should ideally not happen if oldTower was in the list.
             // Log an error or handle as appropriate.
@@ -478,6 +614,7 @@ public class TowerManager {
     public void removeTower(Tower tower) {
         boolean removed = towers.remove(tower);
         if (removed) {
+            pathCoverage.remove(tower);
             // Reset the tile data back to dead tree where the tower was located
             resetTileToDeadTree(tower);
 
@@ -511,6 +648,7 @@ public class TowerManager {
         if (tileY >= 0 && tileY < level.length && tileX >= 0 && tileX < level[0].length) {
             // Reset to grass tile (ID 5)
             level[tileY][tileX] = 5;
+            playing.markTileDirty(tileX, tileY);
             System.out.println("Reset tile at (" + tileX + ", " + tileY + ") to grass");
         }
     }
@@ -533,6 +671,7 @@ public class TowerManager {
         if (tileY >= 0 && tileY < level.length && tileX >= 0 && tileX < level[0].length) {
             // Reset to dead tree tile (ID 15)
             level[tileY][tileX] = 15;
+            playing.markTileDirty(tileX, tileY);
             System.out.println("Reset tile at (" + tileX + ", " + tileY + ") to dead tree");
         }
     }
@@ -613,16 +752,10 @@ public class TowerManager {
             }
 
             // Check if there are enemies in range
-            boolean hasEnemiesInRange = false;
-            for (Enemy enemy : playing.getEnemyManager().getEnemies()) {
-                if (enemy.isAlive() && isEnemyInRange(warrior, enemy)) {
-                    hasEnemiesInRange = true;
-                    break;
-                }
-            }
+            collectEnemiesInRange(warrior);
 
             // Update warrior state based on enemy presence
-            if (hasEnemiesInRange) {
+            if (!enemiesInRange.isEmpty()) {
                 warrior.setAttackingState();
 
                 // Only attack if cooldown is over
@@ -640,15 +773,8 @@ public class TowerManager {
         updateTNTWarriors(speedMultiplier);
     }
 
+    // Expects enemiesInRange to have been filled by collectEnemiesInRange(warrior) in updateWarriors
     private void attackEnemyIfInRange(Warrior warrior) {
-        // Collect all enemies in range
-        List<Enemy> enemiesInRange = new ArrayList<>();
-        for (Enemy enemy : playing.getEnemyManager().getEnemies()) {
-            if (enemy.isAlive() && isEnemyInRange(warrior, enemy)) {
-                enemiesInRange.add(enemy);
-            }
-        }
-
         // Use the warrior's targeting strategy to select the best target
         if (!enemiesInRange.isEmpty()) {
             TargetingStrategy strategy = warrior.getTargetingStrategy();
@@ -665,10 +791,7 @@ public class TowerManager {
     }
 
     private boolean isEnemyInRange(Warrior warrior, Enemy enemy) {
-        float effectiveRange = warrior.getRange();
-        if (playing.getWeatherManager().isRaining()) {
-            effectiveRange *= playing.getWeatherManager().getTowerRangeMultiplier();
-        }
+        float effectiveRange = getEffectiveRange(warrior.getRange());
 
         // Use warrior center position for range calculation
         int warriorCenterX = warrior.getX() + warrior.getWidth() / 2;
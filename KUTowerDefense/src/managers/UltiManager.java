@@ -33,6 +33,8 @@ public class UltiManager {
     private final int lightningCost = 75;
     private final int lightningDamage = 80;
     private final int lightningRadius = 100;
+    // Widens the grid query so an enemy whose sprite center is off its position is still considered
+    private static final int LARGEST_ENEMY_SIZE = Enemy.Size.LARGE.getWidth();
 
     private long lastGoldFactoryUsedGameTime = -999999;
     private final long goldFactoryCooldownMillis = 30000; // 30 seconds
@@ -48,6 +50,8 @@ public class UltiManager {
     private long goldFactorySelectedTime = 0; // Time when factory was selected
     private final long placementDelayMillis = 300; // 300ms delay before placement is allowed
     private final List<LightningStrike> activeStrikes = new ArrayList<>();
+    private final helpMethods.ObjectPool<LightningStrike> strikePool =
+            new helpMethods.ObjectPool<>("Lightning strikes", LightningStrike::new, 8);
     private final List<GoldFactory> goldFactories = new ArrayList<>();
 
     public UltiManager(Playing playing) {
@@ -105,21 +109,7 @@ public class UltiManager {
                         }
                         
                         // Spawn debris effect - same as TNT warrior explosion
-                        java.util.List<objects.Tower.Debris> debris = new java.util.ArrayList<>();
-                        int debrisCount = 12 + (int)(Math.random() * 6);
-                        int cx = tower.getX() + 32, cy = tower.getY() + 32;
-                        for (int d = 0; d < debrisCount; d++) {
-                            double angle = Math.random() * 2 * Math.PI;
-                            float speed = 2f + (float)Math.random() * 2f;
-                            float vx = (float)Math.cos(angle) * speed;
-                            float vy = (float)Math.sin(angle) * speed;
-                            int color = 0xFF7C5C2E; // brown debris
-                            int size = 3 + (int)(Math.random() * 4);
-                            int lifetime = 20 + (int)(Math.random() * 10);
-                            debris.add(new objects.Tower.Debris(cx, cy, vx, vy, color, size, lifetime));
-                        }
-                        tower.debrisList = debris;
-                        tower.debrisStartTime = System.currentTimeMillis();
+                        tower.spawnDebris();
                     } else {
                         System.out.println("Earthquake spared " + tower.getClass().getSimpleName() + " (50% chance failed)");
                     }
@@ -239,30 +229,38 @@ public class UltiManager {
         lastLightningUsedGameTime = playing.getGameTime();
         waitingForLightningTarget = false;
 
-        for (Enemy enemy : playing.getEnemyManager().getEnemies()) {
-            if (!enemy.isAlive()) continue;
+        final int strikeDamage = playing.getWeatherManager().isRaining()
+                ? (int)(lightningDamage * 1.25f)
+                : lightningDamage;
+
+        // Only the grid cells under the strike radius are visited. The grid measures from the
+        // sprite center, while lightning has always measured from getX()/getY(): the query is
+        // widened by one sprite and the hit test below keeps lightning's own origin.
+        float lightningRadiusSquared = (float) lightningRadius * lightningRadius;
+        playing.getEnemyManager().queryRadius(x, y, lightningRadius + LARGEST_ENEMY_SIZE, enemy -> {
             float dx = enemy.getX() - x;
             float dy = enemy.getY() - y;
-            if (Math.sqrt(dx * dx + dy * dy) <= lightningRadius) {
-                // Use GRASP Information Expert pattern for lightning damage
-                int finalLightningDamage = lightningDamage;
-                if(playing.getWeatherManager().isRaining()) {
-                    finalLightningDamage = (int)(lightningDamage * 1.25f);
-                }
-                enemy.takeDamage(finalLightningDamage, enemies.Enemy.DamageType.ULTIMATE, true);
-                // Track death location for confetti if enemy died from lightning
-                if (!enemy.isAlive() && playing.getController() != null && playing.getController().getModel() != null) {
-                    playing.getController().getModel().enemyDiedAt((int)enemy.getX(), (int)enemy.getY());
-                }
+            if (dx * dx + dy * dy > lightningRadiusSquared) return;
+            // Use GRASP Information Expert pattern for lightning damage
+            enemy.takeDamage(strikeDamage, enemies.Enemy.DamageType.ULTIMATE, true);
+            // Track death location for confetti if enemy died from lightning
+            if (!enemy.isAlive() && playing.getController() != null && playing.getController().getModel() != null) {
+                playing.getController().getModel().enemyDiedAt((int)enemy.getX(), (int)enemy.getY());
             }
-        }
+        });
 
-        activeStrikes.add(new LightningStrike(x, y));
+        LightningStrike strike = strikePool.obtain();
+        strike.init(x, y);
+        activeStrikes.add(strike);
         AudioManager.getInstance().playSound("lightning");
     }
 
     public void update(long gameTimeMillis, float gameSpeedMultiplier) {
-        activeStrikes.removeIf(LightningStrike::isFinished);
+        activeStrikes.removeIf(strike -> {
+            if (!strike.isFinished()) return false;
+            strikePool.release(strike);
+            return true;
+        });
         for (LightningStrike strike : activeStrikes) {
             strike.update(gameTimeMillis);
         }
@@ -452,7 +450,7 @@ public class UltiManager {
         lastFreezeUsedGameTime = -999999L;
 
         // Clear active abilities
-        activeStrikes.clear();
+        strikePool.releaseAll(activeStrikes);
         goldFactories.clear();
 
         // Reset selection states
@@ -465,17 +463,23 @@ public class UltiManager {
         shakeStartTime = 0;
     }
 
-    private class LightningStrike {
+    private class LightningStrike implements helpMethods.Poolable {
         int x, y;
         int currentFrame = 0;
         long startTime;
         final int frameDurationMillis = 60;
         final int totalFrames = AssetsLoader.getInstance().lightningFrames.length;
 
-        LightningStrike(int x, int y) {
+        void init(int x, int y) {
             this.x = x + 32;
             this.y = y + 64;
             this.startTime = playing.getGameTime();
+            this.currentFrame = 0;
+        }
+
+        @Override
+        public void reset() {
+            currentFrame = 0;
         }
 
         boolean isFinished() {
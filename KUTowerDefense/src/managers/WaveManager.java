@@ -219,11 +219,7 @@ public class WaveManager {
                 pendingWaveFinish = false;
                 // Dalga bittiğinde faiz uygula
                 System.out.println("Wave complete - calling onWaveComplete");
-                if (playing.getController() != null) {
-                    playing.getController().getModel().onWaveComplete();
-                } else {
-                    System.out.println("Warning: Playing controller is null, cannot apply interest");
-                }
+                playing.onWaveComplete();
 
                 // Check if this was the last wave
                 if (waveIndex + 1 >= waves.size()) {
@@ -3,8 +3,12 @@ package managers;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+
+import helpMethods.GameRandom;
 import objects.Tower;
 import objects.LightDecorator;
 
@@ -20,6 +24,8 @@ public class WeatherManager {
     // Seasonal progression constants
     private static final float SEASON_DURATION = 90.0f; // 90 seconds per season (1.5 minutes)
     private static final float WEATHER_CHANGE_INTERVAL = 60.0f; // Weather can change every 60 seconds
+    // Night intensity is quantized to this step before the light map is rebuilt (~2 alpha levels)
+    private static final float LIGHT_MAP_INTENSITY_STEP = 1.0f / 128.0f;
 
     public enum WeatherType {
         CLEAR,
@@ -62,9 +68,16 @@ public class WeatherManager {
     private float weatherChangeTimer; // Timer for weather changes
     private float totalGameTime; // Total elapsed game time
 
+    // Persistent night overlay; only redrawn when the intensity step or the lit towers change
+    private BufferedImage lightMap;
+    private int lightMapIntensityStep = -1;
+    private long lightMapTowerSignature;
+    // Pre-rendered light gradients at full strength, keyed by rounded light radius
+    private final Map<Integer, BufferedImage> lightStamps = new HashMap<>();
+
     public WeatherManager() {
         weatherParticles = new ArrayList<>();
-        random = new Random();
+        random = GameRandom.newRandom();
 
         // Initialize seasonal progression
         currentSeason = Season.SPRING; // Start with Spring
@@ -244,6 +257,14 @@ public class WeatherManager {
     }
 
     public void draw(Graphics g) {
+        drawWeatherParticles(g);
+        drawNight(g);
+    }
+
+    /**
+     * Draws the rain, snow or wind particles of the current weather
+     */
+    public void drawWeatherParticles(Graphics g) {
         if (currentWeather == WeatherType.RAINY) {
             drawRainEffect(g);
         } else if (currentWeather == WeatherType.SNOWY) {
@@ -251,7 +272,12 @@ public class WeatherManager {
         } else if (currentWeather == WeatherType.WINDY) {
             drawWindEffect(g);
         }
+    }
 
+    /**
+     * Draws the night overlay with tower light cut-outs, if it is night
+     */
+    public void drawNight(Graphics g) {
         if (isNight()) {
             drawNightOverlay(g);
         }
@@ -308,51 +334,96 @@ public class WeatherManager {
     }
 
     private void drawNightOverlay(Graphics g) {
-        Graphics2D g2d = (Graphics2D) g;
+        int intensityStep = Math.round(nightIntensity / LIGHT_MAP_INTENSITY_STEP);
+        long towerSignature = computeLitTowerSignature();
+
+        if (lightMap == null || intensityStep != lightMapIntensityStep || towerSignature != lightMapTowerSignature) {
+            rebuildLightMap(intensityStep * LIGHT_MAP_INTENSITY_STEP);
+            lightMapIntensityStep = intensityStep;
+            lightMapTowerSignature = towerSignature;
+        }
+
+        g.drawImage(lightMap, 0, 0, null);
+    }
+
+    /**
+     * Cheap fingerprint of every lit tower's position and radius, used to detect
+     * towers being built, upgraded with light, destroyed or removed.
+     */
+    private long computeLitTowerSignature() {
+        long signature = 1;
+        if (towerManager == null) {
+            return signature;
+        }
+        for (Tower tower : towerManager.getTowers()) {
+            if (tower instanceof LightDecorator && !tower.isDestroyed()) {
+                signature = 31 * signature + tower.getX();
+                signature = 31 * signature + tower.getY();
+                signature = 31 * signature + Float.floatToIntBits(((LightDecorator) tower).getLightRadius());
+            }
+        }
+        return signature;
+    }
+
+    private void rebuildLightMap(float intensity) {
+        if (lightMap == null) {
+            lightMap = new BufferedImage(GAME_WIDTH, GAME_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        }
 
-        BufferedImage nightOverlay = new BufferedImage(GAME_WIDTH, GAME_HEIGHT, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D overlayG2d = nightOverlay.createGraphics();
-        overlayG2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        Graphics2D overlayG2d = lightMap.createGraphics();
 
-        overlayG2d.setColor(new Color(0, 0, 0, (int)(nightIntensity * 255)));
+        // Src replaces the previous contents, so no separate clear pass is needed
+        overlayG2d.setComposite(AlphaComposite.Src);
+        overlayG2d.setColor(new Color(0, 0, 0, (int)(intensity * 255)));
         overlayG2d.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
 
         if (towerManager != null) {
-            overlayG2d.setComposite(AlphaComposite.DstOut);
+            // The extra alpha scales the full-strength stamp down to the current night intensity
+            overlayG2d.setComposite(AlphaComposite.getInstance(AlphaComposite.DST_OUT, Math.min(1.0f, intensity)));
 
             for (Tower tower : towerManager.getTowers()) {
                 if (tower instanceof LightDecorator && !tower.isDestroyed()) {
-                    LightDecorator lightTower = (LightDecorator) tower;
-                    float lightRadius = lightTower.getLightRadius();
+                    BufferedImage stamp = getLightStamp(((LightDecorator) tower).getLightRadius());
 
                     int centerX = tower.getX() + 32;
                     int centerY = tower.getY() + 32;
-
-                    RadialGradientPaint lightGradient = new RadialGradientPaint(
-                            centerX, centerY, lightRadius,
-                            new float[]{0.0f, 0.3f, 0.7f, 1.0f},
-                            new Color[]{
-                                    new Color(255, 255, 255, (int)(nightIntensity * 255 * 0.85f)),
-                                    new Color(255, 255, 255, (int)(nightIntensity * 255 * 0.65f)),
-                                    new Color(255, 255, 255, (int)(nightIntensity * 255 * 0.25f)),
-                                    new Color(255, 255, 255, 0)
-                            }
-                    );
-
-                    overlayG2d.setPaint(lightGradient);
-                    overlayG2d.fillOval(
-                            (int)(centerX - lightRadius),
-                            (int)(centerY - lightRadius),
-                            (int)(lightRadius * 2),
-                            (int)(lightRadius * 2)
-                    );
+                    overlayG2d.drawImage(stamp, centerX - stamp.getWidth() / 2, centerY - stamp.getHeight() / 2, null);
                 }
             }
         }
 
         overlayG2d.dispose();
+    }
+
+    private BufferedImage getLightStamp(float lightRadius) {
+        int radius = Math.max(1, Math.round(lightRadius));
+        BufferedImage stamp = lightStamps.get(radius);
+        if (stamp != null) {
+            return stamp;
+        }
+
+        int size = radius * 2;
+        stamp = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D stampG2d = stamp.createGraphics();
+        stampG2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        RadialGradientPaint lightGradient = new RadialGradientPaint(
+                radius, radius, radius,
+                new float[]{0.0f, 0.3f, 0.7f, 1.0f},
+                new Color[]{
+                        new Color(255, 255, 255, (int)(255 * 0.85f)),
+                        new Color(255, 255, 255, (int)(255 * 0.65f)),
+                        new Color(255, 255, 255, (int)(255 * 0.25f)),
+                        new Color(255, 255, 255, 0)
+                }
+        );
+
+        stampG2d.setPaint(lightGradient);
+        stampG2d.fillOval(0, 0, size, size);
+        stampG2d.dispose();
 
-        g2d.drawImage(nightOverlay, 0, 0, null);
+        lightStamps.put(radius, stamp);
+        return stamp;
     }
 
     public boolean isNight() {
@@ -0,0 +1,100 @@
+package models;
+
+import static constants.Constants.PathPoints.*;
+import objects.GridPoint;
+import observers.MapChangeObserver;
+import observers.MapChangeType;
+import pathfinding.RoadNetworkPathfinder;
+
+/**
+ * EditorRoadNetwork - Road graph of the map being edited, kept up to date as tiles change
+ * Responsibilities:
+ * - Build the road network once and patch it around each placed or erased tile
+ * - Re-check whether the start point still reaches the end point after every change
+ * - Provide the up-to-date graph to PathValidator when the map is saved
+ *
+ * Changes arrive on whichever thread edits the map; the path status is published
+ * through a volatile field so the view can read it while drawing.
+ */
+public class EditorRoadNetwork implements MapChangeObserver {
+
+    public enum PathStatus {
+        VALID,          // Start and end point are connected by road
+        NO_PATH,        // Both points are set but no road connects them
+        MISSING_POINTS  // Start or end point has not been placed yet
+    }
+
+    private RoadNetworkPathfinder pathfinder;
+    private int width;
+    private int height;
+    private volatile PathStatus pathStatus = PathStatus.MISSING_POINTS;
+
+    public EditorRoadNetwork(MapModel mapModel) {
+        rebuild(mapModel.getLevel());
+        updatePathStatus(mapModel);
+    }
+
+    @Override
+    public void onMapChanged(MapChangeType changeType, int x, int y, MapModel mapModel) {
+        int[][] level = mapModel.getLevel();
+        switch (changeType) {
+            case FULL_MAP_CHANGED:
+                rebuild(level);
+                break;
+            case TERRAIN_CHANGED:
+                // A castle covers x..x+1, y..y+1 and placing one may clear castles overlapping it
+                pathfinder.updateTiles(level, x - 1, y - 1, x + 2, y + 2);
+                break;
+            case OVERLAY_CHANGED:
+                // Moving the end point rebuilds the walls and gate along a whole map edge
+                sync(level);
+                break;
+        }
+        updatePathStatus(mapModel);
+    }
+
+    /**
+     * Patches the graph for any tile that differs from it, including tiles changed
+     * without a notification. Only the cells that actually changed are reconnected.
+     */
+    public void sync(int[][] level) {
+        if (level[0].length != width || level.length != height) {
+            rebuild(level);
+        } else {
+            pathfinder.updateTiles(level, 0, 0, width - 1, height - 1);
+        }
+    }
+
+    public RoadNetworkPathfinder getPathfinder() {
+        return pathfinder;
+    }
+
+    public PathStatus getPathStatus() {
+        return pathStatus;
+    }
+
+    private void rebuild(int[][] level) {
+        width = level[0].length;
+        height = level.length;
+        pathfinder = new RoadNetworkPathfinder(width, height);
+        pathfinder.buildGraph(level);
+    }
+
+    private void updatePathStatus(MapModel mapModel) {
+        GridPoint start = null;
+        GridPoint end = null;
+        int[][] overlayData = mapModel.getOverlayData();
+        for (int y = 0; y < overlayData.length; y++) {
+            for (int x = 0; x < overlayData[y].length; x++) {
+                if (overlayData[y][x] == START_POINT && start == null) start = new GridPoint(x, y);
+                else if (overlayData[y][x] == END_POINT && end == null) end = new GridPoint(x, y);
+            }
+        }
+
+        if (start == null || end == null) {
+            pathStatus = PathStatus.MISSING_POINTS;
+        } else {
+            pathStatus = pathfinder.hasPath(start, end) ? PathStatus.VALID : PathStatus.NO_PATH;
+        }
+    }
+}
@@ -31,6 +31,7 @@ public class MapModel {
 
     // Managers and utilities
     private TileManager tileManager;
+    private EditorRoadNetwork roadNetwork;
 
     // Observer pattern for notifications
     private List<MapChangeObserver> observers = new ArrayList<>();
@@ -45,12 +46,19 @@ public class MapModel {
         this.overlayData = new int[height][width];
         this.tileManager = new TileManager();
         initializeMap();
+        initializeRoadNetwork();
     }
 
     public MapModel(int[][] existingLevel) {
         this.level = existingLevel;
         this.overlayData = new int[level.length][level[0].length];
         this.tileManager = new TileManager();
+        initializeRoadNetwork();
+    }
+
+    private void initializeRoadNetwork() {
+        roadNetwork = new EditorRoadNetwork(this);
+        addObserver(roadNetwork);
     }
 
     private void initializeMap() {
@@ -464,7 +472,15 @@ public class MapModel {
      * @return ValidationResult indicating if the map is valid for saving
      */
     public PathValidator.ValidationResult validateBeforeSave() {
-        return PathValidator.validatePath(level, overlayData);
+        roadNetwork.sync(level);
+        return PathValidator.validatePath(level, overlayData, roadNetwork.getPathfinder());
+    }
+
+    /**
+     * Whether the start point currently reaches the end point, updated after every map change
+     */
+    public EditorRoadNetwork.PathStatus getPathStatus() {
+        return roadNetwork.getPathStatus();
     }
 
     public void saveLevel(String filename) {
@@ -22,6 +22,18 @@ public class PathValidator {
      * @return ValidationResult containing success status and error message
      */
     public static ValidationResult validatePath(int[][] level, int[][] overlayData) {
+        return validatePath(level, overlayData, null);
+    }
+
+    /**
+     * Validates the map using a road network that is already built for it, e.g. the map
+     * editor's live graph, instead of building one from scratch
+     * @param level The map data
+     * @param overlayData The overlay data containing start/end points
+     * @param pathfinder Road network built from level, or null to build a new one
+     * @return ValidationResult containing success status and error message
+     */
+    public static ValidationResult validatePath(int[][] level, int[][] overlayData, RoadNetworkPathfinder pathfinder) {
         System.out.println("PathValidator: Starting path validation...");
         System.out.println("PathValidator: Map size: " + level[0].length + "x" + level.length);
         System.out.println("PathValidator: Overlay size: " + overlayData[0].length + "x" + overlayData.length);
@@ -60,9 +72,11 @@ public class PathValidator {
         }
 
         // Check path connectivity using pathfinder
-        System.out.println("PathValidator: Building road network...");
-        RoadNetworkPathfinder pathfinder = new RoadNetworkPathfinder(level[0].length, level.length);
-        pathfinder.buildGraph(level);
+        if (pathfinder == null) {
+            System.out.println("PathValidator: Building road network...");
+            pathfinder = new RoadNetworkPathfinder(level[0].length, level.length);
+            pathfinder.buildGraph(level);
+        }
 
         System.out.println("PathValidator: Finding path from " + startPoint + " to " + endPoint);
         List<GridPoint> path = pathfinder.findPath(startPoint, endPoint);
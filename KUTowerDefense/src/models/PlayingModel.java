@@ -15,6 +15,8 @@ import helpMethods.OptionsIO;
 import interfaces.GameContext;
 import managers.*;
 import objects.*;
+import observers.MapChangeType;
+import observers.TerrainChangeObserver;
 import skills.SkillTree;
 import stats.GameStatsRecord;
 import ui_p.DeadTree;
@@ -34,11 +36,13 @@ import ui_p.MineableStone;
 public class PlayingModel extends Observable implements GameContext {
     // Core game state
     private boolean gamePaused = false;
+    private float renderInterpolation = 1f;    // Fraction of the current simulation step elapsed when the frame is drawn
     private boolean gameSpeedIncreased = false;
     private boolean optionsMenuOpen = false;
     private float gameSpeedMultiplier = 1.0f;
     private boolean gameOverHandled = false;
     private boolean victoryHandled = false;
+    private boolean headless = false;          // Simulation without presentation: no sprites, trees, confetti or save files
 
     // Map data
     private int[][] level;
@@ -102,6 +106,9 @@ public class PlayingModel extends Observable implements GameContext {
 
     // Victory confetti animation
     private ui_p.ConfettiAnimation victoryConfetti = null;
+    // One confetti at a time; kept across restarts instead of allocating a new animation per victory
+    private final helpMethods.ObjectPool<ui_p.ConfettiAnimation> confettiPool =
+            new helpMethods.ObjectPool<>("Victory confetti", ui_p.ConfettiAnimation::new, 1);
     private int lastEnemyDeathX = -1;
     private int lastEnemyDeathY = -1;
 
@@ -120,6 +127,9 @@ public class PlayingModel extends Observable implements GameContext {
     private GameStateManager gameStateManager;
     private StoneMiningManager stoneMiningManager;
 
+    // Render caches that need to know when level tiles change
+    private List<TerrainChangeObserver> terrainObservers = new ArrayList<>();
+
 
     public PlayingModel() {
         this.tileManager = new TileManager();
@@ -160,6 +170,23 @@ public class PlayingModel extends Observable implements GameContext {
         markAsNewGame();
     }
 
+    /**
+     * Creates a model for a headless simulation run. Nothing is read from or written to
+     * disk: options are passed in, there is no TileManager and no save file handling,
+     * and presentation-only elements (trees, victory confetti) are skipped.
+     */
+    public PlayingModel(int[][] customLevel, int[][] customOverlay, GameOptions options) {
+        this.headless = true;
+        this.level = customLevel;
+        this.originalLevelData = deepCopy2DArray(customLevel);
+        this.overlay = customOverlay;
+        this.originalOverlayData = deepCopy2DArray(customOverlay);
+        this.gameOptions = options != null ? options : GameOptions.defaults();
+        this.deadTrees = new ArrayList<>();
+        this.liveTrees = new ArrayList<>();
+        markAsNewGame();
+    }
+
     private GameOptions loadOptionsOrDefault() {
         GameOptions loadedOptions = OptionsIO.load();
         if (loadedOptions == null) {
@@ -228,8 +255,8 @@ public class PlayingModel extends Observable implements GameContext {
         this.castleMaxHealth = calculateCastleMaxHealth();
         this.castleCurrentHealth = castleMaxHealth;
 
-        // Initialize tree lists
-        if (towerManager != null) {
+        // Initialize tree lists (trees are player interaction UI, not needed headless)
+        if (towerManager != null && !headless) {
             if (towerManager.findDeadTrees(level) != null)
                 deadTrees = towerManager.findDeadTrees(level);
             if (towerManager.findLiveTrees(level) != null)
@@ -278,6 +305,8 @@ public class PlayingModel extends Observable implements GameContext {
         if (isAllEnemiesDead()) {
             if (waveManager.isThereMoreWaves()) {
                 // Just let WaveManager handle the wave timing and progression
+            } else if (waveManager.isAllWavesFinished() && headless) {
+                handleVictory();
             } else if (waveManager.isAllWavesFinished()) {
                 // Last wave completed, all enemies dead - trigger confetti first if not already triggered
                 if (victoryConfetti == null) {
@@ -356,7 +385,8 @@ public class PlayingModel extends Observable implements GameContext {
         // Delete the save file
         if (gameStateManager != null) gameStateManager.deleteSaveFile(currentMapName);
 
-        SkillTree.getInstance().resetAllSkills();
+        // Skill selection belongs to whoever configured a headless run
+        if (!headless) SkillTree.getInstance().resetAllSkills();
 
         // play a random victory sound
         AudioManager.getInstance().playRandomVictorySound();
@@ -381,9 +411,9 @@ public class PlayingModel extends Observable implements GameContext {
         AudioManager.getInstance().playRandomLoseSound();
 
         // stop any ongoing waves/spawning
-        if (enemyManager != null) enemyManager.getEnemies().clear();
+        if (enemyManager != null) enemyManager.clearEnemies();
 
-        SkillTree.getInstance().resetAllSkills();
+        if (!headless) SkillTree.getInstance().resetAllSkills();
 
         setChanged();
         notifyObservers("gameOver");
@@ -460,7 +490,8 @@ public class PlayingModel extends Observable implements GameContext {
      */
     private void triggerVictoryConfetti() {
         if (lastEnemyDeathX >= 0 && lastEnemyDeathY >= 0) {
-            victoryConfetti = new ui_p.ConfettiAnimation(lastEnemyDeathX, lastEnemyDeathY);
+            victoryConfetti = confettiPool.obtain();
+            victoryConfetti.start(lastEnemyDeathX, lastEnemyDeathY);
             System.out.println("🎉 Victory confetti triggered at (" + lastEnemyDeathX + ", " + lastEnemyDeathY + ")!");
         } else {
             System.out.println("❌ Cannot trigger confetti - no enemy death location recorded!");
@@ -504,6 +535,12 @@ public class PlayingModel extends Observable implements GameContext {
     @Override
     public boolean isGamePaused() { return gamePaused; }
 
+    public boolean isHeadless() { return headless; }
+
+    public float getRenderInterpolation() { return renderInterpolation; }
+
+    public void setRenderInterpolation(float renderInterpolation) { this.renderInterpolation = renderInterpolation; }
+
     @Override
     public float getGameSpeedMultiplier() { return gameSpeedMultiplier; }
 
@@ -516,6 +553,32 @@ public class PlayingModel extends Observable implements GameContext {
     @Override
     public int[][] getOverlay() { return overlay; }
 
+    public void addTerrainObserver(TerrainChangeObserver observer) {
+        terrainObservers.add(observer);
+    }
+
+    public void removeTerrainObserver(TerrainChangeObserver observer) {
+        terrainObservers.remove(observer);
+    }
+
+    /**
+     * Notifies terrain observers that a single level tile was modified in place
+     */
+    public void markTileDirty(int tileX, int tileY) {
+        for (TerrainChangeObserver observer : terrainObservers) {
+            observer.onTerrainChanged(MapChangeType.TERRAIN_CHANGED, tileX, tileY);
+        }
+    }
+
+    /**
+     * Notifies terrain observers that the level was replaced or rewritten as a whole
+     */
+    public void markTerrainDirty() {
+        for (TerrainChangeObserver observer : terrainObservers) {
+            observer.onTerrainChanged(MapChangeType.FULL_MAP_CHANGED, -1, -1);
+        }
+    }
+
     // Basic getters and setters
     public boolean isGameSpeedIncreased() { return gameSpeedIncreased; }
     public boolean isOptionsMenuOpen() { return optionsMenuOpen; }
@@ -771,6 +834,7 @@ public class PlayingModel extends Observable implements GameContext {
             // Reset level data to original state
             if (originalLevelData != null) {
                 level = deepCopy2DArray(originalLevelData);
+                markTerrainDirty();
             }
             if (originalOverlayData != null) {
                 overlay = deepCopy2DArray(originalOverlayData);
@@ -782,6 +846,7 @@ public class PlayingModel extends Observable implements GameContext {
             pendingWarriorPlacement = null;
 
             // Reset victory confetti animation
+            confettiPool.release(victoryConfetti);
             victoryConfetti = null;
             lastEnemyDeathX = GAME_WIDTH/2;
             lastEnemyDeathY = GAME_HEIGHT/2;
@@ -1092,6 +1157,7 @@ public class PlayingModel extends Observable implements GameContext {
                 if (savedDeadTreePositions.contains(position)) {
                     if (level[row][col] != 15) {
                         level[row][col] = 15; // Set to dead tree
+                        markTileDirty(col, row);
                         System.out.println("Updated tile at (" + col + ", " + row + ") to dead tree");
                     }
                 }
@@ -1102,6 +1168,7 @@ public class PlayingModel extends Observable implements GameContext {
                             originalTileId : 16;
                     if (level[row][col] != treeId) {
                         level[row][col] = treeId;
+                        markTileDirty(col, row);
                         System.out.println("Updated tile at (" + col + ", " + row + ") to live tree (ID " + treeId + ")");
                     }
                 }
@@ -1112,6 +1179,7 @@ public class PlayingModel extends Observable implements GameContext {
                     if ((currentTileId == 15 || currentTileId == 16 || currentTileId == 17 || currentTileId == 18) &&
                             !(originalTileId == 15 || originalTileId == 16 || originalTileId == 17 || originalTileId == 18)) {
                         level[row][col] = originalTileId;
+                        markTileDirty(col, row);
                         System.out.println("Restored tile at (" + col + ", " + row + ") to original (ID " + originalTileId + ")");
                     }
                 }
@@ -1382,6 +1450,7 @@ public class PlayingModel extends Observable implements GameContext {
             }
 
             level[tileY][tileX] = tileId;
+            markTileDirty(tileX, tileY);
 
             // Clear overlay data to remove dead trees or other overlays
             if (overlay != null && tileY < overlay.length && tileX < overlay[0].length) {
@@ -1455,19 +1524,14 @@ public class PlayingModel extends Observable implements GameContext {
      * @return Number of active projectiles
      */
     public int getActiveProjectileCount() {
-        if (projectileManager != null) {
-            // Use size of projectiles list if available
-            try {
-                java.lang.reflect.Method getProjectilesMethod = projectileManager.getClass().getMethod("getProjectiles");
-                Object projectiles = getProjectilesMethod.invoke(projectileManager);
-                if (projectiles instanceof java.util.List) {
-                    return ((java.util.List<?>) projectiles).size();
-                }
-            } catch (Exception e) {
-                // Method not available, return 0
-            }
-        }
-        return 0;
+        return projectileManager != null ? projectileManager.getActiveProjectileCount() : 0;
+    }
+
+    /**
+     * Most projectiles in flight at once during this game
+     */
+    public int getPeakProjectileCount() {
+        return projectileManager != null ? projectileManager.getPeakProjectileCount() : 0;
     }
 
 
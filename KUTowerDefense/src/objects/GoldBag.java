@@ -1,10 +1,11 @@
 package objects;
 
 import helpMethods.LoadSave;
+import helpMethods.Poolable;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
-public class GoldBag {
+public class GoldBag implements Poolable {
     private static final BufferedImage[] frames = LoadSave.getGoldBagAnimation();
     private static final int FRAME_COUNT = 8;
     private static final long LIFETIME_MILLIS = 10000; // 10 seconds base lifetime
@@ -28,13 +29,34 @@ public class GoldBag {
     private long collectionEffectStartTime = 0;
     private static final long COLLECTION_EFFECT_DURATION = 500_000_000L; // 0.5 seconds
 
+    // For GoldBagManager's pool; init() sets the bag up before it is shown
+    public GoldBag() {}
+
     public GoldBag(float x, float y, int goldAmount) {
+        init(x, y, goldAmount);
+    }
+
+    /**
+     * (Re)places this bag as a fresh drop
+     */
+    public void init(float x, float y, int goldAmount) {
         this.x = x;
         this.y = y;
         this.goldAmount = goldAmount;
         this.spawnTime = System.currentTimeMillis();
         this.lastUpdateTime = System.currentTimeMillis();
         this.accumulatedLifetime = 0f;
+        this.frameIndex = 0;
+        this.tick = 0;
+        this.collected = false;
+        this.showCollectionEffect = false;
+        this.collectionEffectStartTime = 0;
+    }
+
+    @Override
+    public void reset() {
+        collected = false;
+        showCollectionEffect = false;
     }
 
     public void update(float speedMultiplier) {
@@ -3,6 +3,7 @@ package objects;
 import constants.Constants;
 import constants.GameDimensions;
 import enemies.Enemy;
+import helpMethods.GameRandom;
 import scenes.Playing;
 import skills.SkillTree;
 import skills.SkillType;
@@ -88,7 +89,7 @@ public class PoisonTower extends Tower {
         lastAttackTime = System.currentTimeMillis();
         
         // 30% chance to apply poison effect
-        if (Math.random() < poisonChance) {
+        if (GameRandom.nextDouble() < poisonChance) {
             enemy.applyPoison(poisonDamagePerTick, poisonDurationTicks);
             System.out.println("Poison Tower applied poison to enemy " + enemy.getId());
         }
@@ -1,9 +1,10 @@
 package objects;
 
 import enemies.Enemy;
+import helpMethods.Poolable;
 import java.awt.*;
 
-public class Projectile {
+public class Projectile implements Poolable {
     private float x, y, xSpeed, ySpeed;
     private int id, damage, projectileType;
     private boolean active = true;
@@ -27,7 +28,29 @@ public class Projectile {
     private long lastFrameTime = System.nanoTime();
     private long animationDelay = 100_000_000;
 
+    // For ProjectileManager's pool; init() sets every field before the projectile is used
+    public Projectile() {
+        this.active = false;
+    }
+
     public Projectile(float x, float y, float xSpeed, float ySpeed, int id, int damage, int projectileType, int level) {
+        init(x, y, xSpeed, ySpeed, id, damage, projectileType, level, 0, null);
+    }
+
+    public Projectile(float x, float y, float xSpeed, float ySpeed, int id, int damage, int projectileType, int level, float rotationAngle) {
+        init(x, y, xSpeed, ySpeed, id, damage, projectileType, level, rotationAngle, null);
+    }
+
+    // New constructor with target tracking
+    public Projectile(float x, float y, float xSpeed, float ySpeed, int id, int damage, int projectileType, int level, float rotationAngle, Enemy targetEnemy) {
+        init(x, y, xSpeed, ySpeed, id, damage, projectileType, level, rotationAngle, targetEnemy);
+    }
+
+    /**
+     * (Re)starts this projectile as a fresh shot; tracking is enabled when a target is given
+     */
+    public void init(float x, float y, float xSpeed, float ySpeed, int id, int damage, int projectileType, int level,
+                     float rotationAngle, Enemy targetEnemy) {
         this.x = x;
         this.y = y;
         this.xSpeed = xSpeed;
@@ -36,22 +59,26 @@ public class Projectile {
         this.damage = damage;
         this.projectileType = projectileType;
         this.level = level;
-        this.rotationAngle = 0; // Default angle
-        this.projectileSpeed = (float) Math.sqrt(xSpeed * xSpeed + ySpeed * ySpeed); // Calculate speed magnitude
-        this.targetEnemy = null; // Default no target
-        this.isTracking = false; // Default no tracking
-    }
-
-    public Projectile(float x, float y, float xSpeed, float ySpeed, int id, int damage, int projectileType, int level, float rotationAngle) {
-        this(x, y, xSpeed, ySpeed, id, damage, projectileType, level);
         this.rotationAngle = rotationAngle;
-    }
-
-    // New constructor with target tracking
-    public Projectile(float x, float y, float xSpeed, float ySpeed, int id, int damage, int projectileType, int level, float rotationAngle, Enemy targetEnemy) {
-        this(x, y, xSpeed, ySpeed, id, damage, projectileType, level, rotationAngle);
+        this.projectileSpeed = (float) Math.sqrt(xSpeed * xSpeed + ySpeed * ySpeed); // Calculate speed magnitude
         this.targetEnemy = targetEnemy;
         this.isTracking = (targetEnemy != null); // Enable tracking if target is provided
+        this.active = true;
+        this.exploding = false;
+        this.hit = false;
+        this.willMiss = false;
+        this.hitTime = 0;
+        this.animationFrame = 0;
+        this.explosionFrame = 0;
+        this.lastFrameTime = System.nanoTime();
+    }
+
+    @Override
+    public void reset() {
+        // Do not keep a dead enemy reachable from the pool
+        targetEnemy = null;
+        isTracking = false;
+        active = false;
     }
 
     public void move() {
@@ -56,23 +56,10 @@ public class TNTWarrior {
     }
 
     private void loadAnimationFrames() {
-        // Use the same TNT sprite extraction logic as enemies
-        BufferedImage tntSheet = LoadSave.getEnemyAtlas("tnt");
-
-        if (tntSheet != null) {
-            // Extract TNT frames using the same logic as EnemyManager
-            // TNT: 1344x192 sized walk animation asset with 6 respective sprites
-            final int frameCount = 6;
-            runFrames = new BufferedImage[frameCount];
-
-            for (int i = 0; i < frameCount; i++) {
-                // Extract each 192x192 frame, then crop to the TNT area (60,60,100,72)
-                BufferedImage tntFrame = tntSheet.getSubimage(i * 192, 0, 192, 192);
-                runFrames[i] = tntFrame.getSubimage(60, 60, 100, 72);
-            }
+        // Same TNT sprite as the enemy, sliced once and shared by every TNT warrior
+        runFrames = LoadSave.getTntWarriorRunAnimation();
 
-            System.out.println("Loaded " + frameCount + " TNT warrior animation frames successfully!");
-        } else {
+        if (runFrames == null) {
             // Fallback: create a simple colored rectangle if sprites aren't available
             System.out.println("Warning: Could not load TNT sprites, using fallback");
             BufferedImage fallback = new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB);
@@ -262,30 +249,16 @@ public class TNTWarrior {
                             System.out.println("  -> Destroying tower (75% chance succeeded)!");
                             tower.setDestroyed(true);
                             if (tower instanceof objects.MageTower) {
-                                tower.setDestroyedSprite(helpMethods.LoadSave.getImageFromPath("/TowerAssets/Tower_spell_destroyed.png"));
+                                tower.setDestroyedSprite(helpMethods.SpriteRegistry.getInstance().getImage("/TowerAssets/Tower_spell_destroyed.png"));
                             } else if (tower instanceof objects.ArtilleryTower) {
-                                tower.setDestroyedSprite(helpMethods.LoadSave.getImageFromPath("/TowerAssets/Tower_bomb_destroyed.png"));
+                                tower.setDestroyedSprite(helpMethods.SpriteRegistry.getInstance().getImage("/TowerAssets/Tower_bomb_destroyed.png"));
                             } else if (tower instanceof objects.ArcherTower) {
-                                tower.setDestroyedSprite(helpMethods.LoadSave.getImageFromPath("/TowerAssets/Tower_archer_destroyed.png"));
+                                tower.setDestroyedSprite(helpMethods.SpriteRegistry.getInstance().getImage("/TowerAssets/Tower_archer_destroyed.png"));
                             } else if (tower instanceof objects.PoisonTower) {
-                                tower.setDestroyedSprite(helpMethods.LoadSave.getImageFromPath("/TowerAssets/Tower_poison_destroyed.png"));
+                                tower.setDestroyedSprite(helpMethods.SpriteRegistry.getInstance().getImage("/TowerAssets/Tower_poison_destroyed.png"));
                             }
                             // Spawn debris effect - exact same as earthquake
-                            java.util.List<objects.Tower.Debris> debris = new java.util.ArrayList<>();
-                            int debrisCount = 12 + (int)(Math.random() * 6);
-                            int cx = tower.getX() + 32, cy = tower.getY() + 32;
-                            for (int d = 0; d < debrisCount; d++) {
-                                double angle = Math.random() * 2 * Math.PI;
-                                float speed = 2f + (float)Math.random() * 2f;
-                                float vx = (float)Math.cos(angle) * speed;
-                                float vy = (float)Math.sin(angle) * speed;
-                                int color = 0xFF7C5C2E; // brown debris
-                                int size = 3 + (int)(Math.random() * 4);
-                                int lifetime = 20 + (int)(Math.random() * 10);
-                                debris.add(new objects.Tower.Debris(cx, cy, vx, vy, color, size, lifetime));
-                            }
-                            tower.debrisList = debris;
-                            tower.debrisStartTime = System.currentTimeMillis();
+                            tower.spawnDebris();
                         } else {
                             System.out.println("  -> Tower survived (50% chance failed)");
                         }
@@ -326,6 +299,8 @@ public class TNTWarrior {
 
         if (elapsedTime >= explosionDuration) {
             active = false; // Remove the TNT warrior after explosion
+            PARTICLE_POOL.releaseAll(particles);
+            FLAME_POOL.releaseAll(flames);
         }
     }
 
@@ -410,13 +385,31 @@ public class TNTWarrior {
 
     // ========== PARTICLE SYSTEM ==========
 
-    private static class ExplosionParticle {
+    // Shared by every TNT warrior; each explosion takes 25-40 particles and hands them back
+    private static final helpMethods.ObjectPool<ExplosionParticle> PARTICLE_POOL =
+            new helpMethods.ObjectPool<>("TNT explosion particles", ExplosionParticle::new, 256);
+    private static final helpMethods.ObjectPool<FlameParticle> FLAME_POOL =
+            new helpMethods.ObjectPool<>("TNT flame particles", FlameParticle::new, 128);
+
+    private static final Color[] DEBRIS_COLORS = {
+            new Color(139, 69, 19),   // Brown
+            new Color(101, 67, 33),   // Dark brown
+            new Color(160, 82, 45),   // Saddle brown
+            new Color(128, 128, 128), // Gray
+            new Color(105, 105, 105), // Dim gray
+            new Color(255, 140, 0),   // Dark orange
+            new Color(205, 92, 92)    // Indian red
+    };
+    private static final Color FLAME_OUTER = new Color(255, 100, 0);
+    private static final Color FLAME_INNER = new Color(255, 255, 100);
+
+    private static class ExplosionParticle implements helpMethods.Poolable {
         float x, y, vx, vy;
         int life, maxLife;
         Color color;
         int size;
 
-        public ExplosionParticle(float x, float y, float vx, float vy, Color color, int size, int life) {
+        void init(float x, float y, float vx, float vy, Color color, int size, int life) {
             this.x = x;
             this.y = y;
             this.vx = vx;
@@ -427,6 +420,11 @@ public class TNTWarrior {
             this.maxLife = life;
         }
 
+        @Override
+        public void reset() {
+            life = 0;
+        }
+
         public void update() {
             x += vx;
             y += vy;
@@ -452,13 +450,13 @@ public class TNTWarrior {
         }
     }
 
-    private static class FlameParticle {
+    private static class FlameParticle implements helpMethods.Poolable {
         float x, y, vx, vy;
         int life, maxLife;
         float size;
         int frame;
 
-        public FlameParticle(float x, float y, float vx, float vy, float size, int life) {
+        void init(float x, float y, float vx, float vy, float size, int life) {
             this.x = x;
             this.y = y;
             this.vx = vx;
@@ -469,6 +467,11 @@ public class TNTWarrior {
             this.frame = 0;
         }
 
+        @Override
+        public void reset() {
+            life = 0;
+        }
+
         public void update() {
             x += vx;
             y += vy;
@@ -494,12 +497,12 @@ public class TNTWarrior {
 
             // Outer flame - red/orange
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.7f));
-            g2d.setColor(new Color(255, 100, 0));
+            g2d.setColor(FLAME_OUTER);
             g2d.fillOval((int)(x - currentSize), (int)(y - currentSize), currentSize * 2, currentSize * 2);
 
             // Inner flame - yellow/white
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.5f));
-            g2d.setColor(new Color(255, 255, 100));
+            g2d.setColor(FLAME_INNER);
             int innerSize = currentSize / 2;
             g2d.fillOval((int)(x - innerSize), (int)(y - innerSize), innerSize * 2, innerSize * 2);
 
@@ -508,7 +511,7 @@ public class TNTWarrior {
     }
 
     private void createExplosionParticles() {
-        particles.clear();
+        PARTICLE_POOL.releaseAll(particles);
 
         // Create debris particles flying outward
         int particleCount = 15 + (int)(Math.random() * 10); // 15-25 particles
@@ -519,26 +522,19 @@ public class TNTWarrior {
             float vy = (float)Math.sin(angle) * speed;
 
             // Vary particle colors - browns, grays, oranges
-            Color[] colors = {
-                    new Color(139, 69, 19),   // Brown
-                    new Color(101, 67, 33),   // Dark brown
-                    new Color(160, 82, 45),   // Saddle brown
-                    new Color(128, 128, 128), // Gray
-                    new Color(105, 105, 105), // Dim gray
-                    new Color(255, 140, 0),   // Dark orange
-                    new Color(205, 92, 92)    // Indian red
-            };
-            Color color = colors[(int)(Math.random() * colors.length)];
+            Color color = DEBRIS_COLORS[(int)(Math.random() * DEBRIS_COLORS.length)];
 
             int size = 2 + (int)(Math.random() * 4); // 2-6 pixel size
             int life = 30 + (int)(Math.random() * 30); // 30-60 frames
 
-            particles.add(new ExplosionParticle(x, y, vx, vy, color, size, life));
+            ExplosionParticle particle = PARTICLE_POOL.obtain();
+            particle.init(x, y, vx, vy, color, size, life);
+            particles.add(particle);
         }
     }
 
     private void createFlameParticles() {
-        flames.clear();
+        FLAME_POOL.releaseAll(flames);
 
         // Create flame particles that rise upward
         int flameCount = 8 + (int)(Math.random() * 6); // 8-14 flames
@@ -551,21 +547,27 @@ public class TNTWarrior {
             float size = 8f + (float)(Math.random() * 12f); // 8-20 size
             int life = 25 + (int)(Math.random() * 15); // 25-40 frames
 
-            flames.add(new FlameParticle(x, y, vx, vy, size, life));
+            FlameParticle flame = FLAME_POOL.obtain();
+            flame.init(x, y, vx, vy, size, life);
+            flames.add(flame);
         }
     }
 
     private void updateParticles() {
         particles.removeIf(particle -> {
             particle.update();
-            return !particle.isAlive();
+            if (particle.isAlive()) return false;
+            PARTICLE_POOL.release(particle);
+            return true;
         });
     }
 
     private void updateFlames() {
         flames.removeIf(flame -> {
             flame.update();
-            return !flame.isAlive();
+            if (flame.isAlive()) return false;
+            FLAME_POOL.release(flame);
+            return true;
         });
     }
 
@@ -9,13 +9,14 @@ import skills.SkillType;
 import constants.GameDimensions;
 
 import java.awt.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class Tower {
 
     private int x, y, ID, countDownClock;
     protected int damage;
     protected float range, cooldown;
-    private static int num = 0;
+    private static final AtomicInteger num = new AtomicInteger(); // shared by towers of parallel simulations
     protected int level = 1;
     protected float attackSpeedMultiplier = 1.0f;
 
@@ -46,18 +47,29 @@ public abstract class Tower {
     protected TargetingStrategy targetingStrategy;
 
     // Debris effect for earthquake destruction
-    public static class Debris {
+    public static class Debris implements helpMethods.Poolable {
         public float x, y, vx, vy;
         public float alpha;
         public int color;
         public int size;
         public int lifetime;
         public int age;
+        public Debris() {}
         public Debris(float x, float y, float vx, float vy, int color, int size, int lifetime) {
+            init(x, y, vx, vy, color, size, lifetime);
+        }
+        public void init(float x, float y, float vx, float vy, int color, int size, int lifetime) {
             this.x = x; this.y = y; this.vx = vx; this.vy = vy;
             this.color = color; this.size = size; this.lifetime = lifetime; this.age = 0; this.alpha = 1f;
         }
+        @Override
+        public void reset() {
+            age = lifetime;
+        }
     }
+    // Shared by every tower; debris pieces come and go in bursts of a dozen or so
+    private static final helpMethods.ObjectPool<Debris> DEBRIS_POOL =
+            new helpMethods.ObjectPool<>("Tower debris", Debris::new, 256);
     public java.util.List<Debris> debrisList = null;
     public long debrisStartTime = 0;
     public static final int DEBRIS_DURATION_MS = 500;
@@ -65,13 +77,50 @@ public abstract class Tower {
     private boolean boostActive = false;
     private long boostEndTime = 0;
 
+    /**
+     * Starts the flying debris shown when this tower is destroyed (earthquake or TNT)
+     */
+    public void spawnDebris() {
+        // A new list, since the render thread may still be walking the old one
+        java.util.List<Debris> pieces = new java.util.ArrayList<>();
+        int debrisCount = 12 + (int)(Math.random() * 6);
+        int cx = getX() + 32, cy = getY() + 32;
+        for (int d = 0; d < debrisCount; d++) {
+            double angle = Math.random() * 2 * Math.PI;
+            float speed = 2f + (float)Math.random() * 2f;
+            float vx = (float)Math.cos(angle) * speed;
+            float vy = (float)Math.sin(angle) * speed;
+            int color = 0xFF7C5C2E; // brown debris
+            int size = 3 + (int)(Math.random() * 4);
+            int lifetime = 20 + (int)(Math.random() * 10);
+            Debris debris = DEBRIS_POOL.obtain();
+            debris.init(cx, cy, vx, vy, color, size, lifetime);
+            pieces.add(debris);
+        }
+        debrisList = pieces;
+        debrisStartTime = System.currentTimeMillis();
+    }
+
+    public static void releaseDebris(Debris debris) {
+        DEBRIS_POOL.release(debris);
+    }
+
+    /**
+     * Ends the debris effect and returns the remaining pieces to the pool
+     */
+    public void clearDebris() {
+        if (debrisList != null) {
+            DEBRIS_POOL.releaseAll(debrisList);
+            debrisList = null;
+        }
+    }
+
     public abstract int getType();
 
     public Tower(int x, int y) {
         this.x = x;
         this.y = y;
-        this.ID = num;
-        num++;
+        this.ID = num.getAndIncrement();
 
         // Default targeting strategy is FirstEnemy (current behavior)
         this.targetingStrategy = new FirstEnemyStrategy();
@@ -81,8 +130,7 @@ public abstract class Tower {
     public Tower(int x, int y, TargetingStrategy targetingStrategy) {
         this.x = x;
         this.y = y;
-        this.ID = num;
-        num++;
+        this.ID = num.getAndIncrement();
         this.targetingStrategy = targetingStrategy != null ? targetingStrategy : new FirstEnemyStrategy();
     }
 
@@ -1,6 +1,6 @@
 package objects;
 
-import helpMethods.LoadSave;
+import helpMethods.SpriteRegistry;
 import java.awt.image.BufferedImage;
 
 public class UpgradedArcherTower extends TowerDecorator {
@@ -13,7 +13,7 @@ public class UpgradedArcherTower extends TowerDecorator {
         // If ArcherTower.upgrade() already sets its own level to 2, this line is redundant.
         // However, to be safe and ensure the wrapped tower reflects its upgraded state:
         decoratedTower.setLevel(2);
-        this.sprite = LoadSave.getImageFromPath("/TowerAssets/archer_up.png");
+        this.sprite = SpriteRegistry.getInstance().getImage("/TowerAssets/archer_up.png");
     }
 
     @Override
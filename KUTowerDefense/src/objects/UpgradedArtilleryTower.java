@@ -1,6 +1,6 @@
 package objects;
 
-import helpMethods.LoadSave;
+import helpMethods.SpriteRegistry;
 import java.awt.image.BufferedImage;
 import constants.GameDimensions;
 
@@ -10,7 +10,7 @@ public class UpgradedArtilleryTower extends TowerDecorator {
     public UpgradedArtilleryTower(Tower decoratedTower) {
         super(decoratedTower);
         decoratedTower.setLevel(2);
-        this.sprite = LoadSave.getImageFromPath("/TowerAssets/artillery_up.png");
+        this.sprite = SpriteRegistry.getInstance().getImage("/TowerAssets/artillery_up.png");
     }
 
     @Override
@@ -1,7 +1,7 @@
 package objects;
 
 import enemies.Enemy;
-import helpMethods.LoadSave;
+import helpMethods.SpriteRegistry;
 import scenes.Playing;
 import constants.GameDimensions;
 
@@ -15,7 +15,7 @@ public class UpgradedMageTower extends TowerDecorator {
     public UpgradedMageTower(Tower decoratedTower) {
         super(decoratedTower);
         decoratedTower.setLevel(2);
-        this.sprite = LoadSave.getImageFromPath("/TowerAssets/mage_up.png");
+        this.sprite = SpriteRegistry.getInstance().getImage("/TowerAssets/mage_up.png");
     }
 
     // Range, Damage, Cooldown are the same as the base Mage Tower for Level 2 upgrade.
@@ -65,6 +65,7 @@ public abstract class Warrior {
     // Cached animation frames
     private BufferedImage[] runFrames = null;
     private BufferedImage[] attackFrames = null;
+    private BufferedImage[] idleFrames = null;     // First attack frame (resting pose)
 
     public Warrior(int spawnX, int spawnY, int targetX, int targetY) {
         // Start at spawn position
@@ -130,6 +131,7 @@ public abstract class Warrior {
     private void loadAnimationFrames() {
         runFrames = LoadSave.getWarriorRunAnimation(this);
         attackFrames = LoadSave.getWarriorAttackAnimation(this);
+        idleFrames = attackFrames != null && attackFrames.length > 0 ? new BufferedImage[]{attackFrames[0]} : null;
     }
 
     /**
@@ -360,9 +362,9 @@ public abstract class Warrior {
             return runFrames;
         } else if (currentState == WarriorState.ATTACKING && attackFrames != null) {
             return attackFrames;
-        } else if (currentState == WarriorState.IDLE && attackFrames != null) {
-            // For idle state, create a single-frame array with the first attack frame (resting pose)
-            return new BufferedImage[]{attackFrames[0]};
+        } else if (currentState == WarriorState.IDLE && idleFrames != null) {
+            // For idle state, a single-frame array with the first attack frame (resting pose)
+            return idleFrames;
         }
         // Fallback to old method for compatibility
         return LoadSave.getWarriorAttackAnimation(this);
@@ -0,0 +1,15 @@
+package observers;
+
+/**
+ * Observer interface for changes to the playing level's terrain tiles
+ * Lets render caches invalidate only the tiles that were modified during play
+ * (towers built or removed, trees changed, stones mined)
+ */
+public interface TerrainChangeObserver {
+    /**
+     * @param changeType TERRAIN_CHANGED for a single tile, FULL_MAP_CHANGED when the whole level was replaced
+     * @param x Tile column of the change, or -1 for FULL_MAP_CHANGED
+     * @param y Tile row of the change, or -1 for FULL_MAP_CHANGED
+     */
+    void onTerrainChanged(MapChangeType changeType, int x, int y);
+}
@@ -0,0 +1,218 @@
+package pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * A* over a road graph stored as flat arrays, owned by RoadNetworkPathfinder.
+ *
+ * Nodes are grid cells, identified by id = y * width + x. A road tile connects to at
+ * most its four neighbours, so every node owns a row of MAX_EDGES slots: the edges
+ * leaving node id are edgeTarget[id * MAX_EDGES] .. edgeTarget[id * MAX_EDGES +
+ * edgeCount[id] - 1], with their costs in edgeWeight. One node's row can be rewritten
+ * without touching the others when a tile changes. The open set is a binary heap of
+ * node ids that supports lowering a queued node's score in place.
+ *
+ * Per-node search state (g-score, parent, heap slot) is only trusted when the node's
+ * stamp matches the current search, so starting a search is incrementing a counter
+ * instead of resetting every node. A search allocates nothing but the returned path.
+ */
+public class GridAStar {
+    public static final int MAX_EDGES = 4;
+
+    private final int width;
+    private final int cellCount;
+
+    private final int[] edgeCount;
+    private final int[] edgeTarget;
+    private final double[] edgeWeight;
+    private int totalEdges = 0;
+
+    private final double[] gScore;
+    private final double[] fScore;
+    private final int[] parent;
+    private final int[] seenStamp;    // == search: gScore, parent and heapIndex are valid
+    private final int[] closedStamp;  // == search: node has been expanded
+    private int search = 0;
+
+    private final int[] heap;
+    private final int[] heapIndex;    // slot of the node in heap, -1 once it has been polled
+    private int heapSize = 0;
+
+    public GridAStar(int width, int height) {
+        this.width = width;
+        this.cellCount = width * height;
+        this.edgeCount = new int[cellCount];
+        this.edgeTarget = new int[cellCount * MAX_EDGES];
+        this.edgeWeight = new double[cellCount * MAX_EDGES];
+        this.gScore = new double[cellCount];
+        this.fScore = new double[cellCount];
+        this.parent = new int[cellCount];
+        this.seenStamp = new int[cellCount];
+        this.closedStamp = new int[cellCount];
+        this.heap = new int[cellCount];
+        this.heapIndex = new int[cellCount];
+    }
+
+    /**
+     * Removes every edge leaving node
+     */
+    public void clearEdges(int node) {
+        totalEdges -= edgeCount[node];
+        edgeCount[node] = 0;
+    }
+
+    /**
+     * Adds an edge from node to target. Edges beyond MAX_EDGES per node are ignored.
+     */
+    public void addEdge(int node, int target, double weight) {
+        int count = edgeCount[node];
+        if (count == MAX_EDGES) return;
+        edgeTarget[node * MAX_EDGES + count] = target;
+        edgeWeight[node * MAX_EDGES + count] = weight;
+        edgeCount[node] = count + 1;
+        totalEdges++;
+    }
+
+    public void clear() {
+        Arrays.fill(edgeCount, 0);
+        totalEdges = 0;
+    }
+
+    public int getEdgeCount() {
+        return totalEdges;
+    }
+
+    /**
+     * Shortest path from start to end using Manhattan distance as the heuristic
+     *
+     * @return Node ids from start to end, or an empty array if end cannot be reached
+     */
+    public int[] findPath(int start, int end) {
+        if (start < 0 || start >= cellCount || end < 0 || end >= cellCount) {
+            return new int[0];
+        }
+        nextSearch();
+        heapSize = 0;
+
+        seenStamp[start] = search;
+        gScore[start] = 0;
+        parent[start] = -1;
+        push(start, heuristic(start, end));
+
+        while (heapSize > 0) {
+            int current = poll();
+            if (current == end) {
+                return reconstructPath(end);
+            }
+            closedStamp[current] = search;
+
+            int rowEnd = current * MAX_EDGES + edgeCount[current];
+            for (int e = current * MAX_EDGES; e < rowEnd; e++) {
+                int neighbor = edgeTarget[e];
+                if (closedStamp[neighbor] == search) {
+                    continue;
+                }
+
+                double tentativeGScore = gScore[current] + edgeWeight[e];
+                boolean seen = seenStamp[neighbor] == search;
+                if (!seen || tentativeGScore < gScore[neighbor]) {
+                    gScore[neighbor] = tentativeGScore;
+                    parent[neighbor] = current;
+                    double f = tentativeGScore + heuristic(neighbor, end);
+                    if (seen && heapIndex[neighbor] >= 0) {
+                        decreaseKey(neighbor, f);
+                    } else {
+                        seenStamp[neighbor] = search;
+                        push(neighbor, f);
+                    }
+                }
+            }
+        }
+        return new int[0];
+    }
+
+    private void nextSearch() {
+        search++;
+        if (search == Integer.MAX_VALUE) {
+            // Stamps from long ago could now look current: start counting again
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            search = 1;
+        }
+    }
+
+    private double heuristic(int from, int to) {
+        return Math.abs(from % width - to % width) + Math.abs(from / width - to / width);
+    }
+
+    private int[] reconstructPath(int end) {
+        int length = 0;
+        for (int node = end; node != -1; node = parent[node]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int node = end, i = length - 1; node != -1; node = parent[node], i--) {
+            path[i] = node;
+        }
+        return path;
+    }
+
+    private void push(int node, double f) {
+        fScore[node] = f;
+        heap[heapSize] = node;
+        heapIndex[node] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private int poll() {
+        int top = heap[0];
+        heapIndex[top] = -1;
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapIndex[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void decreaseKey(int node, double f) {
+        fScore[node] = f;
+        siftUp(heapIndex[node]);
+    }
+
+    private void siftUp(int slot) {
+        int node = heap[slot];
+        double f = fScore[node];
+        while (slot > 0) {
+            int parentSlot = (slot - 1) >>> 1;
+            int parentNode = heap[parentSlot];
+            if (fScore[parentNode] <= f) break;
+            heap[slot] = parentNode;
+            heapIndex[parentNode] = slot;
+            slot = parentSlot;
+        }
+        heap[slot] = node;
+        heapIndex[node] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int node = heap[slot];
+        double f = fScore[node];
+        int half = heapSize >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+            if (right < heapSize && fScore[heap[right]] < fScore[heap[child]]) {
+                child = right;
+            }
+            if (f <= fScore[heap[child]]) break;
+            heap[slot] = heap[child];
+            heapIndex[heap[slot]] = slot;
+            slot = child;
+        }
+        heap[slot] = node;
+        heapIndex[node] = slot;
+    }
+}
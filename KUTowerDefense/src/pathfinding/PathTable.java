@@ -0,0 +1,249 @@
+package pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * The enemy path compiled into straight and arc segments with their cumulative
+ * length, so a position on the path is a single distance from the spawn.
+ *
+ * Segment i runs from path point i to path point i + 1. Straight segments are
+ * line pieces; arc segments turn around a fixed center and may blend between two
+ * radii when the road's entry and exit points are not equally far from it.
+ * Built once per level by EnemyManager; moving an enemy is then adding to its
+ * distance and calling sample().
+ */
+public class PathTable {
+    private static final int STRAIGHT = 0;
+    private static final int ARC = 1;
+    private static final float COVERAGE_STEP = 2f; // pixels between samples in computeCoverage
+
+    private int count = 0;
+    private int[] type = new int[16];
+    private float[] start = new float[17];   // distance at the start of each segment; start[count] is the total
+    private float[] length = new float[16];
+
+    // Straight: origin (ax, ay) and unit direction (ux, uy)
+    // Arc: center (ax, ay), start angle ux, signed sweep uy, start radius r0, radius change dr
+    private float[] ax = new float[16];
+    private float[] ay = new float[16];
+    private float[] ux = new float[16];
+    private float[] uy = new float[16];
+    private float[] r0 = new float[16];
+    private float[] dr = new float[16];
+
+    /**
+     * Appends a straight segment from (x0, y0) to (x1, y1)
+     */
+    public void addStraight(float x0, float y0, float x1, float y1) {
+        int i = nextSegment();
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        type[i] = STRAIGHT;
+        ax[i] = x0;
+        ay[i] = y0;
+        ux[i] = len > 0 ? dx / len : 0;
+        uy[i] = len > 0 ? dy / len : 0;
+        finishSegment(i, len);
+    }
+
+    /**
+     * Appends an arc around (centerX, centerY) from (x0, y0) to (x1, y1), turning the short way round
+     */
+    public void addArc(float centerX, float centerY, float x0, float y0, float x1, float y1) {
+        int i = nextSegment();
+        float startAngle = (float) Math.atan2(y0 - centerY, x0 - centerX);
+        float endAngle = (float) Math.atan2(y1 - centerY, x1 - centerX);
+        float sweep = endAngle - startAngle;
+        while (sweep > Math.PI) sweep -= 2 * Math.PI;
+        while (sweep < -Math.PI) sweep += 2 * Math.PI;
+
+        float startRadius = (float) Math.hypot(x0 - centerX, y0 - centerY);
+        float endRadius = (float) Math.hypot(x1 - centerX, y1 - centerY);
+
+        type[i] = ARC;
+        ax[i] = centerX;
+        ay[i] = centerY;
+        ux[i] = startAngle;
+        uy[i] = sweep;
+        r0[i] = startRadius;
+        dr[i] = endRadius - startRadius;
+        finishSegment(i, Math.abs(sweep) * (startRadius + endRadius) * 0.5f);
+    }
+
+    public int getSegmentCount() {
+        return count;
+    }
+
+    public float getTotalLength() {
+        return start[count];
+    }
+
+    /**
+     * @return Distance from the spawn to the start of segment index (to the end of the path past the last one)
+     */
+    public float getSegmentStart(int index) {
+        return start[Math.max(0, Math.min(index, count))];
+    }
+
+    public boolean isArc(int index) {
+        return type[index] == ARC;
+    }
+
+    /**
+     * Segment that holds distance. Enemies only move forward, so starting from the
+     * segment they were on last tick this is usually found in one or two steps.
+     */
+    public int findSegment(float distance, int hint) {
+        int i = Math.max(0, Math.min(hint, count - 1));
+        while (i < count - 1 && distance >= start[i + 1]) i++;
+        while (i > 0 && distance < start[i]) i--;
+        return i;
+    }
+
+    /**
+     * Writes the position and heading at distance into out as {x, y, dirX, dirY}.
+     * The distance is clamped to the path; the heading is a unit vector.
+     *
+     * @param hint Segment the caller expects the distance to be in, e.g. the previous one
+     * @return The segment the distance fell in
+     */
+    public int sample(float distance, int hint, float[] out) {
+        if (count == 0) {
+            Arrays.fill(out, 0, 4, 0f);
+            return 0;
+        }
+        float d = Math.max(0f, Math.min(distance, getTotalLength()));
+        int i = findSegment(d, hint);
+        float along = d - start[i];
+
+        if (type[i] == STRAIGHT) {
+            out[0] = ax[i] + ux[i] * along;
+            out[1] = ay[i] + uy[i] * along;
+            out[2] = ux[i];
+            out[3] = uy[i];
+            return i;
+        }
+
+        float t = length[i] > 0 ? along / length[i] : 0f;
+        float angle = ux[i] + uy[i] * t;
+        float radius = r0[i] + dr[i] * t;
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        out[0] = ax[i] + radius * cos;
+        out[1] = ay[i] + radius * sin;
+
+        // Tangent of the (possibly spiralling) arc in the direction of travel
+        float sweep = uy[i];
+        float tx = -sin * radius * sweep + cos * dr[i];
+        float ty = cos * radius * sweep + sin * dr[i];
+        float tangentLength = (float) Math.sqrt(tx * tx + ty * ty);
+        if (tangentLength > 0) {
+            out[2] = tx / tangentLength;
+            out[3] = ty / tangentLength;
+        } else {
+            out[2] = 0f;
+            out[3] = 0f;
+        }
+        return i;
+    }
+
+    /**
+     * Parts of the path within radius of (cx, cy), as sorted, disjoint path distance
+     * intervals flattened into {start0, end0, start1, end1, ...}. Segments that cannot
+     * reach the circle are skipped; the rest are sampled every COVERAGE_STEP pixels and
+     * each interval widened by half a step, so an interval may reach slightly past the
+     * circle but never misses a point inside it.
+     */
+    public float[] computeCoverage(float cx, float cy, float radius) {
+        float total = getTotalLength();
+        float half = COVERAGE_STEP / 2f;
+        float reach = radius + half;
+        float reachSquared = reach * reach;
+
+        float[] intervals = new float[8];
+        int used = 0;
+        float[] point = new float[4];
+        boolean inside = false;
+        float intervalStart = 0f;
+        float lastInside = 0f;
+
+        for (int i = 0; i < count; i++) {
+            boolean near = mayReach(i, cx, cy, reach);
+            int firstStep = (int) Math.ceil(start[i] / COVERAGE_STEP);
+            int lastStep = (int) Math.floor(start[i + 1] / COVERAGE_STEP);
+            boolean sampleEnd = i == count - 1;
+
+            for (int k = firstStep; near && (k <= lastStep || sampleEnd); k++) {
+                float distance = k <= lastStep ? k * COVERAGE_STEP : total;
+                if (k > lastStep) sampleEnd = false;
+                sample(distance, i, point);
+                float dx = point[0] - cx;
+                float dy = point[1] - cy;
+
+                if (dx * dx + dy * dy <= reachSquared) {
+                    if (!inside) {
+                        intervalStart = Math.max(0f, distance - half);
+                        inside = true;
+                    }
+                    lastInside = distance;
+                } else if (inside) {
+                    if (used == intervals.length) intervals = Arrays.copyOf(intervals, used * 2);
+                    intervals[used++] = intervalStart;
+                    intervals[used++] = Math.min(total, lastInside + half);
+                    inside = false;
+                }
+            }
+            if (!near && inside) {
+                if (used == intervals.length) intervals = Arrays.copyOf(intervals, used * 2);
+                intervals[used++] = intervalStart;
+                intervals[used++] = Math.min(total, lastInside + half);
+                inside = false;
+            }
+        }
+        if (inside) {
+            if (used == intervals.length) intervals = Arrays.copyOf(intervals, used * 2);
+            intervals[used++] = intervalStart;
+            intervals[used++] = Math.min(total, lastInside + half);
+        }
+        return Arrays.copyOf(intervals, used);
+    }
+
+    /**
+     * Cheap bounding test: false only if no point of segment i is within reach of (cx, cy)
+     */
+    private boolean mayReach(int i, float cx, float cy, float reach) {
+        if (type[i] == STRAIGHT) {
+            float t = Math.max(0f, Math.min(length[i], (cx - ax[i]) * ux[i] + (cy - ay[i]) * uy[i]));
+            float dx = ax[i] + ux[i] * t - cx;
+            float dy = ay[i] + uy[i] * t - cy;
+            return dx * dx + dy * dy <= reach * reach;
+        }
+        float toCenter = (float) Math.hypot(cx - ax[i], cy - ay[i]);
+        float innerRadius = Math.min(r0[i], r0[i] + dr[i]);
+        float outerRadius = Math.max(r0[i], r0[i] + dr[i]);
+        return toCenter <= outerRadius + reach && toCenter >= innerRadius - reach;
+    }
+
+    private int nextSegment() {
+        if (count == type.length) {
+            int capacity = count * 2;
+            type = Arrays.copyOf(type, capacity);
+            start = Arrays.copyOf(start, capacity + 1);
+            length = Arrays.copyOf(length, capacity);
+            ax = Arrays.copyOf(ax, capacity);
+            ay = Arrays.copyOf(ay, capacity);
+            ux = Arrays.copyOf(ux, capacity);
+            uy = Arrays.copyOf(uy, capacity);
+            r0 = Arrays.copyOf(r0, capacity);
+            dr = Arrays.copyOf(dr, capacity);
+        }
+        return count;
+    }
+
+    private void finishSegment(int i, float segmentLength) {
+        length[i] = segmentLength;
+        start[i + 1] = start[i] + segmentLength;
+        count = i + 1;
+    }
+}
@@ -7,10 +7,20 @@ import java.util.*;
 /**
  * Graph-based pathfinding system that respects road tile connectivity.
  * Uses A* algorithm to find optimal paths through connected road tiles.
+ *
+ * Every edge is also stored by int node ids (y * mapWidth + x) in flat adjacency
+ * arrays for GridAStar, so path searches do not touch RoadNode objects or hash maps.
+ *
+ * After a few tiles change, updateTiles patches the graph instead of rebuilding it:
+ * only the changed cells and their neighbours are reconnected, and loops are only
+ * looked for again in the road pieces that touch them. The map editor uses this to
+ * keep a live graph while the map is painted.
  */
 public class RoadNetworkPathfinder {
 
-    private final Map<GridPoint, RoadNode> nodeMap;
+    private final RoadNode[] nodeGrid; // indexed by node id, null where there is no road
+    private int nodeCount = 0;
+    private final GridAStar search;
     private final int mapWidth;
     private final int mapHeight;
 
@@ -20,7 +30,8 @@ public class RoadNetworkPathfinder {
     public RoadNetworkPathfinder(int mapWidth, int mapHeight) {
         this.mapWidth = mapWidth;
         this.mapHeight = mapHeight;
-        this.nodeMap = new HashMap<>();
+        this.nodeGrid = new RoadNode[mapWidth * mapHeight];
+        this.search = new GridAStar(mapWidth, mapHeight);
         this.detectedLoops = new HashSet<>();
         this.nodeToLoops = new HashMap<>();
     }
@@ -29,7 +40,9 @@ public class RoadNetworkPathfinder {
      * Build the road network graph and detect all loops
      */
     public void buildGraph(int[][] tileData) {
-        nodeMap.clear();
+        Arrays.fill(nodeGrid, null);
+        nodeCount = 0;
+        search.clear();
         detectedLoops.clear();
         nodeToLoops.clear();
 
@@ -38,36 +51,109 @@ public class RoadNetworkPathfinder {
             for (int x = 0; x < mapWidth; x++) {
                 if (TileConnectivity.isRoadTile(tileData[y][x])) {
                     GridPoint position = new GridPoint(x, y);
-                    RoadNode node = new RoadNode(position, tileData[y][x]);
-                    nodeMap.put(position, node);
+                    nodeGrid[y * mapWidth + x] = new RoadNode(position, tileData[y][x]);
+                    nodeCount++;
                 }
             }
         }
 
         // Second pass: create connections between adjacent road nodes
-        for (RoadNode node : nodeMap.values()) {
-            createEdgesForNode(node, tileData);
+        for (RoadNode node : nodeGrid) {
+            if (node != null) {
+                createEdgesForNode(node);
+            }
         }
 
         // Third pass: detect all loops in the network
         detectAllLoops();
 
-        System.out.println("Road network built with " + nodeMap.size() + " nodes and " + detectedLoops.size() + " loops detected.");
+        System.out.println("Road network built with " + nodeCount + " nodes and " + detectedLoops.size() + " loops detected.");
     }
 
     /**
-     * Create edges for a given node based on its tile connectivity
+     * Patch the graph after tiles inside the rectangle (inclusive, clamped to the map) changed.
+     * Cells whose road tile is unchanged are skipped, so the rectangle may be generous.
+     * @param tileData The tile data array, same size as the map the graph was built for
+     * @return true if any road node was added, removed or replaced
+     */
+    public boolean updateTiles(int[][] tileData, int minX, int minY, int maxX, int maxY) {
+        minX = Math.max(0, minX);
+        minY = Math.max(0, minY);
+        maxX = Math.min(mapWidth - 1, maxX);
+        maxY = Math.min(mapHeight - 1, maxY);
+
+        List<GridPoint> changed = new ArrayList<>();
+        boolean connectionsChanged = false;
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                int id = y * mapWidth + x;
+                RoadNode oldNode = nodeGrid[id];
+                int tileId = tileData[y][x];
+                boolean isRoad = TileConnectivity.isRoadTile(tileId);
+                if (oldNode == null ? !isRoad : isRoad && oldNode.getTileId() == tileId) {
+                    continue;
+                }
+
+                GridPoint position = new GridPoint(x, y);
+                changed.add(position);
+                if (oldNode != null) {
+                    nodeCount--;
+                    connectionsChanged |= !oldNode.getOutgoingEdges().isEmpty();
+                }
+                nodeGrid[id] = null;
+                search.clearEdges(id);
+                if (isRoad) {
+                    nodeGrid[id] = new RoadNode(position, tileId);
+                    nodeCount++;
+                }
+            }
+        }
+        if (changed.isEmpty()) {
+            return false;
+        }
+
+        // Only a changed cell and its neighbours can have edges to or from the changed cell
+        Set<RoadNode> touched = new LinkedHashSet<>();
+        for (GridPoint position : changed) {
+            RoadNode node = getNode(position);
+            if (node != null) touched.add(node);
+            for (Direction direction : Direction.values()) {
+                RoadNode neighbor = getNode(new GridPoint(position.getX() + direction.dx, position.getY() + direction.dy));
+                if (neighbor != null) touched.add(neighbor);
+            }
+        }
+        for (RoadNode node : touched) {
+            node.clearEdges();
+            search.clearEdges(nodeId(node.getPosition()));
+            createEdgesForNode(node);
+        }
+        for (GridPoint position : changed) {
+            RoadNode node = getNode(position);
+            connectionsChanged |= node != null && !node.getOutgoingEdges().isEmpty();
+        }
+
+        // A tile that connects to nothing, before or after, leaves every other road piece as it was
+        if (connectionsChanged) {
+            updateLoopsAround(changed, touched);
+        }
+        return true;
+    }
+
+    /**
+     * Create edges for a given node based on its tile connectivity.
+     * Directions are tried in Direction order so the graph does not depend on set iteration order.
      * @param node The node to create edges for
-     * @param tileData The tile data array
      */
-    private void createEdgesForNode(RoadNode node, int[][] tileData) {
+    private void createEdgesForNode(RoadNode node) {
         GridPoint pos = node.getPosition();
         int tileId = node.getTileId();
 
         // Get valid exit directions for this tile
         Set<Direction> exitDirections = TileConnectivity.getValidExitDirections(tileId);
 
-        for (Direction direction : exitDirections) {
+        for (Direction direction : Direction.values()) {
+            if (!exitDirections.contains(direction)) continue;
+
             int neighborX = pos.getX() + direction.dx;
             int neighborY = pos.getY() + direction.dy;
 
@@ -75,8 +161,7 @@ public class RoadNetworkPathfinder {
             if (neighborX >= 0 && neighborX < mapWidth &&
                     neighborY >= 0 && neighborY < mapHeight) {
 
-                GridPoint neighborPos = new GridPoint(neighborX, neighborY);
-                RoadNode neighborNode = nodeMap.get(neighborPos);
+                RoadNode neighborNode = nodeGrid[neighborY * mapWidth + neighborX];
 
                 if (neighborNode != null) {
                     int neighborTileId = neighborNode.getTileId();
@@ -85,6 +170,7 @@ public class RoadNetworkPathfinder {
                     if (TileConnectivity.canConnect(tileId, neighborTileId, direction)) {
                         RoadEdge edge = new RoadEdge(neighborNode, direction);
                         node.addEdge(edge);
+                        search.addEdge(nodeId(pos), nodeId(neighborNode.getPosition()), edge.getWeight());
                     }
                 }
             }
@@ -92,56 +178,132 @@ public class RoadNetworkPathfinder {
     }
 
     /**
-     * Detect all loops/cycles in the road network
+     * Detect all loops/cycles in the road network.
+     * DFS roots are taken in node id order, so the loops found do not depend on hash ordering.
      */
     private void detectAllLoops() {
-        Set<RoadNode> visited = new HashSet<>();
-        Set<RoadNode> recursionStack = new HashSet<>();
+        boolean[] visited = new boolean[nodeGrid.length];
+        int[] pathIndex = new int[nodeGrid.length]; // position in currentPath, -1 when not on it
+        Arrays.fill(pathIndex, -1);
 
-        for (RoadNode node : nodeMap.values()) {
-            if (!visited.contains(node)) {
-                findLoopsFromNode(node, visited, recursionStack, new ArrayList<>());
+        for (RoadNode node : nodeGrid) {
+            if (node != null && !visited[nodeId(node.getPosition())]) {
+                findLoopsFromNode(node, visited, pathIndex, new ArrayList<>(), detectedLoops);
             }
         }
 
         // Create mapping from nodes to their loops
         for (Set<GridPoint> loop : detectedLoops) {
+            indexLoop(loop);
+        }
+    }
+
+    /**
+     * Loops through a changed cell are gone, and a new loop has to close through one of the
+     * touched nodes. Loops are dropped and looked for again only in the road pieces connected
+     * to the touched nodes; the rest of the map keeps its loops.
+     *
+     * Every piece that held or now holds a changed cell contains a touched node, so pieces
+     * outside this set are unchanged. Inside it, DFS roots are taken in node id order as in
+     * detectAllLoops, so each piece is searched from the same root as in a full build and the
+     * loops found are exactly the ones buildGraph would find.
+     */
+    private void updateLoopsAround(List<GridPoint> changed, Set<RoadNode> touched) {
+        // Road pieces connected to the change (edges always come in pairs, so this is undirected)
+        boolean[] inPiece = new boolean[nodeGrid.length];
+        Deque<RoadNode> stack = new ArrayDeque<>();
+        List<RoadNode> piece = new ArrayList<>();
+        for (RoadNode node : touched) {
+            int id = nodeId(node.getPosition());
+            if (!inPiece[id]) {
+                inPiece[id] = true;
+                stack.push(node);
+            }
+        }
+        while (!stack.isEmpty()) {
+            RoadNode node = stack.pop();
+            piece.add(node);
+            for (RoadEdge edge : node.getOutgoingEdges()) {
+                int neighborId = nodeId(edge.getDestination().getPosition());
+                if (!inPiece[neighborId]) {
+                    inPiece[neighborId] = true;
+                    stack.push(edge.getDestination());
+                }
+            }
+        }
+
+        Set<Set<GridPoint>> staleLoops = new HashSet<>();
+        for (GridPoint point : changed) {
+            staleLoops.addAll(nodeToLoops.getOrDefault(point, Collections.emptySet()));
+        }
+        for (RoadNode node : piece) {
+            staleLoops.addAll(nodeToLoops.getOrDefault(node.getPosition(), Collections.emptySet()));
+        }
+        for (Set<GridPoint> loop : staleLoops) {
+            detectedLoops.remove(loop);
             for (GridPoint point : loop) {
-                nodeToLoops.computeIfAbsent(point, k -> new HashSet<>()).add(loop);
+                Set<Set<GridPoint>> loopsAtPoint = nodeToLoops.get(point);
+                if (loopsAtPoint != null) {
+                    loopsAtPoint.remove(loop);
+                    if (loopsAtPoint.isEmpty()) nodeToLoops.remove(point);
+                }
+            }
+        }
+
+        boolean[] visited = new boolean[nodeGrid.length];
+        int[] pathIndex = new int[nodeGrid.length];
+        Arrays.fill(pathIndex, -1);
+        Set<Set<GridPoint>> foundLoops = new HashSet<>();
+        piece.sort(Comparator.comparingInt(node -> nodeId(node.getPosition())));
+        for (RoadNode node : piece) {
+            if (!visited[nodeId(node.getPosition())]) {
+                findLoopsFromNode(node, visited, pathIndex, new ArrayList<>(), foundLoops);
+            }
+        }
+        for (Set<GridPoint> loop : foundLoops) {
+            if (detectedLoops.add(loop)) {
+                indexLoop(loop);
             }
         }
     }
 
+    private void indexLoop(Set<GridPoint> loop) {
+        for (GridPoint point : loop) {
+            nodeToLoops.computeIfAbsent(point, k -> new HashSet<>()).add(loop);
+        }
+    }
+
     /**
-     * DFS-based loop detection
+     * DFS-based loop detection. A node is on the recursion stack while its pathIndex is set,
+     * which also says where a loop closing on it starts in currentPath.
      */
-    private void findLoopsFromNode(RoadNode current, Set<RoadNode> visited,
-                                   Set<RoadNode> recursionStack, List<RoadNode> currentPath) {
-        visited.add(current);
-        recursionStack.add(current);
+    private void findLoopsFromNode(RoadNode current, boolean[] visited, int[] pathIndex,
+                                   List<RoadNode> currentPath, Set<Set<GridPoint>> foundLoops) {
+        int currentId = nodeId(current.getPosition());
+        visited[currentId] = true;
+        pathIndex[currentId] = currentPath.size();
         currentPath.add(current);
 
         for (RoadEdge edge : current.getOutgoingEdges()) {
             RoadNode neighbor = edge.getDestination();
-            if (!visited.contains(neighbor)) {
-                findLoopsFromNode(neighbor, visited, recursionStack, currentPath);
-            } else if (recursionStack.contains(neighbor)) {
+            int neighborId = nodeId(neighbor.getPosition());
+            if (!visited[neighborId]) {
+                findLoopsFromNode(neighbor, visited, pathIndex, currentPath, foundLoops);
+            } else if (pathIndex[neighborId] != -1) {
                 // Found a cycle - extract the loop
-                int loopStartIndex = currentPath.indexOf(neighbor);
-                if (loopStartIndex != -1) {
-                    List<RoadNode> loopNodes = currentPath.subList(loopStartIndex, currentPath.size());
-                    if (loopNodes.size() >= 3) { // Only consider loops with at least 3 nodes
-                        Set<GridPoint> loop = new HashSet<>();
-                        for (RoadNode node : loopNodes) {
-                            loop.add(node.getPosition());
-                        }
-                        detectedLoops.add(loop);
+                int loopStartIndex = pathIndex[neighborId];
+                List<RoadNode> loopNodes = currentPath.subList(loopStartIndex, currentPath.size());
+                if (loopNodes.size() >= 3) { // Only consider loops with at least 3 nodes
+                    Set<GridPoint> loop = new HashSet<>();
+                    for (RoadNode node : loopNodes) {
+                        loop.add(node.getPosition());
                     }
+                    foundLoops.add(loop);
                 }
             }
         }
 
-        recursionStack.remove(current);
+        pathIndex[currentId] = -1;
         currentPath.remove(currentPath.size() - 1);
     }
 
@@ -149,8 +311,8 @@ public class RoadNetworkPathfinder {
      * Find path with loop traversal - enemies will take loops at least once
      */
     public List<GridPoint> findPath(GridPoint start, GridPoint end) {
-        RoadNode startNode = nodeMap.get(start);
-        RoadNode endNode = nodeMap.get(end);
+        RoadNode startNode = getNode(start);
+        RoadNode endNode = getNode(end);
 
         if (startNode == null || endNode == null) {
             return new ArrayList<>();
@@ -251,7 +413,7 @@ public class RoadNetworkPathfinder {
             return loopPath; // Can't traverse loop if start point isn't in it
         }
 
-        RoadNode startNode = nodeMap.get(startPoint);
+        RoadNode startNode = getNode(startPoint);
         if (startNode == null) return loopPath;
 
         // Try to continue in current direction first, then find natural path through loop
@@ -369,7 +531,7 @@ public class RoadNetworkPathfinder {
         // 3. We're not too close to the end of the path
 
         GridPoint currentPoint = basicPath.get(currentIndex);
-        RoadNode currentNode = nodeMap.get(currentPoint);
+        RoadNode currentNode = getNode(currentPoint);
 
         if (currentNode == null) return false;
 
@@ -395,7 +557,7 @@ public class RoadNetworkPathfinder {
         if (!loop.contains(currentPoint)) return false;
 
         // Check if we can actually traverse the loop and return to the path
-        RoadNode currentNode = nodeMap.get(currentPoint);
+        RoadNode currentNode = getNode(currentPoint);
         if (currentNode == null) return false;
 
         // Count how many neighbors of current node are in the loop
@@ -412,89 +574,36 @@ public class RoadNetworkPathfinder {
 
     /**
      * Find a path from start to end using A* algorithm
-     * @param start Starting position
-     * @param end Ending position
+     * @param startNode Starting node
+     * @param endNode Ending node
      * @return List of GridPoints representing the path, or empty list if no path found
      */
     public List<GridPoint> findPathAStar(RoadNode startNode, RoadNode endNode) {
-        // Reset all nodes
-        for (RoadNode node : nodeMap.values()) {
-            node.reset();
-        }
-
-        PriorityQueue<RoadNode> openSet = new PriorityQueue<>(
-                Comparator.comparingDouble(RoadNode::getFScore)
-        );
-        Set<RoadNode> closedSet = new HashSet<>();
-
-        // Initialize start node
-        startNode.setGScore(0);
-        startNode.setFScore(heuristic(startNode, endNode));
-        openSet.add(startNode);
-
-        while (!openSet.isEmpty()) {
-            RoadNode current = openSet.poll();
-
-            if (current.equals(endNode)) {
-                return reconstructPath(current);
-            }
-
-            closedSet.add(current);
-
-            for (RoadEdge edge : current.getOutgoingEdges()) {
-                RoadNode neighbor = edge.getDestination();
-
-                if (closedSet.contains(neighbor)) {
-                    continue;
-                }
-
-                double tentativeGScore = current.getGScore() + edge.getWeight();
-
-                if (tentativeGScore < neighbor.getGScore()) {
-                    neighbor.setParent(current);
-                    neighbor.setGScore(tentativeGScore);
-                    neighbor.setFScore(tentativeGScore + heuristic(neighbor, endNode));
+        int[] ids = search.findPath(nodeId(startNode.getPosition()), nodeId(endNode.getPosition()));
 
-                    if (!openSet.contains(neighbor)) {
-                        openSet.add(neighbor);
-                    }
-                }
-            }
+        if (ids.length == 0) {
+            System.out.println("No path found from " + startNode.getPosition() + " to " + endNode.getPosition());
+            return Collections.emptyList();
         }
 
-        System.out.println("No path found from " + startNode.getPosition() + " to " + endNode.getPosition());
-        return Collections.emptyList();
+        List<GridPoint> path = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            path.add(nodeGrid[id].getPosition());
+        }
+        System.out.println("Path found with " + path.size() + " points");
+        return path;
     }
 
     /**
-     * Calculate heuristic distance between two nodes (Manhattan distance)
-     * @param node1 First node
-     * @param node2 Second node
-     * @return Heuristic distance
+     * Whether end can be reached from start along the roads, without building the path or logging
      */
-    private double heuristic(RoadNode node1, RoadNode node2) {
-        GridPoint pos1 = node1.getPosition();
-        GridPoint pos2 = node2.getPosition();
-        return Math.abs(pos1.getX() - pos2.getX()) + Math.abs(pos1.getY() - pos2.getY());
+    public boolean hasPath(GridPoint start, GridPoint end) {
+        if (getNode(start) == null || getNode(end) == null) return false;
+        return search.findPath(nodeId(start), nodeId(end)).length > 0;
     }
 
-    /**
-     * Reconstruct the path from end node to start node
-     * @param endNode The end node with parent pointers set
-     * @return List of GridPoints representing the path from start to end
-     */
-    private List<GridPoint> reconstructPath(RoadNode endNode) {
-        List<GridPoint> path = new ArrayList<>();
-        RoadNode current = endNode;
-
-        while (current != null) {
-            path.add(current.getPosition());
-            current = current.getParent();
-        }
-
-        Collections.reverse(path);
-        System.out.println("Path found with " + path.size() + " points");
-        return path;
+    private int nodeId(GridPoint position) {
+        return position.getY() * mapWidth + position.getX();
     }
 
     /**
@@ -503,7 +612,11 @@ public class RoadNetworkPathfinder {
      * @return The road node at that position, or null if none exists
      */
     public RoadNode getNode(GridPoint position) {
-        return nodeMap.get(position);
+        if (position == null) return null;
+        int x = position.getX();
+        int y = position.getY();
+        if (x < 0 || x >= mapWidth || y < 0 || y >= mapHeight) return null;
+        return nodeGrid[y * mapWidth + x];
     }
 
     /**
@@ -512,7 +625,7 @@ public class RoadNetworkPathfinder {
      * @return true if there's a road node at this position
      */
     public boolean hasNode(GridPoint position) {
-        return nodeMap.containsKey(position);
+        return getNode(position) != null;
     }
 
     /**
@@ -520,11 +633,7 @@ public class RoadNetworkPathfinder {
      * @return String containing graph statistics
      */
     public String getGraphInfo() {
-        int totalEdges = nodeMap.values().stream()
-                .mapToInt(node -> node.getOutgoingEdges().size())
-                .sum();
-
-        return String.format("Graph: %d nodes, %d edges", nodeMap.size(), totalEdges);
+        return String.format("Graph: %d nodes, %d edges", nodeCount, search.getEdgeCount());
     }
 
     /**
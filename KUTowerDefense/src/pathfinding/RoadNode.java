@@ -11,17 +11,11 @@ public class RoadNode {
     private final GridPoint position;
     private final int tileId;
     private final List<RoadEdge> outgoingEdges;
-    private double gScore; // Distance from start node (for A* algorithm)
-    private double fScore; // gScore + heuristic (for A* algorithm)
-    private RoadNode parent; // Parent node in the path (for path reconstruction)
     
     public RoadNode(GridPoint position, int tileId) {
         this.position = position;
         this.tileId = tileId;
         this.outgoingEdges = new ArrayList<>();
-        this.gScore = Double.POSITIVE_INFINITY;
-        this.fScore = Double.POSITIVE_INFINITY;
-        this.parent = null;
     }
     
     /**
@@ -33,20 +27,18 @@ public class RoadNode {
     }
     
     /**
-     * Get all outgoing edges from this node
-     * @return List of outgoing edges
+     * Remove all outgoing edges, e.g. before reconnecting the node after a neighbouring tile changed
      */
-    public List<RoadEdge> getOutgoingEdges() {
-        return new ArrayList<>(outgoingEdges);
+    public void clearEdges() {
+        outgoingEdges.clear();
     }
     
     /**
-     * Reset the pathfinding data for this node
+     * Get all outgoing edges from this node
+     * @return List of outgoing edges
      */
-    public void reset() {
-        this.gScore = Double.POSITIVE_INFINITY;
-        this.fScore = Double.POSITIVE_INFINITY;
-        this.parent = null;
+    public List<RoadEdge> getOutgoingEdges() {
+        return new ArrayList<>(outgoingEdges);
     }
     
     // Getters and setters
@@ -58,30 +50,6 @@ public class RoadNode {
         return tileId;
     }
     
-    public double getGScore() {
-        return gScore;
-    }
-    
-    public void setGScore(double gScore) {
-        this.gScore = gScore;
-    }
-    
-    public double getFScore() {
-        return fScore;
-    }
-    
-    public void setFScore(double fScore) {
-        this.fScore = fScore;
-    }
-    
-    public RoadNode getParent() {
-        return parent;
-    }
-    
-    public void setParent(RoadNode parent) {
-        this.parent = parent;
-    }
-    
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
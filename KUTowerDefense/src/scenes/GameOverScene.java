@@ -1,7 +1,7 @@
 package scenes;
 
 import constants.GameDimensions;
-import helpMethods.LoadSave;
+import helpMethods.SpriteRegistry;
 import main.Game;
 import main.GameStates;
 import ui_p.TheButton;
@@ -22,10 +22,11 @@ public class GameOverScene extends GameScene implements SceneMethods{
     private int timePlayed;
     private TheButton replayButton;
     private TheButton menuButton;
-    private BufferedImage victoryBg;
-    private BufferedImage defeatBg;
     private BufferedImage resizedVictory;
     private BufferedImage resizedDefeat;
+    // Set once a background has been looked up, so a missing file is reported once rather than every frame
+    private boolean victoryLoaded = false;
+    private boolean defeatLoaded = false;
     private boolean isVictory;
 
 
@@ -37,16 +38,27 @@ public class GameOverScene extends GameScene implements SceneMethods{
 
         replayButton = new TheButton("Replay", centerX, 350, buttonWidth, buttonHeight);
         menuButton = new TheButton("Main Menu", centerX, 400, buttonWidth, buttonHeight);
+        // The backgrounds are loaded in the background by AssetPipeline and resized on first use
+    }
 
-        victoryBg = LoadSave.getImageFromPath("/Victory.png");
-        defeatBg = LoadSave.getImageFromPath("/Defeat.png");
-        if (victoryBg == null || defeatBg == null) {
-            System.err.println("Failed to load background images for GameOverScene!");
-        } else {
-            resizedVictory = resizeImage(victoryBg, GameDimensions.GAME_WIDTH, GameDimensions.GAME_HEIGHT);
-            resizedDefeat = resizeImage(defeatBg, GameDimensions.GAME_WIDTH, GameDimensions.GAME_HEIGHT);
+    private BufferedImage getBackground(boolean victory) {
+        if (victory && !victoryLoaded) {
+            resizedVictory = loadBackground("/Victory.png");
+            victoryLoaded = true;
+        } else if (!victory && !defeatLoaded) {
+            resizedDefeat = loadBackground("/Defeat.png");
+            defeatLoaded = true;
         }
+        return victory ? resizedVictory : resizedDefeat;
+    }
 
+    private BufferedImage loadBackground(String path) {
+        BufferedImage background = SpriteRegistry.getInstance().getImage(path);
+        if (background == null) {
+            System.err.println("Failed to load background image " + path + " for GameOverScene!");
+            return null;
+        }
+        return resizeImage(background, GameDimensions.GAME_WIDTH, GameDimensions.GAME_HEIGHT);
     }
 
     public void update() {
@@ -54,11 +66,7 @@ public class GameOverScene extends GameScene implements SceneMethods{
 
     public void render(Graphics g) {
 
-        if (isVictory) {
-            g.drawImage(resizedVictory, 0, 0, null);
-        } else {
-            g.drawImage(resizedDefeat, 0, 0, null);
-        }
+        g.drawImage(getBackground(isVictory), 0, 0, null);
         g.setColor(new Color(0, 0, 0, 100));
         g.fillRect(0, 0, 1024, 768);
 
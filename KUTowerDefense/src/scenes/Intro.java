@@ -1,6 +1,7 @@
 package scenes;
 
 import constants.GameDimensions;
+import helpMethods.AssetPipeline;
 import main.Game;
 import main.GameStates;
 import ui_p.AssetsLoader;
@@ -61,8 +62,12 @@ public class Intro {
             lastDotUpdateTime = currentTime;
         }
 
-        // update intro state based on timings
-        if (currentTime - lastStateUpdateTime > getStateDuration()) {
+        // update intro state based on timings; the loading screen also waits for the critical assets
+        boolean stateOver = currentTime - lastStateUpdateTime > getStateDuration();
+        if (introState == 3 && !AssetPipeline.getInstance().isCriticalLoaded()) {
+            stateOver = false;
+        }
+        if (stateOver) {
             introState++;
             lastStateUpdateTime = currentTime;
 
@@ -211,9 +216,12 @@ public class Intro {
 
             g2d.drawString(loadingText.toString(), x, y);
 
+            drawLoadingProgress(g2d, y - fm.getAscent() - 20);
+
             if (volumeControl != null){
                 long timeRemaining = LOADING_DURATION - (System.currentTimeMillis() - lastStateUpdateTime);
-                float progress = 1f - (float) timeRemaining / LOADING_DURATION;
+                // Clamped, the loading screen can outlast LOADING_DURATION while assets are still decoding
+                float progress = Math.min(1f, 1f - (float) timeRemaining / LOADING_DURATION);
 
                 // Fade from initialVolume to minVolume over 3 seconds
                 float newVolume = initialVolume + progress * (minVolume - initialVolume);
@@ -226,6 +234,27 @@ public class Intro {
         g2d.dispose();
     }
 
+    // progress bar of the asset pipeline, with the name of the last asset group that finished
+    private void drawLoadingProgress(Graphics2D g2d, int barY) {
+        AssetPipeline pipeline = AssetPipeline.getInstance();
+        int barWidth = 400;
+        int barHeight = 12;
+        int barX = (game.getWidth() - barWidth) / 2;
+
+        g2d.setColor(new Color(0, 0, 0, 120));
+        g2d.fillRoundRect(barX, barY, barWidth, barHeight, barHeight, barHeight);
+        g2d.setColor(new Color(255, 242, 218));
+        g2d.fillRoundRect(barX, barY, (int) (barWidth * pipeline.getProgress()), barHeight, barHeight, barHeight);
+
+        String detail = pipeline.getLastCompleted();
+        if (!detail.isEmpty()) {
+            g2d.setFont(new Font("MV Boli", Font.PLAIN, 14));
+            FontMetrics fm = g2d.getFontMetrics();
+            g2d.setColor(Color.WHITE);
+            g2d.drawString(detail, (game.getWidth() - fm.stringWidth(detail)) / 2, barY - 6);
+        }
+    }
+
     private void startMusic() {
         try {
             InputStream audioSrc = getClass().getResourceAsStream("/Audio/Music/intro_music.wav");
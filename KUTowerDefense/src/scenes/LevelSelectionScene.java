@@ -34,7 +34,9 @@ import javax.swing.SwingConstants;
 import constants.GameDimensions;
 import helpMethods.FontLoader;
 import helpMethods.LoadSave;
+import helpMethods.LevelBinaryIO;
 import helpMethods.ThumbnailCache;
+import helpMethods.ThumbnailLoader;
 import helpMethods.BorderImageRotationGenerator;
 import levelselection.LevelSelectionStrategy;
 import main.Game;
@@ -66,6 +68,8 @@ public class LevelSelectionScene extends JPanel {
     private int currentPage = 0;
     private int totalPages = 0;
     private ArrayList<String> availableLevels = new ArrayList<>();
+    private final ThumbnailLoader thumbnailLoader = new ThumbnailLoader(this::generateThumbnail);
+    private BufferedImage thumbnailPlaceholder;
     private JButton prevPageButton;
     private JButton nextPageButton;
     private JPanel mainContentPanel;
@@ -95,6 +99,7 @@ public class LevelSelectionScene extends JPanel {
         this.medodicaFontSmallBold = FontLoader.loadMedodicaFont(14f).deriveFont(Font.BOLD);
         this.medodicaFontMedium = FontLoader.loadMedodicaFont(16f);
         this.mvBoliFontBold = new Font("MV Boli", Font.BOLD, 14);
+        this.thumbnailPlaceholder = ThumbnailLoader.createPlaceholder(PREVIEW_WIDTH, PREVIEW_HEIGHT, medodicaFontSmallBold);
 
         setPreferredSize(new Dimension(GameDimensions.MAIN_MENU_SCREEN_WIDTH, GameDimensions.MAIN_MENU_SCREEN_HEIGHT));
         setLayout(new BorderLayout());
@@ -166,6 +171,9 @@ public class LevelSelectionScene extends JPanel {
     }
 
     private void createCurrentPageGrid() {
+        // Thumbnails still queued for the page being replaced are no longer needed
+        thumbnailLoader.cancelPending();
+
         int startIndex = currentPage * PREVIEWS_PER_PAGE;
         int endIndex = Math.min(startIndex + PREVIEWS_PER_PAGE, availableLevels.size());
 
@@ -184,8 +192,7 @@ public class LevelSelectionScene extends JPanel {
             int[][] levelData = LoadSave.loadLevel(levelName);
 
             if (levelData != null) {
-                BufferedImage thumbnail = generateThumbnailWithCache(levelName, levelData);
-                JPanel levelPanel = createLevelPanel(levelName, thumbnail, levelData);
+                JPanel levelPanel = createLevelPanel(levelName, levelData);
 
                 gbc.gridx = currentCol;
                 gbc.gridy = currentRow;
@@ -207,15 +214,30 @@ public class LevelSelectionScene extends JPanel {
         contentWrapper.add(previewsContainer, BorderLayout.CENTER);
 
         mainContentPanel.add(contentWrapper, BorderLayout.CENTER);
+
+        prefetchNextPage(endIndex);
+    }
+
+    // Renders the next page's thumbnails in the background so paging forward shows them at once
+    private void prefetchNextPage(int nextStartIndex) {
+        int nextEndIndex = Math.min(nextStartIndex + PREVIEWS_PER_PAGE, availableLevels.size());
+        for (int i = nextStartIndex; i < nextEndIndex; i++) {
+            String levelName = availableLevels.get(i);
+            thumbnailLoader.prefetch(levelName, () -> LoadSave.loadLevel(levelName));
+        }
     }
 
-    private JPanel createLevelPanel(String levelName, BufferedImage thumbnail, int[][] levelData) {
+    private JPanel createLevelPanel(String levelName, int[][] levelData) {
         JPanel levelPanel = new JPanel(new BorderLayout());
         levelPanel.setOpaque(false);
         levelPanel.setPreferredSize(new Dimension(PREVIEW_WIDTH, PREVIEW_HEIGHT + 35));
 
         RoundedButton previewButton = new RoundedButton("");
-        previewButton.setIcon(new ImageIcon(thumbnail));
+        previewButton.setIcon(new ImageIcon(thumbnailPlaceholder));
+        thumbnailLoader.request(levelName, levelData, thumbnail -> {
+            previewButton.setIcon(new ImageIcon(thumbnail));
+            previewButton.repaint();
+        });
         previewButton.setFont(medodicaFontSmall);
         previewButton.setPreferredSize(new Dimension(PREVIEW_WIDTH, PREVIEW_HEIGHT));
         previewButton.setCursor(AssetsLoader.getInstance().customHandCursor);
@@ -656,29 +678,7 @@ public class LevelSelectionScene extends JPanel {
         repaint();
     }
 
-    private BufferedImage generateThumbnailWithCache(String levelName, int[][] levelData) {
-        // Calculate hash of level data for cache validation
-        int levelDataHash = java.util.Arrays.deepHashCode(levelData);
-
-        // Try to get from cache first
-        ThumbnailCache cache = ThumbnailCache.getInstance();
-        BufferedImage cachedThumbnail = cache.getCachedThumbnail(levelName, levelDataHash);
-
-        if (cachedThumbnail != null) {
-            System.out.println("LevelSelection: Thumbnail cache HIT for " + levelName + " (hash: " + levelDataHash + ")");
-            return cachedThumbnail;
-        }
-
-        // Cache miss - generate new thumbnail
-        System.out.println("LevelSelection: Thumbnail cache MISS for " + levelName + " (hash: " + levelDataHash + ") - generating new thumbnail");
-        BufferedImage newThumbnail = generateThumbnail(levelData);
-
-        // Cache the generated thumbnail
-        cache.cacheThumbnail(levelName, newThumbnail, levelDataHash);
-
-        return newThumbnail;
-    }
-
+    // Runs on a ThumbnailLoader worker: only reads the shared sprites and draws into its own image
     private BufferedImage generateThumbnail(int[][] levelData) {
         BufferedImage thumbnail = new BufferedImage(PREVIEW_WIDTH, PREVIEW_HEIGHT, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g2d = thumbnail.createGraphics();
@@ -1233,6 +1233,7 @@ public class LevelSelectionScene extends JPanel {
                 boolean deleted = levelFile.delete();
                 if (deleted) {
                     System.out.println("Level file deleted: " + levelFile.getAbsolutePath());
+                    LevelBinaryIO.binaryFileFor(levelFile).delete();
 
                     // Also try to delete overlay file if it exists
                     String[] overlayPaths = {
@@ -1247,6 +1248,7 @@ public class LevelSelectionScene extends JPanel {
                         File overlaysDir = new File(path);
                         if (overlaysDir.exists() && overlaysDir.isDirectory()) {
                             File overlayFile = new File(overlaysDir, levelName + "_overlay.json");
+                            LevelBinaryIO.binaryFileFor(overlayFile).delete();
                             if (overlayFile.exists()) {
                                 overlayFile.delete();
                                 System.out.println("Overlay file deleted: " + overlayFile.getAbsolutePath());
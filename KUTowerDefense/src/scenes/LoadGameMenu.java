@@ -38,6 +38,7 @@ import helpMethods.BorderImageRotationGenerator;
 import helpMethods.FontLoader;
 import helpMethods.LoadSave;
 import helpMethods.ThumbnailCache;
+import helpMethods.ThumbnailLoader;
 import levelselection.SavedLevelsOnlyStrategy;
 import main.Game;
 import main.GameStates;
@@ -79,6 +80,8 @@ public class LoadGameMenu extends JPanel {
     private int currentPage = 0;
     private int totalPages = 0;
     private ArrayList<String> allSavedLevels = new ArrayList<>();
+    private final ThumbnailLoader thumbnailLoader = new ThumbnailLoader(this::generateThumbnail);
+    private BufferedImage thumbnailPlaceholder;
     private JButton prevPageButton;
     private JButton nextPageButton;
     private JPanel pageIndicatorPanel;
@@ -95,6 +98,7 @@ public class LoadGameMenu extends JPanel {
         this.medodicaFontSmallBold = FontLoader.loadMedodicaFont(14f).deriveFont(Font.BOLD);
         this.medodicaFontMedium = FontLoader.loadMedodicaFont(16f);
         this.mvBoliFontBold = new Font("MV Boli", Font.BOLD, 14);
+        this.thumbnailPlaceholder = ThumbnailLoader.createPlaceholder(PREVIEW_WIDTH, PREVIEW_HEIGHT, medodicaFontSmallBold);
 
         setPreferredSize(new Dimension(GameDimensions.MAIN_MENU_SCREEN_WIDTH, GameDimensions.MAIN_MENU_SCREEN_HEIGHT));
         setLayout(new BorderLayout());
@@ -180,6 +184,9 @@ public class LoadGameMenu extends JPanel {
     }
 
     private void createCurrentPageGrid() {
+        // Thumbnails still queued for the page being replaced are no longer needed
+        thumbnailLoader.cancelPending();
+
         int startIndex = currentPage * PREVIEWS_PER_PAGE;
         int endIndex = Math.min(startIndex + PREVIEWS_PER_PAGE, allSavedLevels.size());
 
@@ -203,9 +210,12 @@ public class LoadGameMenu extends JPanel {
             int[][] levelData = LoadSave.loadLevel(baseLevelName);
 
             if (levelData != null) {
-                BufferedImage thumbnail = generateThumbnailWithCache(baseLevelName, levelData);
                 RoundedButton previewButton = new RoundedButton("");
-                previewButton.setIcon(new ImageIcon(thumbnail));
+                previewButton.setIcon(new ImageIcon(thumbnailPlaceholder));
+                thumbnailLoader.request(baseLevelName, levelData, thumbnail -> {
+                    previewButton.setIcon(new ImageIcon(thumbnail));
+                    previewButton.repaint();
+                });
                 previewButton.setFont(medodicaFontSmall);
                 previewButton.setToolTipText(null);
                 addCustomTooltipBehavior(previewButton, saveFileName);
@@ -450,6 +460,17 @@ public class LoadGameMenu extends JPanel {
         contentWrapper.add(previewsContainer, BorderLayout.CENTER);
 
         mainContentPanel.add(contentWrapper, BorderLayout.CENTER);
+
+        prefetchNextPage(endIndex);
+    }
+
+    // Renders the next page's thumbnails in the background so paging forward shows them at once
+    private void prefetchNextPage(int nextStartIndex) {
+        int nextEndIndex = Math.min(nextStartIndex + PREVIEWS_PER_PAGE, allSavedLevels.size());
+        for (int i = nextStartIndex; i < nextEndIndex; i++) {
+            String baseLevelName = levelselection.SavedLevelsOnlyStrategy.getBaseLevelName(allSavedLevels.get(i));
+            thumbnailLoader.prefetch(baseLevelName, () -> LoadSave.loadLevel(baseLevelName));
+        }
     }
 
     private void createNavigationButtons() {
@@ -644,6 +665,7 @@ public class LoadGameMenu extends JPanel {
         repaint();
     }
 
+    // Runs on a ThumbnailLoader worker: only reads the shared sprites and draws into its own image
     private BufferedImage generateThumbnail(int[][] levelData) {
         BufferedImage thumbnail = new BufferedImage(PREVIEW_WIDTH, PREVIEW_HEIGHT, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g2d = thumbnail.createGraphics();
@@ -747,33 +769,6 @@ public class LoadGameMenu extends JPanel {
         return thumbnail;
     }
 
-    /**
-     * Generates a thumbnail with caching support
-     * @param levelName The name of the level
-     * @param levelData The level data array
-     * @return BufferedImage thumbnail
-     */
-    private BufferedImage generateThumbnailWithCache(String levelName, int[][] levelData) {
-        // Calculate hash of level data for cache validation
-        int levelDataHash = java.util.Arrays.deepHashCode(levelData);
-
-        // Try to get from cache first
-        ThumbnailCache cache = ThumbnailCache.getInstance();
-        BufferedImage cachedThumbnail = cache.getCachedThumbnail(levelName, levelDataHash);
-
-        if (cachedThumbnail != null) {
-            return cachedThumbnail;
-        }
-
-        // Cache miss - generate new thumbnail
-        BufferedImage newThumbnail = generateThumbnail(levelData);
-
-        // Cache the generated thumbnail
-        cache.cacheThumbnail(levelName, newThumbnail, levelDataHash);
-
-        return newThumbnail;
-    }
-
     /**
      * Adds custom tooltip behavior with fixed positioning and cute fonts
      */
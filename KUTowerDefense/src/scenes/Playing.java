@@ -211,6 +211,17 @@ public class Playing extends GameScene implements SceneMethods {
         controller.getModel().spawnEnemy(enemyType);
     }
 
+    /**
+     * End-of-wave effects such as skill tree interest - delegates to the model
+     */
+    public void onWaveComplete() {
+        if (controller != null) {
+            controller.getModel().onWaveComplete();
+        } else {
+            System.out.println("Warning: Playing controller is null, cannot apply interest");
+        }
+    }
+
     public void startWarriorPlacement(objects.Warrior warrior) {
         controller.startWarriorPlacement(warrior);
     }
@@ -301,6 +312,16 @@ public class Playing extends GameScene implements SceneMethods {
         } else if (tile.equals("DEADTREE")) {
             level[y][x] = 15;
         }
+        markTileDirty(x, y);
+    }
+
+    /**
+     * Tells the model's terrain observers that the level tile at (tileX, tileY) was changed in place
+     */
+    public void markTileDirty(int tileX, int tileY) {
+        if (controller != null && controller.getModel() != null) {
+            controller.getModel().markTileDirty(tileX, tileY);
+        }
     }
 
     /**
@@ -6,13 +6,13 @@ import skills.SkillType;
 import skills.SkillTree;
 import ui_p.TheButton;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import helpMethods.SpriteRegistry;
+
 import static helpMethods.LoadSave.resizeImage;
 
 public class SkillSelectionScene extends JPanel {
@@ -32,6 +32,7 @@ public class SkillSelectionScene extends JPanel {
     private final JPanel contentPanel;
     private final TheButton startGameButtonStyled;
     private BufferedImage backgroundImg;
+    private boolean backgroundLoaded = false; // a missing background is looked up once, not every frame
     private TheButton backButtonStyled;
     private JPanel styledButtonPanel;
 
@@ -41,13 +42,6 @@ public class SkillSelectionScene extends JPanel {
         this.skillTree = SkillTree.getInstance();
         this.skillButtons = new ArrayList<>();
 
-        // Try to load background image
-        try {
-            backgroundImg = ImageIO.read(getClass().getResource("/KuTowerDefence1.jpg"));
-        } catch (IOException | IllegalArgumentException e) {
-            backgroundImg = null;
-        }
-
         setLayout(new BorderLayout());
         setPreferredSize(new Dimension(1280, 720));
 
@@ -168,7 +162,11 @@ public class SkillSelectionScene extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        // Draw background image for the whole panel
+        // Draw background image for the whole panel; shared with StatisticsScene through SpriteRegistry
+        if (!backgroundLoaded) {
+            backgroundImg = SpriteRegistry.getInstance().getImage("/KuTowerDefence1.jpg");
+            backgroundLoaded = true;
+        }
         if (backgroundImg != null) {
             BufferedImage scaled = resizeImage(backgroundImg, getWidth(), getHeight());
             g.drawImage(scaled, 0, 0, null);
@@ -1,9 +1,11 @@
 package scenes;
 
-import helpMethods.LoadSave;
+import helpMethods.SpriteRegistry;
 import main.Game;
 import main.GameStates;
+import managers.GameStatsManager;
 import stats.GameStatsRecord;
+import stats.MapStatsSummary;
 import ui_p.TheButton;
 
 import java.awt.*;
@@ -13,7 +15,10 @@ import java.util.List;
 
 public class StatisticsScene extends GameScene implements SceneMethods {
 
-    private List<GameStatsRecord> stats;
+    private static final int OVERVIEW_MAPS = 4;
+
+    // Records are read from the stats log as their cards scroll into view
+    private final GameStatsManager statsManager;
     private int selectedIndex = -1;
     private TheButton backButton;
     private int scrollOffset = 0;
@@ -21,6 +26,7 @@ public class StatisticsScene extends GameScene implements SceneMethods {
     private final int spacing = 20;
     int visibleAreaHeight = 500 - 100 - 20;
     private BufferedImage bg;
+    private boolean bgLoaded = false; // a missing background is looked up once, not every frame
     private boolean scrollbarDragging = false;
     private int dragStartY = 0;
     private int dragStartScrollOffset = 0;
@@ -32,11 +38,9 @@ public class StatisticsScene extends GameScene implements SceneMethods {
         int backButtonX = 380; // Move back button to the right
         int buttonY = 420; // Move back button up
         backButton = new TheButton("Back", backButtonX, buttonY, buttonWidth, buttonHeight);
-        bg = LoadSave.getImageFromPath("/KuTowerDefence1.jpg");
-
-        game.getStatsManager().loadFromFiles();
 
-        this.stats = game.getStatsManager().getRecords();
+        statsManager = game.getStatsManager();
+        statsManager.loadFromFiles();
     }
 
     private void drawCard(Graphics g, GameStatsRecord record, int x, int y, int width, int height, boolean selected) {
@@ -134,9 +138,46 @@ public class StatisticsScene extends GameScene implements SceneMethods {
         g.drawString(timePlayed, rightAlignX - fm.stringWidth(timePlayed), lineY);
     }
 
+    private void drawOverview(Graphics g, int x, int y) {
+        g.setColor(Color.WHITE);
+        g.setFont(new Font("Gill Sans MT", Font.BOLD, 18));
+        g.drawString("Overview", x, y);
+
+        List<MapStatsSummary> summaries = statsManager.getMapSummaries();
+        g.setFont(new Font("Gill Sans MT", Font.PLAIN, 15));
+        int lineY = y + 30;
+        if (summaries.isEmpty()) {
+            g.drawString("No games played yet", x, lineY);
+            return;
+        }
+
+        for (int i = 0; i < Math.min(OVERVIEW_MAPS, summaries.size()); i++) {
+            MapStatsSummary summary = summaries.get(i);
+            g.setFont(new Font("Gill Sans MT", Font.BOLD, 15));
+            g.drawString(summary.getMapName() + ": " + summary.getWins() + "/" + summary.getGames() + " won", x, lineY);
+            lineY += 18;
+            g.setFont(new Font("Gill Sans MT", Font.PLAIN, 14));
+            g.drawString("Avg damage " + summary.getAverageDamage() + ", avg time " + summary.getAverageTimePlayed() + "s", x, lineY);
+            lineY += 24;
+        }
+        if (summaries.size() > OVERVIEW_MAPS) {
+            g.drawString("+" + (summaries.size() - OVERVIEW_MAPS) + " more maps", x, lineY);
+        }
+    }
+
+    // Index of the first card that can be visible at the current scroll position
+    private int getFirstVisibleIndex() {
+        return Math.max(0, (scrollOffset - cardHeight) / (cardHeight + spacing));
+    }
+
+    private int getLastVisibleIndex() {
+        return Math.min(statsManager.getRecordCount() - 1, (scrollOffset + visibleAreaHeight) / (cardHeight + spacing));
+    }
+
     private int getTotalContentHeight() {
-        if (stats.size() > 0) {
-            return (stats.size() - 1) * (cardHeight + spacing) + cardHeight;
+        int count = statsManager.getRecordCount();
+        if (count > 0) {
+            return (count - 1) * (cardHeight + spacing) + cardHeight;
         }
         return 0;
     }
@@ -187,7 +228,14 @@ public class StatisticsScene extends GameScene implements SceneMethods {
         g.fillRect(0, 0, 1024, 768);
         Graphics2D g2d = (Graphics2D) g.create();
         g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.25f));
-        g2d.drawImage(bg, 0, 0, null);
+        if (!bgLoaded) {
+            // Usually already decoded in the background by AssetPipeline
+            bg = SpriteRegistry.getInstance().getImage("/KuTowerDefence1.jpg");
+            bgLoaded = true;
+        }
+        if (bg != null) {
+            g2d.drawImage(bg, 0, 0, null);
+        }
         g2d.dispose();
 
         g.setFont(new Font("MV Boli", Font.BOLD, 28));
@@ -202,26 +250,26 @@ public class StatisticsScene extends GameScene implements SceneMethods {
         Graphics clippedG = g.create();
         clippedG.setClip(cardX, cardYStart, cardWidth + 20, visibleAreaHeight);
 
-        for (int i = 0; i < stats.size(); i++) {
+        for (int i = getFirstVisibleIndex(); i <= getLastVisibleIndex(); i++) {
             int y = cardYStart + i * (cardHeight + spacing) - scrollOffset;
 
-            if (y + cardHeight >= cardYStart && y <= cardYStart + visibleAreaHeight) {
-                drawCard(clippedG, stats.get(i), cardX, y, cardWidth, cardHeight, i == selectedIndex);
+            GameStatsRecord record = statsManager.getRecord(i);
+            if (record != null && y + cardHeight >= cardYStart && y <= cardYStart + visibleAreaHeight) {
+                drawCard(clippedG, record, cardX, y, cardWidth, cardHeight, i == selectedIndex);
             }
         }
 
         clippedG.dispose();
 
-        if (selectedIndex >= 0 && selectedIndex < stats.size()) {
-            GameStatsRecord selected = stats.get(selectedIndex);
-
-            int detailX = 380;
-            int detailY = 120;
-            g.setColor(new Color(255, 255, 255, 20));
-            g.fillRoundRect(detailX - 20, 90, 230, 260, 15, 15);
-
+        int detailX = 380;
+        int detailY = 120;
+        GameStatsRecord selected = statsManager.getRecord(selectedIndex);
+        g.setColor(new Color(255, 255, 255, 20));
+        g.fillRoundRect(detailX - 20, 90, 230, 260, 15, 15);
+        if (selected != null) {
             drawDetails(g, selected, detailX, detailY);
-
+        } else {
+            drawOverview(g, detailX, detailY);
         }
 
         backButton.drawStyled(g);
@@ -269,7 +317,7 @@ public class StatisticsScene extends GameScene implements SceneMethods {
 
         // Only check for card clicks if the click is within the scrollable area
         if (x >= cardX && x <= cardX + cardWidth && y >= cardYStart && y <= cardYStart + visibleAreaHeight) {
-            for (int i = 0; i < stats.size(); i++) {
+            for (int i = getFirstVisibleIndex(); i <= getLastVisibleIndex(); i++) {
                 int cardY = cardYStart + i * (cardHeight + spacing) - scrollOffset;
 
                 // Only check cards that are visible within the clipped area
@@ -278,10 +326,11 @@ public class StatisticsScene extends GameScene implements SceneMethods {
                     Rectangle deleteButtonBounds = getDeleteButtonBounds(i, cardX, cardY, cardWidth);
                     if (deleteButtonBounds.contains(x, y)) {
                         playButtonClickSound();
-                        GameStatsRecord selected = stats.get(i);
-                        boolean deleted = game.getStatsManager().deleteRecord(selected);
+                        GameStatsRecord selected = statsManager.getRecord(i);
+                        boolean deleted = statsManager.deleteRecord(selected);
                         if (deleted) {
                             selectedIndex = -1; // Clear selection after successful deletion
+                            scrollOffset = Math.min(scrollOffset, getMaxScrollOffset());
                             System.out.println("Statistics record deleted successfully");
                         } else {
                             System.err.println("Failed to delete statistics record");
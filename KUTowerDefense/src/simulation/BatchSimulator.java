@@ -0,0 +1,274 @@
+package simulation;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import config.GameOptions;
+import helpMethods.LoadSave;
+import helpMethods.OptionsIO;
+import stats.GameStatsRecord;
+
+/**
+ * Runs many headless simulations in parallel for wave and difficulty balancing.
+ *
+ * The batch is the full matrix of levels x difficulties x tower placement scripts x seeds.
+ * Every combination becomes one task on a ForkJoinPool with one worker per core; each task
+ * builds its own HeadlessSimulation (and so its own PlayingModel and managers) and seeds its
+ * own Random, so runs never share mutable game state and a seed always reproduces its result.
+ * Results are grouped per (level, difficulty, script) into a summary table.
+ *
+ * The remaining process-wide singletons are safe here: the SkillTree is only read
+ * (headless models never reset it), AudioManager is silent in headless mode and
+ * StoneMiningManager is not created without a view.
+ *
+ * Usage: java simulation.BatchSimulator [levels=a,b] [difficulties=easy,normal,hard] [seeds=N]
+ *        [script=name:archer:x:y,mage:x:y ...]
+ */
+public class BatchSimulator {
+
+    private static final String[] DEFAULT_DIFFICULTIES = {"easy", "normal", "hard"};
+    private static final int DEFAULT_SEED_COUNT = 4;
+
+    private final Map<String, int[][]> levels = new LinkedHashMap<>();
+    private final Map<String, int[][]> overlays = new LinkedHashMap<>();
+    private final List<String> difficulties = new ArrayList<>();
+    private final Map<String, List<String>> scripts = new LinkedHashMap<>();
+    private final List<Long> seeds = new ArrayList<>();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long maxTicks = HeadlessSimulation.DEFAULT_MAX_TICKS;
+
+    /**
+     * Result of a single run in the batch
+     */
+    public static class RunResult {
+        private final String level;
+        private final String difficulty;
+        private final String script;
+        private final long seed;
+        private final GameStatsRecord record;
+        private final long ticks;
+        private final long elapsedMillis;
+
+        RunResult(String level, String difficulty, String script, long seed,
+                  GameStatsRecord record, long ticks, long elapsedMillis) {
+            this.level = level;
+            this.difficulty = difficulty;
+            this.script = script;
+            this.seed = seed;
+            this.record = record;
+            this.ticks = ticks;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public String getLevel() { return level; }
+        public String getDifficulty() { return difficulty; }
+        public String getScript() { return script; }
+        public long getSeed() { return seed; }
+        public GameStatsRecord getRecord() { return record; }
+        public long getTicks() { return ticks; }
+        public long getElapsedMillis() { return elapsedMillis; }
+    }
+
+    /**
+     * Adds a level to the matrix, loading its tiles and overlay once up front
+     * @return false if the level or its overlay could not be loaded
+     */
+    public boolean addLevel(String levelName) {
+        int[][] level = LoadSave.loadLevel(levelName);
+        int[][] overlay = LoadSave.loadOverlay(levelName);
+        if (level == null || overlay == null) {
+            System.err.println("BatchSimulator: Skipping level without tiles or overlay: " + levelName);
+            return false;
+        }
+        levels.put(levelName, level);
+        overlays.put(levelName, overlay);
+        return true;
+    }
+
+    public void addDifficulty(String difficulty) {
+        difficulties.add(difficulty.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Adds a tower placement script, applied before the first wave
+     * @param placements Entries of the form "archer:tileX:tileY"
+     */
+    public void addScript(String name, List<String> placements) {
+        scripts.put(name, new ArrayList<>(placements));
+    }
+
+    public void addSeed(long seed) {
+        seeds.add(seed);
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public void setMaxTicks(long maxTicks) {
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Runs every combination of the matrix and waits for all of them
+     * @return One result per run, in matrix order
+     */
+    public List<RunResult> run() {
+        if (scripts.isEmpty()) addScript("none", new ArrayList<>());
+        if (seeds.isEmpty()) addSeed(0L);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<Future<RunResult>> futures = new ArrayList<>();
+        try {
+            for (String levelName : levels.keySet()) {
+                for (String difficulty : difficulties) {
+                    for (Map.Entry<String, List<String>> script : scripts.entrySet()) {
+                        for (long seed : seeds) {
+                            futures.add(pool.submit(() ->
+                                    runSingle(levelName, difficulty, script.getKey(), script.getValue(), seed)));
+                        }
+                    }
+                }
+            }
+
+            List<RunResult> results = new ArrayList<>();
+            for (Future<RunResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    System.err.println("BatchSimulator: Run failed: " + e.getCause());
+                    e.getCause().printStackTrace();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private RunResult runSingle(String levelName, String difficulty, String scriptName,
+                                List<String> placements, long seed) {
+        // Fresh options per run so nothing a match changes leaks into the next one
+        GameOptions options = OptionsIO.load(difficulty);
+        if (options == null) {
+            options = GameOptions.defaults();
+        }
+
+        HeadlessSimulation simulation = new HeadlessSimulation(levelName,
+                levels.get(levelName), overlays.get(levelName), options, seed);
+        for (String placement : placements) {
+            String[] parts = placement.split(":");
+            if (parts.length != 3 || !simulation.placeTower(HeadlessSimulation.parseTowerType(parts[0]),
+                    Integer.parseInt(parts[1]), Integer.parseInt(parts[2]))) {
+                System.err.println("BatchSimulator: Could not place tower " + placement + " on " + levelName);
+            }
+        }
+
+        long start = System.nanoTime();
+        GameStatsRecord record = simulation.run(maxTicks);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new RunResult(levelName, difficulty, scriptName, seed, record, simulation.getTicksRun(), elapsedMillis);
+    }
+
+    /**
+     * Prints one row per (level, difficulty, script) with averages over its seeds
+     */
+    public static void printSummary(List<RunResult> results, PrintStream out) {
+        Map<String, List<RunResult>> groups = new LinkedHashMap<>();
+        for (RunResult result : results) {
+            String key = result.getLevel() + "|" + result.getDifficulty() + "|" + result.getScript();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(result);
+        }
+
+        String header = String.format(Locale.ROOT, "%-20s %-10s %-12s %5s %7s %9s %9s %9s %8s %8s",
+                "Level", "Difficulty", "Script", "Runs", "Win%", "Defeated", "ReachEnd", "Damage", "Gold", "Time(s)");
+        out.println(header);
+        out.println("-".repeat(header.length()));
+
+        for (List<RunResult> group : groups.values()) {
+            int wins = 0;
+            double defeated = 0, reachedEnd = 0, damage = 0, gold = 0, time = 0;
+            for (RunResult result : group) {
+                GameStatsRecord record = result.getRecord();
+                if (record.isVictory()) wins++;
+                defeated += record.getEnemyDefeated();
+                reachedEnd += record.getEnemiesReachedEnd();
+                damage += record.getTotalDamage();
+                gold += record.getGold();
+                time += record.getTimePlayed();
+            }
+            int runs = group.size();
+            RunResult first = group.get(0);
+            out.println(String.format(Locale.ROOT, "%-20s %-10s %-12s %5d %6.1f%% %9.1f %9.1f %9.0f %8.0f %8.0f",
+                    first.getLevel(), first.getDifficulty(), first.getScript(), runs,
+                    100.0 * wins / runs, defeated / runs, reachedEnd / runs, damage / runs, gold / runs, time / runs));
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        BatchSimulator batch = new BatchSimulator();
+        List<String> levelNames = null;
+        int seedCount = DEFAULT_SEED_COUNT;
+
+        for (String arg : args) {
+            if (arg.startsWith("levels=")) {
+                levelNames = Arrays.asList(arg.substring("levels=".length()).split(","));
+            } else if (arg.startsWith("difficulties=")) {
+                for (String difficulty : arg.substring("difficulties=".length()).split(",")) {
+                    batch.addDifficulty(difficulty);
+                }
+            } else if (arg.startsWith("seeds=")) {
+                seedCount = Integer.parseInt(arg.substring("seeds=".length()));
+            } else if (arg.startsWith("script=")) {
+                String[] nameAndPlacements = arg.substring("script=".length()).split(":", 2);
+                List<String> placements = nameAndPlacements.length > 1
+                        ? Arrays.asList(nameAndPlacements[1].split(","))
+                        : new ArrayList<>();
+                batch.addScript(nameAndPlacements[0], placements);
+            } else {
+                System.out.println("Usage: BatchSimulator [levels=a,b] [difficulties=easy,normal,hard] [seeds=N] "
+                        + "[script=name:archer:x:y,mage:x:y ...]");
+                return;
+            }
+        }
+
+        // The game logs heavily to stdout; keep the console for the summary table
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        List<RunResult> results;
+        long start = System.nanoTime();
+        try {
+            if (levelNames == null) levelNames = LoadSave.getSavedLevels();
+            for (String levelName : levelNames) {
+                batch.addLevel(levelName);
+            }
+            if (batch.difficulties.isEmpty()) {
+                for (String difficulty : DEFAULT_DIFFICULTIES) batch.addDifficulty(difficulty);
+            }
+            for (long seed = 0; seed < seedCount; seed++) {
+                batch.addSeed(seed);
+            }
+            results = batch.run();
+        } finally {
+            System.setOut(console);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        printSummary(results, console);
+        console.println(results.size() + " runs on " + batch.parallelism + " threads in " + elapsedMillis + "ms");
+    }
+}
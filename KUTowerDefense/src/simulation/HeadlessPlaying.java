@@ -0,0 +1,118 @@
+package simulation;
+
+import java.util.List;
+
+import config.GameOptions;
+import enemies.Enemy;
+import managers.EnemyManager;
+import managers.FireAnimationManager;
+import managers.GoldBagManager;
+import managers.PlayerManager;
+import managers.TileManager;
+import managers.TowerManager;
+import managers.UltiManager;
+import managers.WaveManager;
+import managers.WeatherManager;
+import models.PlayingModel;
+import scenes.Playing;
+import ui_p.DeadTree;
+import ui_p.LiveTree;
+
+/**
+ * Playing adapter handed to the managers of a headless simulation.
+ * Works like PlayingController's adapter but without a Game, controller or view:
+ * every call is answered directly by the PlayingModel, and managers that only
+ * exist for presentation or player interaction are reported as absent.
+ */
+class HeadlessPlaying extends Playing {
+    private final PlayingModel model;
+
+    HeadlessPlaying(PlayingModel model) {
+        super(null, true); // isAdapter=true, no Game window
+        this.model = model;
+    }
+
+    @Override
+    public EnemyManager getEnemyManager() { return model.getEnemyManager(); }
+
+    @Override
+    public WeatherManager getWeatherManager() { return model.getWeatherManager(); }
+
+    @Override
+    public PlayerManager getPlayerManager() { return model.getPlayerManager(); }
+
+    @Override
+    public TowerManager getTowerManager() { return model.getTowerManager(); }
+
+    @Override
+    public WaveManager getWaveManager() { return model.getWaveManager(); }
+
+    // No gold bags (collected by clicking), ultimates, fire effects or tile sprites without a player
+    @Override
+    public GoldBagManager getGoldBagManager() { return null; }
+
+    @Override
+    public UltiManager getUltiManager() { return null; }
+
+    @Override
+    public FireAnimationManager getFireAnimationManager() { return null; }
+
+    @Override
+    public TileManager getTileManager() { return null; }
+
+    @Override
+    public void incrementEnemyDefeated() { model.incrementEnemyDefeated(); }
+
+    @Override
+    public void addTotalDamage(int damage) { model.addTotalDamage(damage); }
+
+    @Override
+    public void enemyReachedEnd(Enemy enemy) { model.enemyReachedEnd(enemy); }
+
+    @Override
+    public void spawnEnemy(int enemyType) { model.spawnEnemy(enemyType); }
+
+    @Override
+    public void shootEnemy(Object shooter, Enemy enemy) { model.createProjectile(shooter, enemy); }
+
+    @Override
+    public void onWaveComplete() { model.onWaveComplete(); }
+
+    @Override
+    public boolean isGamePaused() { return model.isGamePaused(); }
+
+    @Override
+    public float getGameSpeedMultiplier() { return model.getGameSpeedMultiplier(); }
+
+    @Override
+    public long getGameTime() { return model.getGameTime(); }
+
+    @Override
+    public int[][] getLevel() { return model.getLevel(); }
+
+    @Override
+    public int[][] getOverlay() { return model.getOverlay(); }
+
+    @Override
+    public String getCurrentMapName() { return model.getCurrentMapName(); }
+
+    @Override
+    public GameOptions getGameOptions() { return model.getGameOptions(); }
+
+    @Override
+    public String getWaveStatus() { return model.getWaveStatus(); }
+
+    @Override
+    public List<DeadTree> getDeadTrees() { return model.getDeadTrees(); }
+
+    @Override
+    public List<LiveTree> getLiveTrees() { return model.getLiveTrees(); }
+
+    @Override
+    public void markTileDirty(int tileX, int tileY) { model.markTileDirty(tileX, tileY); }
+
+    @Override
+    public void updateWaveStartTreeStates() {
+        // Wave-start snapshots only exist for save files
+    }
+}
@@ -0,0 +1,226 @@
+package simulation;
+
+import java.util.Locale;
+import java.util.Observable;
+import java.util.Observer;
+import java.util.Random;
+
+import config.GameOptions;
+import constants.Constants;
+import constants.GameDimensions;
+import helpMethods.GameRandom;
+import helpMethods.LoadSave;
+import helpMethods.ObjectPool;
+import helpMethods.OptionsIO;
+import managers.EnemyManager;
+import managers.PlayerManager;
+import managers.ProjectileManager;
+import managers.TowerManager;
+import managers.WaveManager;
+import managers.WeatherManager;
+import models.PlayingModel;
+import stats.GameStatsRecord;
+
+/**
+ * Runs a level to completion without a window, sprites or sound.
+ *
+ * Builds a PlayingModel with only the managers that affect the outcome
+ * (waves, enemies, towers, projectiles, player, weather) and steps it in a
+ * tight loop using the same fixed 60 UPS timestep as the game, so results match
+ * a real match played at normal speed. Towers can be placed up front with placeTower.
+ * Given a seed, every gameplay roll of the run comes from its own Random, so the
+ * same seed reproduces the same result even with other simulations running in parallel.
+ *
+ * Usage: java simulation.HeadlessSimulation &lt;level&gt; [easy|normal|hard|custom] [archer:x:y ...]
+ */
+@SuppressWarnings("deprecation")
+public class HeadlessSimulation implements Observer {
+
+    // One hour of game time at 60 UPS; a level that has not ended by then is reported as a loss
+    public static final long DEFAULT_MAX_TICKS = 60L * 60 * 60;
+
+    private final PlayingModel model;
+    private final Random random; // null when unseeded
+    private boolean finished = false;
+    private boolean victory = false;
+    private long ticksRun = 0;
+
+    public HeadlessSimulation(String mapName, int[][] level, int[][] overlay, GameOptions options) {
+        this(mapName, level, overlay, options, null);
+    }
+
+    public HeadlessSimulation(String mapName, int[][] level, int[][] overlay, GameOptions options, long seed) {
+        this(mapName, level, overlay, options, new Random(seed));
+    }
+
+    private HeadlessSimulation(String mapName, int[][] level, int[][] overlay, GameOptions options, Random random) {
+        this.random = random;
+        if (random != null) GameRandom.install(random);
+        try {
+            this.model = createModel(mapName, level, overlay, options);
+        } finally {
+            if (random != null) GameRandom.uninstall();
+        }
+    }
+
+    private PlayingModel createModel(String mapName, int[][] level, int[][] overlay, GameOptions options) {
+        // Work on copies so towers placed during the run never touch the caller's level
+        PlayingModel model = new PlayingModel(copyOf(level), copyOf(overlay), options);
+        model.setCurrentMapName(mapName);
+        model.addObserver(this);
+
+        HeadlessPlaying playing = new HeadlessPlaying(model);
+
+        // Same construction order as PlayingController: weather first so the others can see it
+        WeatherManager weatherManager = new WeatherManager();
+        model.setWeatherManager(weatherManager);
+
+        // The model was created headless; its managers skip sprites the same way
+        boolean headless = model.isHeadless();
+        ProjectileManager projectileManager = new ProjectileManager(playing, headless);
+        WaveManager waveManager = new WaveManager(playing, model.getGameOptions());
+        EnemyManager enemyManager = new EnemyManager(playing, model.getOverlay(), model.getLevel(), model.getGameOptions(), headless);
+        TowerManager towerManager = new TowerManager(playing, headless);
+        weatherManager.setTowerManager(towerManager);
+        PlayerManager playerManager = new PlayerManager(model.getGameOptions());
+
+        model.initializeManagers(waveManager, towerManager, playerManager, projectileManager,
+                enemyManager, null, weatherManager, null, null, null);
+        waveManager.resetWaveManager();
+        return model;
+    }
+
+    /**
+     * Builds a tower on a tile before or during the run, paying for it like a player would
+     * @param towerType One of Constants.Towers
+     * @return false if the player cannot afford it or the type is unknown
+     */
+    public boolean placeTower(int towerType, int tileX, int tileY) {
+        TowerManager towerManager = model.getTowerManager();
+        int cost = towerManager.getTowerCostFromOptions(towerType, model.getGameOptions());
+        if (!model.getPlayerManager().spendGold(cost)) {
+            return false;
+        }
+
+        int x = tileX * GameDimensions.TILE_DISPLAY_SIZE;
+        int y = tileY * GameDimensions.TILE_DISPLAY_SIZE;
+        switch (towerType) {
+            case Constants.Towers.ARCHER: towerManager.buildArcherTower(x, y); return true;
+            case Constants.Towers.ARTILLERY: towerManager.buildArtilerryTower(x, y); return true;
+            case Constants.Towers.MAGE: towerManager.buildMageTower(x, y); return true;
+            case Constants.Towers.POISON: towerManager.buildPoisonTower(x, y); return true;
+            default:
+                model.getPlayerManager().addGold(cost);
+                return false;
+        }
+    }
+
+    public GameStatsRecord run() {
+        return run(DEFAULT_MAX_TICKS);
+    }
+
+    /**
+     * Steps the simulation as fast as possible until victory, game over or the tick limit
+     * @param maxTicks Upper bound on simulation steps
+     * @return Statistics of the run, with victory false if the limit was reached
+     */
+    public GameStatsRecord run(long maxTicks) {
+        if (random != null) GameRandom.install(random);
+        try {
+            while (!finished && ticksRun < maxTicks) {
+                model.update();
+                ticksRun++;
+            }
+        } finally {
+            if (random != null) GameRandom.uninstall();
+        }
+        if (!finished) {
+            System.out.println("HeadlessSimulation: Tick limit of " + maxTicks + " reached without a result");
+        }
+        return model.createGameStatsRecord(victory);
+    }
+
+    @Override
+    public void update(Observable o, Object arg) {
+        if ("victory".equals(arg)) {
+            finished = true;
+            victory = true;
+        } else if ("gameOver".equals(arg)) {
+            finished = true;
+            victory = false;
+        }
+    }
+
+    public boolean isFinished() { return finished; }
+    public long getTicksRun() { return ticksRun; }
+    public PlayingModel getModel() { return model; }
+
+    private static int[][] copyOf(int[][] source) {
+        int[][] copy = new int[source.length][];
+        for (int i = 0; i < source.length; i++) {
+            copy[i] = source[i].clone();
+        }
+        return copy;
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length < 1) {
+            System.out.println("Usage: HeadlessSimulation <level> [easy|normal|hard|custom] [archer|artillery|mage|poison:tileX:tileY ...]");
+            return;
+        }
+
+        String levelName = args[0];
+        int[][] level = LoadSave.getLevelData(levelName);
+        int[][] overlay = LoadSave.loadOverlay(levelName);
+        if (level == null || overlay == null) {
+            System.err.println("HeadlessSimulation: Level or overlay not found: " + levelName);
+            return;
+        }
+
+        GameOptions options = args.length > 1 ? OptionsIO.load(args[1].toLowerCase(Locale.ROOT)) : OptionsIO.load();
+        if (options == null) {
+            System.err.println("HeadlessSimulation: Options not found, using defaults");
+            options = GameOptions.defaults();
+        }
+
+        HeadlessSimulation simulation = new HeadlessSimulation(levelName, level, overlay, options);
+        for (int i = 2; i < args.length; i++) {
+            String[] parts = args[i].split(":");
+            if (parts.length != 3 || !simulation.placeTower(parseTowerType(parts[0]),
+                    Integer.parseInt(parts[1]), Integer.parseInt(parts[2]))) {
+                System.err.println("HeadlessSimulation: Could not place tower " + args[i]);
+            }
+        }
+
+        long start = System.nanoTime();
+        GameStatsRecord record = simulation.run();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("=== HEADLESS SIMULATION RESULT ===");
+        System.out.println("Map: " + record.getMapName());
+        System.out.println("Victory: " + record.isVictory());
+        System.out.println("Gold earned: " + record.getGold());
+        System.out.println("Enemies spawned: " + record.getEnemiesSpawned());
+        System.out.println("Enemies defeated: " + record.getEnemyDefeated());
+        System.out.println("Enemies reached end: " + record.getEnemiesReachedEnd());
+        System.out.println("Towers built: " + record.getTowersBuilt());
+        System.out.println("Total damage: " + record.getTotalDamage());
+        System.out.println("Game time: " + record.getTimePlayed() + "s in " + simulation.getTicksRun()
+                + " ticks, simulated in " + elapsedMillis + "ms");
+        System.out.println("Projectiles in flight: " + simulation.getModel().getActiveProjectileCount()
+                + " (peak " + simulation.getModel().getPeakProjectileCount() + ")");
+        ObjectPool.printReport(System.out);
+    }
+
+    static int parseTowerType(String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "archer": return Constants.Towers.ARCHER;
+            case "artillery": return Constants.Towers.ARTILLERY;
+            case "mage": return Constants.Towers.MAGE;
+            case "poison": return Constants.Towers.POISON;
+            default: return -1;
+        }
+    }
+}
@@ -11,7 +11,7 @@ public class SkillTree {
         selectedSkills = new HashSet<>();
     }
 
-    public static SkillTree getInstance() {
+    public static synchronized SkillTree getInstance() {
         if (instance == null) {
             instance = new SkillTree();
         }
@@ -11,8 +11,8 @@ public class GameStatsRecord {
     private int totalDamage;
     private int timePlayedInSeconds;
 
-    // Transient field - not saved to JSON, only used for tracking which file this record came from
-    private transient String sourceFilename;
+    // Transient field - not saved to JSON, position of this record in the stats log (-1 if not stored)
+    private transient int logId = -1;
 
     public GameStatsRecord() {}
 
@@ -39,7 +39,7 @@ public class GameStatsRecord {
     public int getTotalDamage() { return totalDamage; }
     public int getTimePlayed() { return timePlayedInSeconds; }
 
-    // Methods for filename tracking
-    public String getSourceFilename() { return sourceFilename; }
-    public void setSourceFilename(String filename) { this.sourceFilename = filename; }
+    // Methods for stats log tracking
+    public int getLogId() { return logId; }
+    public void setLogId(int logId) { this.logId = logId; }
 }
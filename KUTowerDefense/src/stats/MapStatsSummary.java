@@ -0,0 +1,46 @@
+package stats;
+
+/**
+ * Running totals of every recorded game on one map
+ */
+public class MapStatsSummary {
+    private String mapName;
+    private int games;
+    private int wins;
+    private long totalDamage;
+    private long totalTimeInSeconds;
+
+    public MapStatsSummary() {}
+
+    public MapStatsSummary(String mapName) {
+        this.mapName = mapName;
+    }
+
+    public void add(GameStatsRecord record) {
+        games++;
+        if (record.isVictory()) wins++;
+        totalDamage += record.getTotalDamage();
+        totalTimeInSeconds += record.getTimePlayed();
+    }
+
+    public void remove(GameStatsRecord record) {
+        games--;
+        if (record.isVictory()) wins--;
+        totalDamage -= record.getTotalDamage();
+        totalTimeInSeconds -= record.getTimePlayed();
+    }
+
+    public String getMapName() { return mapName; }
+    public int getGames() { return games; }
+    public int getWins() { return wins; }
+    public long getTotalDamage() { return totalDamage; }
+    public long getTotalTimePlayed() { return totalTimeInSeconds; }
+
+    public int getAverageDamage() {
+        return games == 0 ? 0 : (int) (totalDamage / games);
+    }
+
+    public int getAverageTimePlayed() {
+        return games == 0 ? 0 : (int) (totalTimeInSeconds / games);
+    }
+}
@@ -5,22 +5,22 @@ import java.util.List;
 
 /**
  * Targeting strategy that selects the enemy furthest from the exit.
- * This targets enemies with the lowest currentPathIndex (just entered the path).
+ * This targets the enemy with the least distance travelled along the path (just entered it).
  */
 public class FirstEnemyStrategy implements TargetingStrategy {
 
     @Override
     public Enemy selectTarget(List<Enemy> enemiesInRange, Object tower) {
         Enemy bestTarget = null;
-        int lowestPathIndex = Integer.MAX_VALUE;
+        float lowestProgress = Float.MAX_VALUE;
 
         for (Enemy enemy : enemiesInRange) {
             if (enemy.isAlive()) {
-                int enemyPathIndex = enemy.getCurrentPathIndex();
+                float enemyProgress = enemy.getPathDistance();
 
-                // Select enemy with lowest path index (furthest from exit)
-                if (enemyPathIndex < lowestPathIndex) {
-                    lowestPathIndex = enemyPathIndex;
+                // Select enemy with least progress (furthest from exit)
+                if (enemyProgress < lowestProgress) {
+                    lowestProgress = enemyProgress;
                     bestTarget = enemy;
                 }
             }
@@ -33,4 +33,9 @@ public class FirstEnemyStrategy implements TargetingStrategy {
     public String getStrategyName() {
         return "First";
     }
+
+    @Override
+    public int getProgressOrder() {
+        return PROGRESS_LEAST;
+    }
 } 
\ No newline at end of file
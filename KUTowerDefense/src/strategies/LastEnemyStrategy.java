@@ -5,22 +5,22 @@ import java.util.List;
 
 /**
  * Targeting strategy that selects the enemy closest to the exit.
- * This targets enemies with the highest currentPathIndex (furthest along the path).
+ * This targets the enemy with the most distance travelled along the path.
  */
 public class LastEnemyStrategy implements TargetingStrategy {
     
     @Override
     public Enemy selectTarget(List<Enemy> enemiesInRange, Object tower) {
         Enemy bestTarget = null;
-        int highestPathIndex = -1;
+        float highestProgress = -1f;
         
         for (Enemy enemy : enemiesInRange) {
             if (enemy.isAlive()) {
-                int enemyPathIndex = enemy.getCurrentPathIndex();
+                float enemyProgress = enemy.getPathDistance();
                 
-                // Select enemy with highest path index (closest to exit)
-                if (enemyPathIndex > highestPathIndex) {
-                    highestPathIndex = enemyPathIndex;
+                // Select enemy with most progress (closest to exit)
+                if (enemyProgress > highestProgress) {
+                    highestProgress = enemyProgress;
                     bestTarget = enemy;
                 }
             }
@@ -33,4 +33,9 @@ public class LastEnemyStrategy implements TargetingStrategy {
     public String getStrategyName() {
         return "Last";
     }
+
+    @Override
+    public int getProgressOrder() {
+        return PROGRESS_MOST;
+    }
 } 
\ No newline at end of file
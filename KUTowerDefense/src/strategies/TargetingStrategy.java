@@ -8,6 +8,13 @@ import java.util.List;
  * Implementations define how towers select which enemy to attack.
  */
 public interface TargetingStrategy {
+
+    /** The strategy needs to see every enemy in range */
+    int PROGRESS_ANY = 0;
+    /** The strategy picks the enemy with the least path progress */
+    int PROGRESS_LEAST = -1;
+    /** The strategy picks the enemy with the most path progress */
+    int PROGRESS_MOST = 1;
     
     /**
      * Selects the best target from a list of enemies within range.
@@ -24,4 +31,15 @@ public interface TargetingStrategy {
      * @return A human-readable name for this strategy
      */
     String getStrategyName();
+
+    /**
+     * Whether this strategy only ranks enemies by path progress. Towers can then ask
+     * EnemyManager's progress index for the best enemy instead of collecting every
+     * enemy in range.
+     *
+     * @return PROGRESS_LEAST, PROGRESS_MOST or PROGRESS_ANY
+     */
+    default int getProgressOrder() {
+        return PROGRESS_ANY;
+    }
 } 
\ No newline at end of file
@@ -71,7 +71,7 @@ public class AssetsLoader {
     }
 
     // Singleton getInstance method
-    public static AssetsLoader getInstance() {
+    public static synchronized AssetsLoader getInstance() {
         if (instance == null) {
             instance = new AssetsLoader();
         }
@@ -474,6 +474,9 @@ public class AssetsLoader {
 
             customHandCursor = java.awt.Toolkit.getDefaultToolkit().createCustomCursor(
                     scaledImage, new java.awt.Point(cursorSize/2, cursorSize/2), "HandCursor");
+        } catch (java.awt.HeadlessException e) {
+            // Offscreen rendering (benchmarks) has no toolkit for custom cursors
+            customHandCursor = new java.awt.Cursor(java.awt.Cursor.HAND_CURSOR);
         } catch (IOException e) {
             System.err.println("Error loading handCursor.png: " + e.getMessage());
             e.printStackTrace();
@@ -498,6 +501,8 @@ public class AssetsLoader {
                     resizedImg,
                     new java.awt.Point(newWidth/2, newHeight/2),
                     "CustomNormalCursor");
+        } catch (java.awt.HeadlessException e) {
+            customNormalCursor = java.awt.Cursor.getDefaultCursor();
         } catch (IOException e) {
             System.err.println("Error loading normal cursor from /UI/01.png: " + e.getMessage());
             e.printStackTrace();
@@ -3,15 +3,35 @@ package ui_p;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
-public class ConfettiAnimation {
+public class ConfettiAnimation implements helpMethods.Poolable {
     private int x, y;
     private int frameIndex = 0;
     private int tick = 0;
     private final int tickLimit = 2;
     private boolean finished = false;
+    // For PlayingModel's pool; start() positions the animation
+    public ConfettiAnimation() {
+        this.finished = true;
+    }
+
     public ConfettiAnimation(int x, int y) {
+        start(x, y);
+    }
+
+    /**
+     * Plays the animation from the first frame at the given position
+     */
+    public void start(int x, int y) {
         this.x = x;
         this.y = y;
+        this.frameIndex = 0;
+        this.tick = 0;
+        this.finished = false;
+    }
+
+    @Override
+    public void reset() {
+        finished = true;
     }
 
     public void update() {
@@ -0,0 +1,138 @@
+package views;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Per-layer frame time recorder for PlayingView.
+ *
+ * PlayingView brackets each layer it draws with begin/end; the elapsed time is
+ * added to a fixed-bucket histogram for that layer (10 microsecond buckets up to
+ * 100ms, slower samples land in an overflow bucket). Recording never allocates,
+ * so leaving the profiler attached in game does not disturb what it measures.
+ * Enable it in game with -Dkutd.profileFrames=true; the report is printed every
+ * REPORT_INTERVAL_FRAMES frames.
+ */
+public class FrameProfiler {
+
+    public enum Layer {
+        TILES, TOWERS, ENEMIES, PROJECTILES, WEATHER, NIGHT, EFFECTS, UI, FRAME
+    }
+
+    public static final int REPORT_INTERVAL_FRAMES = 600;
+
+    private static final long BUCKET_NANOS = 10_000;
+    private static final int BUCKET_COUNT = 10_000;
+
+    private final int[][] histograms = new int[Layer.values().length][BUCKET_COUNT + 1];
+    private final long[] totalNanos = new long[Layer.values().length];
+    private final long[] maxNanos = new long[Layer.values().length];
+    private final long[] startNanos = new long[Layer.values().length];
+    private int frames = 0;
+
+    public void begin(Layer layer) {
+        startNanos[layer.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Layer layer) {
+        int index = layer.ordinal();
+        long elapsed = System.nanoTime() - startNanos[index];
+        int bucket = (int) Math.min(BUCKET_COUNT, elapsed / BUCKET_NANOS);
+        histograms[index][bucket]++;
+        totalNanos[index] += elapsed;
+        maxNanos[index] = Math.max(maxNanos[index], elapsed);
+    }
+
+    /**
+     * Marks the end of a frame
+     * @return true when a periodic report is due
+     */
+    public boolean endFrame() {
+        frames++;
+        return frames % REPORT_INTERVAL_FRAMES == 0;
+    }
+
+    public int getFrameCount() {
+        return frames;
+    }
+
+    public void reset() {
+        for (int i = 0; i < histograms.length; i++) {
+            Arrays.fill(histograms[i], 0);
+            totalNanos[i] = 0;
+            maxNanos[i] = 0;
+        }
+        frames = 0;
+    }
+
+    public double getMeanMillis(Layer layer) {
+        int samples = getSampleCount(layer);
+        return samples == 0 ? 0 : totalNanos[layer.ordinal()] / 1_000_000.0 / samples;
+    }
+
+    public double getMaxMillis(Layer layer) {
+        return maxNanos[layer.ordinal()] / 1_000_000.0;
+    }
+
+    /**
+     * @param percentile In (0, 100]
+     * @return Upper edge of the bucket holding the given percentile, in milliseconds
+     */
+    public double getPercentileMillis(Layer layer, double percentile) {
+        int[] histogram = histograms[layer.ordinal()];
+        int samples = getSampleCount(layer);
+        if (samples == 0) return 0;
+
+        long rank = (long) Math.ceil(samples * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) {
+                return bucket == BUCKET_COUNT ? getMaxMillis(layer) : (bucket + 1) * BUCKET_NANOS / 1_000_000.0;
+            }
+        }
+        return getMaxMillis(layer);
+    }
+
+    private int getSampleCount(Layer layer) {
+        int count = 0;
+        for (int bucketCount : histograms[layer.ordinal()]) count += bucketCount;
+        return count;
+    }
+
+    /**
+     * Prints mean, percentiles and max for every layer that was recorded
+     */
+    public void printReport(PrintStream out) {
+        out.println(String.format(Locale.ROOT, "Frame profile over %d frames (ms)", frames));
+        out.println(String.format(Locale.ROOT, "%-12s %8s %8s %8s %8s %8s %8s",
+                "Layer", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (Layer layer : Layer.values()) {
+            if (getSampleCount(layer) == 0) continue;
+            out.println(String.format(Locale.ROOT, "%-12s %8.3f %8.3f %8.3f %8.3f %8.3f %8.3f",
+                    layer, getMeanMillis(layer), getPercentileMillis(layer, 50), getPercentileMillis(layer, 90),
+                    getPercentileMillis(layer, 99), getPercentileMillis(layer, 99.9), getMaxMillis(layer)));
+        }
+    }
+
+    /**
+     * Prints the non-empty histogram buckets of a layer as a text bar chart
+     */
+    public void printHistogram(Layer layer, PrintStream out) {
+        int[] histogram = histograms[layer.ordinal()];
+        int peak = 0;
+        for (int bucketCount : histogram) peak = Math.max(peak, bucketCount);
+        if (peak == 0) return;
+
+        out.println(layer + " histogram:");
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            if (histogram[bucket] == 0) continue;
+            String label = bucket == BUCKET_COUNT
+                    ? String.format(Locale.ROOT, ">=%.2fms", BUCKET_COUNT * BUCKET_NANOS / 1_000_000.0)
+                    : String.format(Locale.ROOT, "%.2fms", (bucket + 1) * BUCKET_NANOS / 1_000_000.0);
+            int barLength = Math.max(1, histogram[bucket] * 50 / peak);
+            out.println(String.format(Locale.ROOT, "  %10s %6d %s", label, histogram[bucket], "#".repeat(barLength)));
+        }
+    }
+}
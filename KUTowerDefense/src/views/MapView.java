@@ -3,6 +3,7 @@ package views;
 import constants.GameDimensions;
 import static constants.Constants.PathPoints.*;
 import helpMethods.BorderImageRotationGenerator;
+import models.EditorRoadNetwork;
 import models.MapModel;
 import objects.Tile;
 import observers.MapChangeObserver;
@@ -86,6 +87,7 @@ public class MapView implements MapChangeObserver {
 
         // Draw dynamic elements
         drawSelectedTile(g);
+        drawPathStatus(g);
         drawPopupMessage(g);
     }
 
@@ -134,9 +136,9 @@ public class MapView implements MapChangeObserver {
      */
     private BufferedImage getTileImage(int tileId, int gateEdge) {
         if (tileId == -3) { // Wall
-            return BorderImageRotationGenerator.getInstance().getRotatedBorderImage(true, gateEdge);
+            return mapModel.getTileManager().getBorderSprite(true, gateEdge);
         } else if (tileId == -4) { // Gate
-            return BorderImageRotationGenerator.getInstance().getRotatedBorderImage(false, gateEdge);
+            return mapModel.getTileManager().getBorderSprite(false, gateEdge);
         } else {
             return mapModel.getTileManager().getSprite(tileId);
         }
@@ -227,6 +229,62 @@ public class MapView implements MapChangeObserver {
         }
     }
 
+    /**
+     * Draws the live path check in the bottom left corner, styled like the popup messages
+     */
+    private void drawPathStatus(Graphics g) {
+        EditorRoadNetwork.PathStatus status = mapModel.getPathStatus();
+        String text;
+        Color dotColor;
+        switch (status) {
+            case VALID:
+                text = "Path valid";
+                dotColor = new Color(76, 175, 80, 200);
+                break;
+            case NO_PATH:
+                text = "Path invalid: start and end are not connected";
+                dotColor = new Color(255, 99, 71, 200);
+                break;
+            default:
+                text = "Path invalid: place start and end points";
+                dotColor = new Color(255, 193, 7, 200);
+                break;
+        }
+
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        Font originalFont = g2d.getFont();
+        g2d.setFont(new Font(originalFont.getName(), Font.BOLD, 12));
+        FontMetrics fm = g2d.getFontMetrics();
+
+        int padding = 6;
+        int dotSize = 10;
+        int boxWidth = padding + dotSize + padding + fm.stringWidth(text) + padding;
+        int boxHeight = Math.max(fm.getHeight(), dotSize) + 2 * padding;
+        int x = 8;
+        int y = GameDimensions.GAME_HEIGHT - boxHeight - 8;
+
+        g2d.setColor(new Color(245, 240, 220, 180));
+        g2d.fillRoundRect(x, y, boxWidth, boxHeight, 8, 8);
+        Stroke originalStroke = g2d.getStroke();
+        g2d.setColor(new Color(139, 125, 82, 160));
+        g2d.setStroke(new BasicStroke(2.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g2d.drawRoundRect(x, y, boxWidth, boxHeight, 8, 8);
+        g2d.setStroke(originalStroke);
+
+        g2d.setColor(dotColor);
+        g2d.fillOval(x + padding, y + (boxHeight - dotSize) / 2, dotSize, dotSize);
+
+        g2d.setColor(new Color(76, 63, 47, 255));
+        g2d.drawString(text, x + padding + dotSize + padding, y + (boxHeight - fm.getHeight()) / 2 + fm.getAscent());
+
+        g2d.setFont(originalFont);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_DEFAULT);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT);
+    }
+
     /**
      * Enhanced popup message rendering
      */
@@ -16,8 +16,6 @@ import java.util.Observable;
 import java.util.Observer;
 
 import constants.GameDimensions;
-import helpMethods.BorderImageRotationGenerator;
-import managers.SnowTransitionManager;
 import models.PlayingModel;
 import objects.Tower;
 import objects.Warrior;
@@ -56,10 +54,18 @@ public class PlayingView implements Observer {
     // Tooltip for warrior information
     private ui_p.CostTooltip warriorTooltip;
 
+    // Cached static terrain, invalidated through the model's terrain observers
+    private final TerrainLayer terrainLayer = new TerrainLayer();
+
+    // Per-layer frame timings; null unless profiling was requested
+    private FrameProfiler frameProfiler;
+    private boolean printFrameReports = false;
+
     public PlayingView(PlayingModel model) {
         this.model = model;
         this.controller = null;
         this.model.addObserver(this);
+        this.model.addTerrainObserver(terrainLayer);
 
         // Initialize UI components that handle rendering
         initializeUIComponents();
@@ -68,6 +74,11 @@ public class PlayingView implements Observer {
         // Initialize warrior tooltip
         this.warriorTooltip = new ui_p.CostTooltip();
 
+        if (Boolean.getBoolean("kutd.profileFrames")) {
+            this.frameProfiler = new FrameProfiler();
+            this.printFrameReports = true;
+        }
+
         // Initialize game pane
         gamePane = new JPanel() {
             @Override
@@ -83,6 +94,7 @@ public class PlayingView implements Observer {
         this.model = model;
         this.controller = controller;
         this.model.addObserver(this);
+        this.model.addTerrainObserver(terrainLayer);
 
         // Initialize UI components that handle rendering
         initializeUIComponents();
@@ -91,6 +103,11 @@ public class PlayingView implements Observer {
         // Initialize warrior tooltip
         this.warriorTooltip = new ui_p.CostTooltip();
 
+        if (Boolean.getBoolean("kutd.profileFrames")) {
+            this.frameProfiler = new FrameProfiler();
+            this.printFrameReports = true;
+        }
+
         // Initialize game pane
         gamePane = new JPanel() {
             @Override
@@ -137,18 +154,33 @@ public class PlayingView implements Observer {
      * Main render method called by the controller
      */
     public void render(Graphics g) {
+        beginLayer(FrameProfiler.Layer.FRAME);
+
         // Apply ultimate manager shake effect if needed
         if (model.getUltiManager() != null) {
             model.getUltiManager().applyShakeIfNeeded(g);
         }
 
         // Draw the game world
+        beginLayer(FrameProfiler.Layer.TILES);
         drawTiles(g);
+        endLayer(FrameProfiler.Layer.TILES);
+
+        beginLayer(FrameProfiler.Layer.TOWERS);
         drawTowers(g);
+        endLayer(FrameProfiler.Layer.TOWERS);
+
+        beginLayer(FrameProfiler.Layer.ENEMIES);
         drawEnemies(g);
+        endLayer(FrameProfiler.Layer.ENEMIES);
+
+        beginLayer(FrameProfiler.Layer.PROJECTILES);
         drawProjectiles(g);
+        endLayer(FrameProfiler.Layer.PROJECTILES);
+
         drawEffects(g);
 
+        beginLayer(FrameProfiler.Layer.UI);
         // Draw stone mining effects (includes button and progress bar)
         if (model.getStoneMiningManager() != null) {
             model.getStoneMiningManager().draw((Graphics2D) g);
@@ -156,132 +188,45 @@ public class PlayingView implements Observer {
 
         // Draw UI elements
         drawUI(g);
+        endLayer(FrameProfiler.Layer.UI);
 
         // Reverse shake effect
         if (model.getUltiManager() != null) {
             model.getUltiManager().reverseShake(g);
         }
-    }
-
-    private void drawTiles(Graphics g) {
-        int[][] level = model.getLevel();
-        if (level == null) return;
-
-        // Fill background color
-        g.setColor(new Color(134, 177, 63, 255));
-        g.fillRect(0, 0, GameDimensions.GAME_WIDTH, GameDimensions.GAME_HEIGHT);
-
-        int rowCount = level.length;
-        int colCount = level[0].length;
 
-        // Check if we're in snow mode
-        boolean isSnowActive = model.getTileManager() != null &&
-                model.getTileManager().getSnowState() != SnowTransitionManager.SnowState.NORMAL;
-
-        // Detect which edge contains the gate (endpoint) for border rendering
-        int gateEdge = BorderImageRotationGenerator.getInstance().detectGateEdge(level);
-
-        if (isSnowActive) {
-            drawSnowLayeredMap(g, level, rowCount, colCount, gateEdge);
-        } else {
-            drawNormalMap(g, level, rowCount, colCount, gateEdge);
+        endLayer(FrameProfiler.Layer.FRAME);
+        if (frameProfiler != null && frameProfiler.endFrame() && printFrameReports) {
+            frameProfiler.printReport(System.out);
+            frameProfiler.reset();
         }
     }
 
-    /**
-     * Draws the map with proper snow layering
-     */
-    private void drawSnowLayeredMap(Graphics g, int[][] level, int rowCount, int colCount, int gateEdge) {
-        // LAYER 1: Draw snowy grass base across entire map
-        BufferedImage snowyGrassSprite = getSnowGrassSprite();
-        if (snowyGrassSprite != null) {
-            for (int i = 0; i < rowCount; i++) {
-                for (int j = 0; j < colCount; j++) {
-                    g.drawImage(snowyGrassSprite,
-                            j * GameDimensions.TILE_DISPLAY_SIZE,
-                            i * GameDimensions.TILE_DISPLAY_SIZE, null);
-                }
-            }
-        }
-
-        // LAYER 2: Draw all non-grass elements on top
-        for (int i = 0; i < rowCount; i++) {
-            for (int j = 0; j < colCount; j++) {
-                int tileId = level[i][j];
-
-                // Skip certain tower tiles (handled elsewhere)
-                if (tileId == 20 || tileId == 21 || tileId == 26) {
-                    continue;
-                }
-
-                // Handle special border tiles
-                if (tileId == -3 || tileId == -4) {
-                    drawBorderTile(g, tileId, j, i, gateEdge);
-                } else {
-                    BufferedImage tileSprite = model.getTileManager().getSprite(tileId);
-                    if (tileSprite != null) {
-                        g.drawImage(tileSprite,
-                                j * GameDimensions.TILE_DISPLAY_SIZE,
-                                i * GameDimensions.TILE_DISPLAY_SIZE, null);
-                    }
-                }
-            }
-        }
+    private void beginLayer(FrameProfiler.Layer layer) {
+        if (frameProfiler != null) frameProfiler.begin(layer);
     }
 
-    /**
-     * Draws the map normally (without snow effects)
-     */
-    private void drawNormalMap(Graphics g, int[][] level, int rowCount, int colCount, int gateEdge) {
-        for (int i = 0; i < rowCount; i++) {
-            for (int j = 0; j < colCount; j++) {
-                int tileId = level[i][j];
-
-                // Skip certain tower tiles (handled elsewhere)
-                if (tileId == 20 || tileId == 21 || tileId == 26) {
-                    continue;
-                }
-
-                // Handle special border tiles
-                if (tileId == -3 || tileId == -4) {
-                    drawBorderTile(g, tileId, j, i, gateEdge);
-                } else {
-                    BufferedImage tileSprite = model.getTileManager().getSprite(tileId);
-                    if (tileSprite != null) {
-                        g.drawImage(tileSprite,
-                                j * GameDimensions.TILE_DISPLAY_SIZE,
-                                i * GameDimensions.TILE_DISPLAY_SIZE, null);
-                    }
-                }
-            }
-        }
+    private void endLayer(FrameProfiler.Layer layer) {
+        if (frameProfiler != null) frameProfiler.end(layer);
     }
 
     /**
-     * Gets the appropriate snowy grass sprite
+     * Attaches a profiler that records how long each layer takes to draw
+     * @param frameProfiler The profiler, or null to stop profiling
      */
-    private BufferedImage getSnowGrassSprite() {
-        if (model.getTileManager() == null) return null;
-        return model.getTileManager().getSprite(5); // Grass tile ID
+    public void setFrameProfiler(FrameProfiler frameProfiler) {
+        this.frameProfiler = frameProfiler;
+        this.printFrameReports = false;
     }
 
-    /**
-     * Draws border tiles with proper rotation
-     */
-    private void drawBorderTile(Graphics g, int tileId, int j, int i, int gateEdge) {
-        BufferedImage img = null;
-        if (tileId == -3) { // Wall
-            img = BorderImageRotationGenerator.getInstance().getRotatedBorderImage(true, gateEdge);
-        } else if (tileId == -4) { // Gate
-            img = BorderImageRotationGenerator.getInstance().getRotatedBorderImage(false, gateEdge);
-        }
+    public FrameProfiler getFrameProfiler() { return frameProfiler; }
 
-        if (img != null) {
-            int x = j * GameDimensions.TILE_DISPLAY_SIZE;
-            int y = i * GameDimensions.TILE_DISPLAY_SIZE;
-            int ts = GameDimensions.TILE_DISPLAY_SIZE;
-            g.drawImage(img, x, y, ts, ts, null);
-        }
+    private void drawTiles(Graphics g) {
+        int[][] level = model.getLevel();
+        if (level == null) return;
+
+        // Static terrain is composed once and only dirty tiles are redrawn; see TerrainLayer
+        terrainLayer.draw(g, level, model.getTileManager());
     }
 
     private void drawEnemies(Graphics g) {
@@ -292,7 +237,7 @@ public class PlayingView implements Observer {
 
         // Draw enemies
         if (model.getEnemyManager() != null) {
-            model.getEnemyManager().draw(g, model.isGamePaused());
+            model.getEnemyManager().draw(g, model.isGamePaused(), model.getRenderInterpolation());
         }
     }
 
@@ -448,11 +393,18 @@ public class PlayingView implements Observer {
     }
 
     private void drawEffects(Graphics g) {
-        // Draw weather effects
+        // Draw weather effects; the night overlay is timed on its own since it covers the whole screen
         if (model.getWeatherManager() != null) {
-            model.getWeatherManager().draw(g);
+            beginLayer(FrameProfiler.Layer.WEATHER);
+            model.getWeatherManager().drawWeatherParticles(g);
+            endLayer(FrameProfiler.Layer.WEATHER);
+
+            beginLayer(FrameProfiler.Layer.NIGHT);
+            model.getWeatherManager().drawNight(g);
+            endLayer(FrameProfiler.Layer.NIGHT);
         }
 
+        beginLayer(FrameProfiler.Layer.EFFECTS);
         // Draw fire animations
         if (model.getFireAnimationManager() != null) {
             model.getFireAnimationManager().draw(g);
@@ -462,6 +414,7 @@ public class PlayingView implements Observer {
         if (model.getVictoryConfetti() != null) {
             model.getVictoryConfetti().draw(g);
         }
+        endLayer(FrameProfiler.Layer.EFFECTS);
     }
 
     private void drawUI(Graphics g) {
@@ -662,7 +615,7 @@ public class PlayingView implements Observer {
      * Helper method to get warrior sprite based on warrior type
      */
     private BufferedImage getWarriorSprite(Warrior warrior) {
-        // Get the first frame of the attack animation for preview
+        // First frame of the attack animation; the frames are cached in SpriteRegistry, so this is cheap per frame
         BufferedImage[] attackFrames = helpMethods.LoadSave.getWarriorAttackAnimation(warrior);
         if (attackFrames != null && attackFrames.length > 0) {
             return attackFrames[0]; // Return first frame for preview
@@ -1201,9 +1154,15 @@ public class PlayingView implements Observer {
             } else if (tile.equals("DEADTREE")) {
                 level[y][x] = 15;
             }
+            model.markTileDirty(x, y);
             System.out.println("Tile modified at (" + x + ", " + y + ") to: " + tile);
         }
 
+        @Override
+        public void markTileDirty(int tileX, int tileY) {
+            model.markTileDirty(tileX, tileY);
+        }
+
         @Override
         public void updateWaveStartTreeStates() {
             // Handle wave start tree state updates directly through model
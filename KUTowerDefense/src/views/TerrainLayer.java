@@ -0,0 +1,180 @@
+package views;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import constants.GameDimensions;
+import helpMethods.BorderImageRotationGenerator;
+import managers.SnowTransitionManager;
+import managers.TileManager;
+import observers.MapChangeType;
+import observers.TerrainChangeObserver;
+
+/**
+ * Pre-rendered static terrain for the Playing scene.
+ * The whole map is composed once per level and snow state into a single image;
+ * after that each frame is a single blit. Tiles reported through
+ * TerrainChangeObserver are redrawn individually, and any snow state change
+ * or level replacement triggers a full recomposition. Code that writes into the
+ * level in place must report the tile through PlayingModel.markTileDirty.
+ */
+public class TerrainLayer implements TerrainChangeObserver {
+    private static final Color BACKGROUND_COLOR = new Color(134, 177, 63, 255);
+    private static final int TILE_SIZE = GameDimensions.TILE_DISPLAY_SIZE;
+
+    private BufferedImage surface;
+    private int[][] cachedLevel;                 // Level array the surface was composed from
+    private SnowTransitionManager.SnowState cachedSnowState;
+    private boolean[][] dirtyTiles;
+    private boolean anyDirty = false;
+    private boolean fullRedraw = true;
+
+    @Override
+    public void onTerrainChanged(MapChangeType changeType, int x, int y) {
+        if (changeType == MapChangeType.FULL_MAP_CHANGED) {
+            invalidateAll();
+        } else {
+            invalidateTile(x, y);
+        }
+    }
+
+    public void invalidateAll() {
+        fullRedraw = true;
+    }
+
+    public void invalidateTile(int tileX, int tileY) {
+        if (dirtyTiles == null || tileY < 0 || tileY >= dirtyTiles.length
+                || tileX < 0 || tileX >= dirtyTiles[tileY].length) {
+            return;
+        }
+        dirtyTiles[tileY][tileX] = true;
+        anyDirty = true;
+    }
+
+    /**
+     * Brings the cached surface up to date and draws it at the origin
+     */
+    public void draw(Graphics g, int[][] level, TileManager tileManager) {
+        if (level == null || tileManager == null) return;
+
+        SnowTransitionManager.SnowState snowState = tileManager.getSnowState();
+        if (surface == null || level != cachedLevel || snowState != cachedSnowState) {
+            fullRedraw = true;
+        }
+
+        if (fullRedraw) {
+            composeAll(level, tileManager, snowState);
+        } else if (anyDirty) {
+            redrawDirtyTiles(level, tileManager, snowState);
+        }
+
+        g.drawImage(surface, 0, 0, null);
+    }
+
+    private void composeAll(int[][] level, TileManager tileManager, SnowTransitionManager.SnowState snowState) {
+        int rowCount = level.length;
+        int colCount = level[0].length;
+        int width = Math.max(GameDimensions.GAME_WIDTH, colCount * TILE_SIZE);
+        int height = Math.max(GameDimensions.GAME_HEIGHT, rowCount * TILE_SIZE);
+
+        if (surface == null || surface.getWidth() != width || surface.getHeight() != height) {
+            surface = createSurface(width, height);
+        }
+
+        Graphics2D g2d = surface.createGraphics();
+        g2d.setColor(BACKGROUND_COLOR);
+        g2d.fillRect(0, 0, width, height);
+
+        boolean isSnowActive = snowState != SnowTransitionManager.SnowState.NORMAL;
+        int gateEdge = BorderImageRotationGenerator.getInstance().detectGateEdge(level);
+
+        // LAYER 1: Snowy grass base across entire map
+        if (isSnowActive) {
+            BufferedImage snowyGrassSprite = tileManager.getSprite(5);
+            if (snowyGrassSprite != null) {
+                for (int i = 0; i < rowCount; i++) {
+                    for (int j = 0; j < colCount; j++) {
+                        g2d.drawImage(snowyGrassSprite, j * TILE_SIZE, i * TILE_SIZE, null);
+                    }
+                }
+            }
+        }
+
+        // LAYER 2: All tile sprites on top
+        for (int i = 0; i < rowCount; i++) {
+            for (int j = 0; j < colCount; j++) {
+                drawTileSprite(g2d, level[i][j], j, i, gateEdge, tileManager);
+            }
+        }
+        g2d.dispose();
+
+        cachedLevel = level;
+        cachedSnowState = snowState;
+        dirtyTiles = new boolean[rowCount][colCount];
+        anyDirty = false;
+        fullRedraw = false;
+    }
+
+    private void redrawDirtyTiles(int[][] level, TileManager tileManager, SnowTransitionManager.SnowState snowState) {
+        boolean isSnowActive = snowState != SnowTransitionManager.SnowState.NORMAL;
+        int gateEdge = BorderImageRotationGenerator.getInstance().detectGateEdge(level);
+        BufferedImage snowyGrassSprite = isSnowActive ? tileManager.getSprite(5) : null;
+
+        Graphics2D g2d = surface.createGraphics();
+        for (int i = 0; i < level.length; i++) {
+            for (int j = 0; j < level[i].length; j++) {
+                if (!dirtyTiles[i][j]) continue;
+
+                int x = j * TILE_SIZE;
+                int y = i * TILE_SIZE;
+                g2d.setClip(x, y, TILE_SIZE, TILE_SIZE);
+                g2d.setColor(BACKGROUND_COLOR);
+                g2d.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+                if (snowyGrassSprite != null) {
+                    g2d.drawImage(snowyGrassSprite, x, y, null);
+                }
+                drawTileSprite(g2d, level[i][j], j, i, gateEdge, tileManager);
+
+                dirtyTiles[i][j] = false;
+            }
+        }
+        g2d.dispose();
+        anyDirty = false;
+    }
+
+    private void drawTileSprite(Graphics2D g2d, int tileId, int j, int i, int gateEdge, TileManager tileManager) {
+        // Skip certain tower tiles (handled elsewhere)
+        if (tileId == 20 || tileId == 21 || tileId == 26) {
+            return;
+        }
+
+        // Handle special border tiles
+        if (tileId == -3 || tileId == -4) {
+            BufferedImage img = tileManager.getBorderSprite(tileId == -3, gateEdge);
+            if (img != null) {
+                g2d.drawImage(img, j * TILE_SIZE, i * TILE_SIZE, null);
+            }
+            return;
+        }
+
+        BufferedImage tileSprite = tileManager.getSprite(tileId);
+        if (tileSprite != null) {
+            g2d.drawImage(tileSprite, j * TILE_SIZE, i * TILE_SIZE, null);
+        }
+    }
+
+    private BufferedImage createSurface(int width, int height) {
+        // Prefer a screen-compatible opaque image so the per-frame blit stays on the fast path
+        if (!GraphicsEnvironment.isHeadless()) {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice()
+                    .getDefaultConfiguration()
+                    .createCompatibleImage(width, height, Transparency.OPAQUE);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+}